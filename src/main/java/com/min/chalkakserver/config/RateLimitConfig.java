@@ -104,6 +104,33 @@ public class RateLimitConfig {
                 .build();
     }
 
+    /**
+     * 내보내기 API용 버킷 (전체 테이블 스트리밍 - 요청마다 DB 커넥션을 오래 점유)
+     * - 분당 2개 요청만 허용
+     * - 시간당 10개 요청만 허용
+     */
+    public Bucket resolveExportBucket(String ipAddress) {
+        String key = "export_" + ipAddress;
+        return buckets.computeIfAbsent(key, k -> createExportBucket());
+    }
+
+    private Bucket createExportBucket() {
+        Bandwidth perMinuteLimit = Bandwidth.classic(
+                2,
+                Refill.greedy(2, Duration.ofMinutes(1))
+        );
+
+        Bandwidth perHourLimit = Bandwidth.classic(
+                10,
+                Refill.greedy(10, Duration.ofHours(1))
+        );
+
+        return Bucket.builder()
+                .addLimit(perMinuteLimit)
+                .addLimit(perHourLimit)
+                .build();
+    }
+
     /**
      * 버킷 캐시 정리 (메모리 관리)
      * 주기적으로 호출하여 오래된 버킷 제거
@@ -78,8 +78,9 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.POST, "/api/photo-booths/report").permitAll()
                 // 헬스체크 허용
                 .requestMatchers("/api/health").permitAll()
-                // 캐시 관리는 ADMIN만
+                // 캐시 관리와 운영 지표(JVM/HTTP/커넥션 풀/캐시)는 ADMIN만
                 .requestMatchers("/api/cache/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasRole("ADMIN")
                 // 관리자 API는 ADMIN만
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 // 나머지 API는 인증 필요
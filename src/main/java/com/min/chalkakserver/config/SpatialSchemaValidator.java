@@ -0,0 +1,75 @@
+package com.min.chalkakserver.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 근처 검색용 공간 컬럼 확인
+ *
+ * photo_booths.location(SRID 4326 POINT)과 공간 인덱스는 db/migration/V2__add_spatial_indexes.sql로만 만들어지고,
+ * 엔티티에는 매핑하지 않으므로 ddl-auto: update로는 생기지 않는다. 컬럼이 없으면 근처 검색 쿼리가 요청마다
+ * 실패하므로, MySQL에서는 기동 시 컬럼을 확인해 없으면 바로 기동을 멈춘다. (공간 인덱스만 없으면 경고만 남긴다)
+ * Hibernate 스키마 생성이 끝난 뒤 확인하도록 entityManagerFactory 다음에 초기화한다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class SpatialSchemaValidator {
+
+    static final String TABLE = "photo_booths";
+    static final String COLUMN = "location";
+    static final String SPATIAL_INDEX = "idx_spatial_location";
+
+    private final DataSource dataSource;
+
+    public SpatialSchemaValidator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    protected void validate() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            if (!"MySQL".equalsIgnoreCase(metaData.getDatabaseProductName())) {
+                log.debug("공간 컬럼 확인 건너뜀 - DB: {}", metaData.getDatabaseProductName());
+                return;
+            }
+
+            if (!hasColumn(metaData, connection.getCatalog())) {
+                throw new IllegalStateException(
+                    TABLE + "." + COLUMN + " 컬럼이 없습니다. " +
+                    "db/migration/V2__add_spatial_indexes.sql을 적용한 뒤 다시 시작해주세요."
+                );
+            }
+            if (!hasSpatialIndex(metaData, connection.getCatalog())) {
+                log.warn("{} 공간 인덱스가 없습니다 - 근처 검색이 전체 스캔으로 동작합니다. " +
+                        "db/migration/V2__add_spatial_indexes.sql을 확인해주세요.", SPATIAL_INDEX);
+            }
+        }
+    }
+
+    private boolean hasColumn(DatabaseMetaData metaData, String catalog) throws SQLException {
+        try (ResultSet columns = metaData.getColumns(catalog, null, TABLE, COLUMN)) {
+            return columns.next();
+        }
+    }
+
+    private boolean hasSpatialIndex(DatabaseMetaData metaData, String catalog) throws SQLException {
+        try (ResultSet indexes = metaData.getIndexInfo(catalog, null, TABLE, false, true)) {
+            while (indexes.next()) {
+                if (SPATIAL_INDEX.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
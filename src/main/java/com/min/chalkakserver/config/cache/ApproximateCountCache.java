@@ -0,0 +1,54 @@
+package com.min.chalkakserver.config.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Slice 페이지네이션 응답의 근사 전체 개수 캐시
+ *
+ * 무한 스크롤 화면은 정확한 전체 개수가 필요 없으므로, COUNT 쿼리 결과를 키별로 {@link #TTL} 동안 재사용한다.
+ * 사용자별 키(알림 등)가 쌓일 수 있으므로 {@link #MAX_ENTRIES}개를 넘으면 만료된 항목을 정리하고, 그래도 가득 차 있으면 저장하지 않는다.
+ */
+@Component
+public class ApproximateCountCache {
+
+    static final Duration TTL = Duration.ofMinutes(5);
+    static final int MAX_ENTRIES = 1024;
+
+    private final Map<String, Entry> counts = new ConcurrentHashMap<>();
+
+    /**
+     * 키의 근사 개수 - 없거나 만료되었으면 counter로 다시 센다.
+     */
+    public long get(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        Entry cached = counts.get(key);
+        if (cached != null && !cached.isExpired(now)) {
+            return cached.count();
+        }
+
+        long count = counter.getAsLong();
+        if (counts.size() >= MAX_ENTRIES && !counts.containsKey(key)) {
+            counts.values().removeIf(entry -> entry.isExpired(now));
+        }
+        if (counts.size() < MAX_ENTRIES || counts.containsKey(key)) {
+            counts.put(key, new Entry(count, now));
+        }
+        return count;
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+
+    private record Entry(long count, long countedAt) {
+
+        boolean isExpired(long now) {
+            return now - countedAt >= TTL.toMillis();
+        }
+    }
+}
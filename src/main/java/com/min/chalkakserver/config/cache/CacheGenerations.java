@@ -0,0 +1,93 @@
+package com.min.chalkakserver.config.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 이름별 세대 번호 - Redis 캐시 키 접두사에 넣어 캐시 비우기를 INCR 한 번으로 끝낸다.
+ *
+ * 키는 {@code 캐시 이름::v세대::키} 형식이고, 캐시를 비우면 세대만 올려 이후 조회/저장이 새 접두사를 쓴다.
+ * 이전 세대 항목은 지우지 않고 캐시 TTL로 만료되게 두므로, 키 공간 크기와 관계없이 Redis를 막지 않는다.
+ * 세대 번호는 노드마다 로컬에 두고, 다른 노드가 세대를 올리면 {@link #GENERATION_CHANNEL}로 알림을 받아 다시 읽는다.
+ * 알림을 놓쳐도 {@link #REFRESH_INTERVAL}마다 Redis에서 다시 읽는다.
+ */
+@Slf4j
+public class CacheGenerations {
+
+    public static final String GENERATION_CHANNEL = "cache:generation";
+
+    static final String KEY_PREFIX = "cache:generation:";
+    static final Duration REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, Generation> generations = new ConcurrentHashMap<>();
+
+    public CacheGenerations(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Redis 키 접두사 - RedisCacheConfiguration.computePrefixWith에 넘기면 키마다 호출된다.
+     */
+    public String prefix(String cacheName) {
+        return cacheName + "::v" + current(cacheName) + "::";
+    }
+
+    public long current(String cacheName) {
+        Generation generation = generations.get(cacheName);
+        if (generation == null || generation.isStale()) {
+            generation = load(cacheName, generation);
+        }
+        return generation.value();
+    }
+
+    /**
+     * 세대를 올려 캐시를 비운 것과 같게 만들고 다른 노드에 알린다.
+     */
+    public long advance(String cacheName) {
+        Long value = redisTemplate.opsForValue().increment(KEY_PREFIX + cacheName);
+        long advanced = value != null ? value : current(cacheName) + 1;
+        generations.put(cacheName, new Generation(advanced, System.nanoTime()));
+        try {
+            redisTemplate.convertAndSend(GENERATION_CHANNEL, cacheName);
+        } catch (Exception e) {
+            // 다른 노드는 REFRESH_INTERVAL 안에 새 세대를 읽는다
+            log.warn("캐시 세대 변경 알림 실패 - 캐시: {}: {}", cacheName, e.getMessage());
+        }
+        log.info("캐시 세대 변경 - 캐시: {}, 세대: {}", cacheName, advanced);
+        return advanced;
+    }
+
+    /**
+     * 다른 노드의 세대 변경 알림 수신 - 다음 조회 때 Redis에서 다시 읽는다.
+     */
+    public void onGenerationChanged(String cacheName) {
+        generations.remove(cacheName);
+    }
+
+    private Generation load(String cacheName, Generation previous) {
+        long value;
+        try {
+            String stored = redisTemplate.opsForValue().get(KEY_PREFIX + cacheName);
+            value = stored != null ? Long.parseLong(stored) : 0L;
+        } catch (Exception e) {
+            // Redis를 읽지 못하면 알고 있던 세대를 계속 쓴다
+            log.warn("캐시 세대 조회 실패 - 캐시: {}: {}", cacheName, e.getMessage());
+            value = previous != null ? previous.value() : 0L;
+        }
+        Generation generation = new Generation(value, System.nanoTime());
+        generations.put(cacheName, generation);
+        return generation;
+    }
+
+    private record Generation(long value, long loadedAt) {
+
+        boolean isStale() {
+            return System.nanoTime() - loadedAt > REFRESH_INTERVAL.toNanos();
+        }
+    }
+}
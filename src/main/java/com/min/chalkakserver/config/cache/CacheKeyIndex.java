@@ -0,0 +1,97 @@
+package com.min.chalkakserver.config.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 캐시별로 저장된 키 목록을 Redis ZSET(키 → 저장 시각)으로 들고 있는 색인
+ *
+ * 부분 무효화가 캐시된 키를 알아야 할 때 키 공간 전체를 SCAN하지 않고 이 색인만 읽는다.
+ * 색인은 캐시 세대마다 따로 두므로({@code cache:keys:캐시 이름::v세대::}) 캐시를 비우면 이전 색인은 함께 버려진다.
+ * 키는 저장 후 {@link #retentions} 동안 남는다 - L2 TTL + L1 TTL로 두어, L2 항목이 만료된 뒤에도
+ * 어떤 노드의 L1에 남아 있을 수 있는 키까지 무효화 대상에 들어가게 한다. 그보다 오래된 키는 읽을 때 정리한다.
+ */
+@Slf4j
+public class CacheKeyIndex {
+
+    static final String KEY_PREFIX = "cache:keys:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheGenerations generations;
+    // 캐시 이름 → 키를 색인에 남겨 둘 시간, 여기 없는 캐시는 색인하지 않는다
+    private final Map<String, Duration> retentions;
+
+    public CacheKeyIndex(StringRedisTemplate redisTemplate, CacheGenerations generations,
+                         Map<String, Duration> retentions) {
+        this.redisTemplate = redisTemplate;
+        this.generations = generations;
+        this.retentions = Map.copyOf(retentions);
+    }
+
+    public boolean tracks(String cacheName) {
+        return retentions.containsKey(cacheName);
+    }
+
+    /**
+     * 저장된 키를 색인에 넣는다 - 색인하지 않는 캐시면 아무것도 하지 않는다.
+     */
+    public void add(String cacheName, Object key) {
+        Duration retention = retentions.get(cacheName);
+        if (retention == null) {
+            return;
+        }
+        String indexKey = indexKey(cacheName);
+        try {
+            redisTemplate.opsForZSet().add(indexKey, String.valueOf(key), System.currentTimeMillis());
+            redisTemplate.expire(indexKey, retention);
+        } catch (Exception e) {
+            // 색인에서 빠진 키는 무효화되지 않고 TTL로 만료된다
+            log.warn("캐시 키 색인 실패 - 캐시: {}, 키: {}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 아직 어딘가에 캐시돼 있을 수 있는 키 목록 - 색인하지 않는 캐시거나 읽지 못하면 null
+     */
+    public List<String> keys(String cacheName) {
+        Duration retention = retentions.get(cacheName);
+        if (retention == null) {
+            return null;
+        }
+        String indexKey = indexKey(cacheName);
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(indexKey, 0, System.currentTimeMillis() - retention.toMillis());
+            Set<String> keys = redisTemplate.opsForZSet().range(indexKey, 0, -1);
+            return keys != null ? new ArrayList<>(keys) : List.of();
+        } catch (Exception e) {
+            log.warn("캐시 키 색인 조회 실패 - 캐시: {}: {}", cacheName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 삭제한 키를 색인에서 뺀다.
+     */
+    public void remove(String cacheName, Collection<String> keys) {
+        if (keys.isEmpty() || !tracks(cacheName)) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().remove(indexKey(cacheName), keys.toArray());
+        } catch (Exception e) {
+            // 남은 키는 다음 무효화 때 한 번 더 지워질 뿐이다
+            log.warn("캐시 키 색인 정리 실패 - 캐시: {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    private String indexKey(String cacheName) {
+        return KEY_PREFIX + generations.prefix(cacheName);
+    }
+}
@@ -0,0 +1,107 @@
+package com.min.chalkakserver.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시별 Micrometer 지표 - 적중/실패, 저장, 삭제, 적재 시간 히스토그램, 저장 값 크기
+ * 모든 지표에 {@code cache} 태그로 캐시 이름을 붙이며, actuator {@code /actuator/metrics/cache.gets} 등으로 조회한다.
+ */
+public class CacheMetrics {
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter puts;
+    private final Counter evictions;
+    private final Counter clears;
+    private final Timer loads;
+    private final DistributionSummary payloadSize;
+
+    public CacheMetrics(String cacheName, MeterRegistry registry) {
+        this.hits = Counter.builder("cache.gets").tag("cache", cacheName).tag("result", "hit")
+                .description("캐시 조회 적중 수").register(registry);
+        this.misses = Counter.builder("cache.gets").tag("cache", cacheName).tag("result", "miss")
+                .description("캐시 조회 실패 수").register(registry);
+        this.puts = Counter.builder("cache.puts").tag("cache", cacheName)
+                .description("캐시 저장 수").register(registry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", cacheName)
+                .description("키 단위 캐시 삭제 수").register(registry);
+        this.clears = Counter.builder("cache.clears").tag("cache", cacheName)
+                .description("캐시 전체 비우기 수").register(registry);
+        this.loads = Timer.builder("cache.load.duration").tag("cache", cacheName)
+                .description("캐시 실패 후 값을 적재하는 데 걸린 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.payloadSize = DistributionSummary.builder("cache.payload.size").tag("cache", cacheName)
+                .description("직렬화한 캐시 값 크기 (표본)")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordLoad(long nanos) {
+        loads.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordPut() {
+        puts.increment();
+    }
+
+    void recordPayloadSize(long bytes) {
+        payloadSize.record(bytes);
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    void recordClear() {
+        clears.increment();
+    }
+
+    public long hits() {
+        return (long) hits.count();
+    }
+
+    public long misses() {
+        return (long) misses.count();
+    }
+
+    public long loads() {
+        return loads.count();
+    }
+
+    public long evictions() {
+        return (long) evictions.count();
+    }
+
+    public Map<String, Object> snapshot() {
+        long hitCount = hits();
+        long missCount = misses();
+        long loadCount = loads();
+        long requests = hitCount + missCount;
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("hits", hitCount);
+        snapshot.put("misses", missCount);
+        snapshot.put("hitRatio", requests == 0 ? 0.0 : Math.round(hitCount * 1000.0 / requests) / 1000.0);
+        snapshot.put("loads", loadCount);
+        snapshot.put("averageLoadMillis", Math.round(loads.mean(TimeUnit.MILLISECONDS) * 100) / 100.0);
+        snapshot.put("evictions", evictions());
+        snapshot.put("clears", (long) clears.count());
+        return snapshot;
+    }
+}
@@ -0,0 +1,116 @@
+package com.min.chalkakserver.config.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import com.min.chalkakserver.index.ReviewChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * 커밋된 사진관/리뷰 변경을 Redis pub/sub으로 다른 노드에 전달한다.
+ *
+ * 인메모리 인덱스, 인기 순위, 카탈로그 스냅샷, 미리 렌더링한 응답은 노드마다 따로 있으므로 변경한 노드만 갱신하면
+ * 다른 노드는 다음 정기 재적재(매시 15분)까지 이전 상태로 응답한다. 커밋 후 변경 내용을 그대로 보내고,
+ * 받은 노드는 원격 이벤트({@link PhotoBoothChangedEvent#remote}, {@link ReviewChangedEvent#remote})로 다시 발행해
+ * 노드 로컬 상태만 갱신한다. Redis 캐시와 DB(tombstone)처럼 공유된 상태는 변경한 노드가 이미 반영했으므로 원격 이벤트를 무시한다.
+ * pub/sub은 전달을 보장하지 않으므로, 메시지를 놓친 노드는 정기 재적재로 맞춰진다.
+ * 메시지는 JSON이며, 자기 노드가 보낸 메시지는 무시한다.
+ */
+@Slf4j
+public class CatalogEventRelay {
+
+    public static final String PHOTO_BOOTH_CHANNEL = "catalog:photo-booth";
+    public static final String REVIEW_CHANNEL = "catalog:review";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CatalogEventRelay(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                             ApplicationEventPublisher eventPublisher) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // 공유 캐시 무효화(PhotoBoothCacheInvalidator)가 끝난 뒤에 보내야 받은 노드가 새 값을 읽는다
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onPhotoBoothChanged(PhotoBoothChangedEvent event) {
+        if (!event.isRemote()) {
+            send(PHOTO_BOOTH_CHANNEL, event.getPhotoBoothId(),
+                    new PhotoBoothChange(nodeId, event.getPhotoBoothId(), event.getBefore(), event.getAfter()));
+        }
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (!event.isRemote()) {
+            send(REVIEW_CHANNEL, event.getPhotoBoothId(),
+                    new ReviewChange(nodeId, event.getPhotoBoothId(), event.getBeforeRating(), event.getAfterRating()));
+        }
+    }
+
+    /**
+     * 다른 노드가 보낸 사진관 변경 수신
+     */
+    public void onPhotoBoothMessage(String message) {
+        PhotoBoothChange change = read(message, PhotoBoothChange.class);
+        if (change != null && !nodeId.equals(change.nodeId())) {
+            eventPublisher.publishEvent(PhotoBoothChangedEvent.remote(change.photoBoothId(), change.before(), change.after()));
+            log.debug("다른 노드의 사진관 변경 반영 - ID: {}", change.photoBoothId());
+        }
+    }
+
+    /**
+     * 다른 노드가 보낸 리뷰 변경 수신
+     */
+    public void onReviewMessage(String message) {
+        ReviewChange change = read(message, ReviewChange.class);
+        if (change != null && !nodeId.equals(change.nodeId())) {
+            eventPublisher.publishEvent(ReviewChangedEvent.remote(
+                    change.photoBoothId(), change.beforeRating(), change.afterRating()));
+            log.debug("다른 노드의 리뷰 변경 반영 - 사진관 ID: {}", change.photoBoothId());
+        }
+    }
+
+    private void send(String channel, Long photoBoothId, Object change) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(change));
+        } catch (Exception e) {
+            // 다른 노드는 다음 정기 재적재 때 맞춰진다
+            log.warn("변경 전달 실패 - 채널: {}, 사진관 ID: {}: {}", channel, photoBoothId, e.getMessage());
+        }
+    }
+
+    private <T> T read(String message, Class<T> type) {
+        try {
+            return objectMapper.readValue(message, type);
+        } catch (Exception e) {
+            log.warn("변경 메시지를 읽을 수 없습니다 - {}: {}", type.getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 노드 사이에 주고받는 사진관 변경 - before/after는 {@link PhotoBoothChangedEvent}와 같다.
+     */
+    public record PhotoBoothChange(String nodeId, Long photoBoothId,
+                                   PhotoBoothResponseDto before, PhotoBoothResponseDto after) {
+    }
+
+    /**
+     * 노드 사이에 주고받는 리뷰 변경 - 평점은 {@link ReviewChangedEvent}와 같다.
+     */
+    public record ReviewChange(String nodeId, Long photoBoothId, Integer beforeRating, Integer afterRating) {
+    }
+}
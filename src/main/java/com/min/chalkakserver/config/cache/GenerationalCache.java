@@ -0,0 +1,95 @@
+package com.min.chalkakserver.config.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 비우기를 {@link CacheGenerations} 세대 증가로 바꾸는 Redis 캐시 데코레이터
+ *
+ * RedisCache.clear()는 접두사 패턴으로 키를 찾아 지우므로 키가 많을수록 Redis를 오래 붙잡는다.
+ * 키 접두사에 세대가 들어 있으므로 세대만 올리면 이전 항목은 더 이상 읽히지 않고 TTL로 사라진다.
+ * 부분 무효화 대상 캐시는 저장한 키를 {@link CacheKeyIndex}에 함께 남긴다.
+ */
+public class GenerationalCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheGenerations generations;
+    // null이면 키를 색인하지 않는다
+    private final CacheKeyIndex keyIndex;
+
+    public GenerationalCache(Cache delegate, CacheGenerations generations) {
+        this(delegate, generations, null);
+    }
+
+    public GenerationalCache(Cache delegate, CacheGenerations generations, CacheKeyIndex keyIndex) {
+        this.delegate = delegate;
+        this.generations = generations;
+        this.keyIndex = keyIndex;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        indexKey(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        indexKey(key);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        generations.advance(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        generations.advance(getName());
+        return true;
+    }
+
+    private void indexKey(Object key) {
+        if (keyIndex != null) {
+            keyIndex.add(getName(), key);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.min.chalkakserver.config.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToLongFunction;
+
+/**
+ * 조회 결과로 적중/실패를 세고, 적재 시간과 저장 값 크기를 재는 캐시 데코레이터
+ *
+ * sync=false인 @Cacheable은 get(key) 실패 → 메서드 실행 → put(key) 순서로 같은 스레드에서 호출되므로,
+ * 실패 직후 같은 캐시·같은 키의 put이 바로 이어질 때만 그 사이(메서드 실행)를 적재 시간으로 기록한다.
+ * 결과가 unless로 저장되지 않았거나 메서드가 예외를 던지면 put이 오지 않으므로, 대기 중인 적재는
+ * 이 스레드의 다음 캐시 연산에서 버려진다 - 나중에 우연히 같은 키를 put해도 적재 시간으로 잡히지 않는다.
+ * sync=true는 valueLoader 실행 시간을 잰다.
+ * 값 크기는 한 번 더 직렬화해야 하므로 저장 {@link #PAYLOAD_SAMPLE_RATE}건 중 한 건만 잰다.
+ */
+public class InstrumentedCache implements Cache {
+
+    static final int PAYLOAD_SAMPLE_RATE = 10;
+
+    private final Cache delegate;
+    private final CacheMetrics metrics;
+    // 값 → 직렬화 크기(바이트), null이면 재지 않는다
+    private final ToLongFunction<Object> payloadSizer;
+    // 모든 캐시가 공유한다 - 다른 캐시의 연산도 대기 중인 적재를 끝낸다
+    private static final ThreadLocal<PendingLoad> PENDING_LOAD = new ThreadLocal<>();
+
+    public InstrumentedCache(Cache delegate, CacheMetrics metrics, ToLongFunction<Object> payloadSizer) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.payloadSizer = payloadSizer;
+    }
+
+    public CacheMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        takePendingLoad();
+        ValueWrapper wrapper = delegate.get(key);
+        record(key, wrapper != null);
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        takePendingLoad();
+        T value = delegate.get(key, type);
+        record(key, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        takePendingLoad();
+        boolean[] loaded = new boolean[1];
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            long startedAt = System.nanoTime();
+            try {
+                return valueLoader.call();
+            } finally {
+                metrics.recordLoad(System.nanoTime() - startedAt);
+            }
+        });
+        if (loaded[0]) {
+            metrics.recordMiss();
+        } else {
+            metrics.recordHit();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        PendingLoad pending = takePendingLoad();
+        if (pending != null && pending.cache() == this && Objects.equals(pending.key(), key)) {
+            metrics.recordLoad(System.nanoTime() - pending.startedAt());
+        }
+        delegate.put(key, value);
+        metrics.recordPut();
+        recordPayloadSize(value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        takePendingLoad();
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            metrics.recordPut();
+            recordPayloadSize(value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        takePendingLoad();
+        delegate.evict(key);
+        metrics.recordEviction();
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        takePendingLoad();
+        boolean evicted = delegate.evictIfPresent(key);
+        if (evicted) {
+            metrics.recordEviction();
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        takePendingLoad();
+        delegate.clear();
+        metrics.recordClear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        takePendingLoad();
+        boolean invalidated = delegate.invalidate();
+        metrics.recordClear();
+        return invalidated;
+    }
+
+    private void recordPayloadSize(Object value) {
+        if (payloadSizer == null || value == null || ThreadLocalRandom.current().nextInt(PAYLOAD_SAMPLE_RATE) != 0) {
+            return;
+        }
+        try {
+            metrics.recordPayloadSize(payloadSizer.applyAsLong(value));
+        } catch (RuntimeException e) {
+            // 크기를 재지 못해도 캐시 동작에는 영향이 없다
+        }
+    }
+
+    private void record(Object key, boolean hit) {
+        if (hit) {
+            metrics.recordHit();
+            return;
+        }
+        metrics.recordMiss();
+        PENDING_LOAD.set(new PendingLoad(this, key, System.nanoTime()));
+    }
+
+    /**
+     * 대기 중인 적재를 꺼내고 지운다 - 일치하지 않는 연산이 오면 그대로 버려진다
+     */
+    private static PendingLoad takePendingLoad() {
+        PendingLoad pending = PENDING_LOAD.get();
+        if (pending != null) {
+            PENDING_LOAD.remove();
+        }
+        return pending;
+    }
+
+    private record PendingLoad(InstrumentedCache cache, Object key, long startedAt) {
+    }
+}
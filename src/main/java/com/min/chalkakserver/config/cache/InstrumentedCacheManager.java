@@ -0,0 +1,56 @@
+package com.min.chalkakserver.config.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 모든 캐시를 {@link InstrumentedCache}로 감싸 캐시별 지표를 Micrometer에 기록한다.
+ * 통계 API는 Redis를 건드리지 않고 이 지표를 읽는다.
+ */
+public class InstrumentedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final MeterRegistry meterRegistry;
+    private final ToLongFunction<Object> payloadSizer;
+    private final Map<String, InstrumentedCache> caches = new ConcurrentHashMap<>();
+
+    public InstrumentedCacheManager(CacheManager delegate, MeterRegistry meterRegistry,
+                                    ToLongFunction<Object> payloadSizer) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.payloadSizer = payloadSizer;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        InstrumentedCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name,
+                n -> new InstrumentedCache(target, new CacheMetrics(n, meterRegistry), payloadSizer));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * 캐시 카운터 - 아직 한 번도 쓰지 않은 캐시면 null
+     */
+    public CacheMetrics getMetrics(String name) {
+        InstrumentedCache cache = caches.get(name);
+        return cache != null ? cache.getMetrics() : null;
+    }
+}
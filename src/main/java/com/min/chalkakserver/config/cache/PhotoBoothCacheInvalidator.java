@@ -0,0 +1,152 @@
+package com.min.chalkakserver.config.cache;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * 사진관 변경 시 영향을 받는 캐시 항목만 비운다.
+ *
+ * 브랜드/시리즈/검색 캐시는 "값을 포함하는(대소문자 무시) 사진관 목록"이므로, 캐시된 키마다
+ * 변경 전 또는 변경 후 사진관이 그 결과에 들어가는지 확인해 들어가는 키만 지운다. 관계없는 키는 그대로 남는다.
+ * 키 목록은 로컬 캐시면 맵에서, Redis 캐시면 {@link CacheKeyIndex}에서 읽는다 (키 공간 SCAN 없음).
+ * 색인은 L1 TTL만큼 더 키를 남기므로 L2에서 만료됐지만 노드의 L1에 남은 항목도 지운다. 키를 읽을 수 없으면 그 캐시만 전체 비운다.
+ * 전체 목록(photoBooths)은 항목이 하나라 비우고, 개별 캐시(photoBooth)는 해당 ID만, 지도 타일은 {@link PhotoBoothTileCache}가 맡는다.
+ *
+ * 무효화는 커밋 후에 한다 - 커밋 전에 지우면 그 사이 다른 요청이 아직 커밋되지 않은 이전 값을 다시 캐시한다.
+ * 변경한 트랜잭션 안에서 바로 다시 읽는 경우를 위해 전체 목록과 해당 사진관 항목만 변경 시점에 한 번 더 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PhotoBoothCacheInvalidator {
+
+    // 캐시 이름 → (캐시 키, 사진관) 이 사진관이 이 키의 결과에 들어가는지
+    private static final Map<String, BiPredicate<String, PhotoBoothResponseDto>> KEYED_CACHES = Map.of(
+            "brandPhotoBooths", (brand, photoBooth) -> containsIgnoreCase(photoBooth.getBrand(), brand),
+            "seriesPhotoBooths", (series, photoBooth) -> containsIgnoreCase(photoBooth.getSeries(), series),
+            "brandSeriesPhotoBooths", PhotoBoothCacheInvalidator::matchesBrandAndSeries,
+            "searchResults", (keyword, photoBooth) -> containsIgnoreCase(photoBooth.getName(), keyword)
+                    || containsIgnoreCase(photoBooth.getAddress(), keyword)
+    );
+
+    private final CacheManager cacheManager;
+    private final ObjectProvider<CacheKeyIndex> cacheKeyIndexProvider;
+
+    /**
+     * 변경 시점(커밋 전) - 같은 트랜잭션의 이후 조회가 바뀐 목록을 보도록 키 하나짜리 항목만 지운다.
+     */
+    @EventListener
+    public void evictDirectEntries(PhotoBoothChangedEvent event) {
+        // 다른 노드의 변경은 그 노드가 이미 공유 캐시를 비웠다
+        if (event.isRemote()) {
+            return;
+        }
+        clear("photoBooths");
+        evict("photoBooth", event.getPhotoBoothId());
+    }
+
+    /**
+     * 커밋 후 - 커밋 전 무효화와 커밋 사이에 다시 캐시된 이전 값까지 모두 지운다.
+     * 미리 렌더링한 응답과 다른 노드가 이 캐시를 다시 읽으므로 다른 커밋 후 처리보다 먼저 실행한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPhotoBoothChanged(PhotoBoothChangedEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        clear("photoBooths");
+        evict("photoBooth", event.getPhotoBoothId());
+        KEYED_CACHES.forEach((cacheName, matcher) -> evictMatching(cacheName, matcher, event));
+    }
+
+    private void evictMatching(String cacheName, BiPredicate<String, PhotoBoothResponseDto> matcher,
+                               PhotoBoothChangedEvent event) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        List<String> keys = cachedKeys(cache);
+        if (keys == null) {
+            cache.clear();
+            return;
+        }
+        List<String> evicted = new ArrayList<>();
+        for (String key : keys) {
+            if (affects(matcher, key, event.getBefore()) || affects(matcher, key, event.getAfter())) {
+                cache.evict(key);
+                evicted.add(key);
+            }
+        }
+        CacheKeyIndex keyIndex = cacheKeyIndexProvider.getIfAvailable();
+        if (keyIndex != null) {
+            keyIndex.remove(cacheName, evicted);
+        }
+        log.debug("캐시 부분 무효화 - 캐시: {}, 키 {}개 중 {}개 삭제", cacheName, keys.size(), evicted.size());
+    }
+
+    private static boolean affects(BiPredicate<String, PhotoBoothResponseDto> matcher, String key,
+                                   PhotoBoothResponseDto photoBooth) {
+        return photoBooth != null && matcher.test(key, photoBooth);
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    // 캐시된 키 목록 - 읽을 수 없으면 null
+    private List<String> cachedKeys(Cache cache) {
+        if (cache.getNativeCache() instanceof Map<?, ?> entries) {
+            return entries.keySet().stream().map(String::valueOf).toList();
+        }
+        // 현재 세대의 색인만 읽는다 - 이전 세대 항목은 읽히지 않고 TTL로 사라진다
+        CacheKeyIndex keyIndex = cacheKeyIndexProvider.getIfAvailable();
+        List<String> keys = keyIndex != null ? keyIndex.keys(cache.getName()) : null;
+        if (keys == null) {
+            log.warn("캐시 키 목록을 읽을 수 없어 캐시 전체를 비웁니다: {}", cache.getName());
+        }
+        return keys;
+    }
+
+    // 키는 brand + '_' + series 이므로, 값에 '_'가 있어도 놓치지 않게 모든 '_' 위치에서 나눠 본다
+    private static boolean matchesBrandAndSeries(String key, PhotoBoothResponseDto photoBooth) {
+        for (int i = key.indexOf('_'); i >= 0; i = key.indexOf('_', i + 1)) {
+            if (containsIgnoreCase(photoBooth.getBrand(), key.substring(0, i))
+                    && containsIgnoreCase(photoBooth.getSeries(), key.substring(i + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsIgnoreCase(String value, String part) {
+        return value != null && part != null
+                && value.toLowerCase(Locale.ROOT).contains(part.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,271 @@
+package com.min.chalkakserver.config.cache;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.index.PhotoBoothIndex;
+import com.min.chalkakserver.service.PhotoBoothSyncService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 네컷사진관 카탈로그 바이너리 스냅샷 (protobuf, 스키마: resources/proto/photo_booth_catalog.proto)
+ *
+ * JSON 전체 목록은 사진관마다 필드 이름과 브랜드/시리즈/태그 문자열을 반복하므로,
+ * 문자열은 사전(strings)에 한 번만 싣고 사진관에는 사전 인덱스만 둔다. 사전은 많이 쓰인 값부터 번호를 매겨
+ * 대부분의 인덱스가 1바이트 varint로 끝난다.
+ * 인덱스 동기화(PhotoBoothIndexSynchronizer)로 최신 목록을 받아 두었다가, 카탈로그가 바뀐 뒤 첫 요청에서
+ * 한 번만 인코딩하고 다음 변경 전까지 같은 바이트 배열을 그대로 응답한다.
+ * 버전은 담긴 사진관의 가장 늦은 수정 시각과 이 노드가 받은 마지막 삭제 시각 중 큰 값이라,
+ * 본문이 버전보다 오래되지 않는다.
+ */
+@Slf4j
+@Component
+public class PhotoBoothCatalogSnapshot implements PhotoBoothIndex {
+
+    public static final String MEDIA_TYPE = "application/x-protobuf";
+
+    private final Map<Long, PhotoBoothResponseDto> photoBooths = new TreeMap<>();
+    // 마지막으로 반영한 삭제 시각 (epoch millis)
+    private long removedVersion = 0;
+    private volatile boolean ready = false;
+    // 카탈로그가 바뀌면 null로 비우고 다음 요청에서 다시 만든다
+    private volatile Snapshot snapshot;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<PhotoBoothResponseDto> photoBooths) {
+        this.photoBooths.clear();
+        for (PhotoBoothResponseDto photoBooth : photoBooths) {
+            if (photoBooth.getId() != null) {
+                this.photoBooths.put(photoBooth.getId(), photoBooth);
+            }
+        }
+        removedVersion = 0;
+        snapshot = null;
+        ready = true;
+    }
+
+    @Override
+    public synchronized void upsert(PhotoBoothResponseDto photoBooth) {
+        if (photoBooth.getId() == null) {
+            return;
+        }
+        photoBooths.put(photoBooth.getId(), photoBooth);
+        snapshot = null;
+    }
+
+    @Override
+    public synchronized void remove(Long photoBoothId) {
+        // 커밋 후에 받으므로 지금 시각은 tombstone의 삭제 시각보다 늦다
+        if (photoBooths.remove(photoBoothId) != null) {
+            removedVersion = Math.max(removedVersion, System.currentTimeMillis());
+        }
+        snapshot = null;
+    }
+
+    /**
+     * 현재 카탈로그의 스냅샷 - 변경이 없으면 이전에 만든 것을 그대로 돌려준다.
+     */
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = encode(version(), photoBooths.values());
+                log.info("카탈로그 스냅샷 생성 - 사진관 {}건, {} bytes", photoBooths.size(), snapshot.body().length);
+            }
+            return snapshot;
+        }
+    }
+
+    // 담긴 사진관의 가장 늦은 수정 시각과 마지막 삭제 시각 중 큰 값
+    private long version() {
+        long version = removedVersion;
+        for (PhotoBoothResponseDto photoBooth : photoBooths.values()) {
+            version = Math.max(version, epochMillis(photoBooth.getUpdatedAt()));
+        }
+        return version;
+    }
+
+    /**
+     * 사진관 목록을 PhotoBoothCatalog 메시지로 인코딩한다.
+     * ETag는 버전을 뺀 본문으로 계산하여, 내용이 같으면 재생성되어도 클라이언트 캐시가 유지된다.
+     */
+    public static Snapshot encode(long version, Collection<PhotoBoothResponseDto> photoBooths) {
+        Map<String, Integer> dictionary = dictionary(photoBooths);
+
+        ProtoWriter catalog = new ProtoWriter();
+        String[] strings = new String[dictionary.size()];
+        dictionary.forEach((value, index) -> strings[index] = value);
+        for (String value : strings) {
+            // 0번 빈 문자열도 위치를 지키기 위해 그대로 싣는다
+            catalog.writeBytes(2, value.getBytes(StandardCharsets.UTF_8));
+        }
+        ProtoWriter booth = new ProtoWriter();
+        for (PhotoBoothResponseDto photoBooth : photoBooths) {
+            booth.reset();
+            writePhotoBooth(booth, photoBooth, dictionary);
+            catalog.writeBytes(3, booth.toByteArray());
+        }
+        byte[] content = catalog.toByteArray();
+        String etag = "\"" + DigestUtils.md5DigestAsHex(content) + "\"";
+
+        ProtoWriter message = new ProtoWriter();
+        message.writeInt64(1, version);
+        message.writeRaw(content);
+        return new Snapshot(version, message.toByteArray(), etag);
+    }
+
+    private static void writePhotoBooth(ProtoWriter writer, PhotoBoothResponseDto photoBooth,
+                                        Map<String, Integer> dictionary) {
+        writer.writeInt64(1, photoBooth.getId());
+        writer.writeString(2, photoBooth.getName());
+        writer.writeUInt32(3, index(dictionary, photoBooth.getBrand()));
+        writer.writeUInt32(4, index(dictionary, photoBooth.getSeries()));
+        writer.writeString(5, photoBooth.getAddress());
+        writer.writeString(6, photoBooth.getRoadAddress());
+        writer.writeDouble(7, photoBooth.getLatitude());
+        writer.writeDouble(8, photoBooth.getLongitude());
+        writer.writeString(9, photoBooth.getDescription());
+        writer.writeString(10, photoBooth.getPriceInfo());
+        writer.writeInt64(11, epochMillis(photoBooth.getCreatedAt()));
+        writer.writeInt64(12, epochMillis(photoBooth.getUpdatedAt()));
+        if (photoBooth.getTags() != null && !photoBooth.getTags().isEmpty()) {
+            ProtoWriter packed = new ProtoWriter();
+            for (String tag : photoBooth.getTags()) {
+                packed.writeVarint(index(dictionary, tag));
+            }
+            writer.writeBytes(13, packed.toByteArray());
+        }
+    }
+
+    // 브랜드/시리즈/태그 값 → 사전 인덱스 (0번은 빈 문자열, 이후 많이 쓰인 순)
+    private static Map<String, Integer> dictionary(Collection<PhotoBoothResponseDto> photoBooths) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (PhotoBoothResponseDto photoBooth : photoBooths) {
+            countValue(frequencies, photoBooth.getBrand());
+            countValue(frequencies, photoBooth.getSeries());
+            if (photoBooth.getTags() != null) {
+                photoBooth.getTags().forEach(tag -> countValue(frequencies, tag));
+            }
+        }
+        List<String> values = frequencies.keySet().stream()
+                .sorted(Comparator.comparing((String value) -> frequencies.get(value)).reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .toList();
+        Map<String, Integer> dictionary = new HashMap<>();
+        dictionary.put("", 0);
+        for (String value : values) {
+            dictionary.put(value, dictionary.size());
+        }
+        return dictionary;
+    }
+
+    private static void countValue(Map<String, Integer> frequencies, String value) {
+        if (value != null && !value.isEmpty()) {
+            frequencies.merge(value, 1, Integer::sum);
+        }
+    }
+
+    private static int index(Map<String, Integer> dictionary, String value) {
+        return value == null ? 0 : dictionary.getOrDefault(value, 0);
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : PhotoBoothSyncService.toVersion(dateTime);
+    }
+
+    /**
+     * 인코딩된 스냅샷 - version은 PhotoBoothCatalog.version과 같다.
+     */
+    public record Snapshot(long version, byte[] body, String etag) {
+    }
+
+    /**
+     * protobuf wire format 최소 구현 (proto3 규칙대로 기본값 필드는 생략한다)
+     */
+    static final class ProtoWriter {
+
+        private static final int VARINT = 0;
+        private static final int FIXED64 = 1;
+        private static final int LENGTH_DELIMITED = 2;
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        void writeInt64(int field, Long value) {
+            if (value != null && value != 0) {
+                writeTag(field, VARINT);
+                writeVarint(value);
+            }
+        }
+
+        void writeUInt32(int field, int value) {
+            if (value != 0) {
+                writeTag(field, VARINT);
+                writeVarint(value);
+            }
+        }
+
+        void writeDouble(int field, Double value) {
+            if (value != null && value != 0) {
+                writeTag(field, FIXED64);
+                long bits = Double.doubleToLongBits(value);
+                for (int i = 0; i < 8; i++) {
+                    out.write((int) (bits >>> (8 * i)) & 0xFF);
+                }
+            }
+        }
+
+        void writeString(int field, String value) {
+            if (value != null && !value.isEmpty()) {
+                writeBytes(field, value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        void writeBytes(int field, byte[] value) {
+            writeTag(field, LENGTH_DELIMITED);
+            writeVarint(value.length);
+            out.writeBytes(value);
+        }
+
+        void writeRaw(byte[] value) {
+            out.writeBytes(value);
+        }
+
+        void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        private void writeTag(int field, int wireType) {
+            writeVarint(((long) field << 3) | wireType);
+        }
+
+        void reset() {
+            out.reset();
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+}
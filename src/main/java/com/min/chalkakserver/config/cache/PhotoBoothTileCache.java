@@ -0,0 +1,202 @@
+package com.min.chalkakserver.config.cache;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import com.min.chalkakserver.repository.PhotoBoothRepository;
+import com.min.chalkakserver.util.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 근처 네컷사진관 지오타일 캐시
+ *
+ * 요청 좌표를 그대로 캐시 키로 쓰면 몇십 m만 떨어져도 캐시를 공유하지 못하므로,
+ * 지도 타일(Web Mercator z/x/y) 단위로 사진관 목록을 "nearbyPhotoBooths" 캐시에 담아두고
+ * 요청 시 반경을 덮는 타일을 합친 뒤 정확한 거리로 거른다.
+ * 타일 줌은 타일 한 변이 반경 이상이 되도록 골라 한 요청이 최대 3x3 타일만 읽는다.
+ * 사진관이 바뀌면 변경 전/후 좌표가 속한 타일만 줌 레벨별로 비운다.
+ * 타일에는 평점/리뷰 수가 담긴 응답 DTO가 그대로 들어가지만, 리뷰 작성/수정/삭제도 집계를 바꾼 사진관의
+ * 수정 이벤트({@link PhotoBoothChangedEvent#updated})를 발행하므로 같은 경로로 그 사진관의 타일이 비워진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PhotoBoothTileCache {
+
+    static final String CACHE_NAME = "nearbyPhotoBooths";
+    static final int MIN_TILE_ZOOM = 8;
+    static final int MAX_TILE_ZOOM = 15;
+
+    // Web Mercator 투영 한계 위도
+    private static final double MAX_MERCATOR_LATITUDE = 85.0511;
+    private static final double EARTH_CIRCUMFERENCE_KM = 2 * Math.PI * GeoUtils.EARTH_RADIUS_KM;
+
+    private final CacheManager cacheManager;
+    private final PhotoBoothRepository photoBoothRepository;
+
+    /**
+     * 반경(km) 이내의 사진관을 거리순으로 반환한다.
+     * 캐시에 없는 타일은 한 번의 범위 쿼리로 함께 읽어 타일별로 나누어 저장한다.
+     */
+    public List<PhotoBoothResponseDto> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        int zoom = tileZoom(latitude, radiusKm);
+        double latDelta = GeoUtils.latitudeDelta(radiusKm);
+        double lonDelta = GeoUtils.longitudeDelta(latitude, radiusKm);
+        List<Tile> covering = coveringTiles(zoom,
+                latitude - latDelta, latitude + latDelta, longitude - lonDelta, longitude + lonDelta);
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        List<PhotoBoothResponseDto> candidates = new ArrayList<>();
+        List<Tile> missing = new ArrayList<>();
+        for (Tile tile : covering) {
+            List<PhotoBoothResponseDto> cached = getTile(cache, tile);
+            if (cached != null) {
+                candidates.addAll(cached);
+            } else {
+                missing.add(tile);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            log.info("근처 네컷사진관 타일 조회 - 줌: {}, 타일 {}개 중 {}개 DB에서 데이터 조회",
+                    zoom, covering.size(), missing.size());
+            loadTiles(zoom, missing).forEach((tile, photoBooths) -> {
+                if (cache != null) {
+                    cache.put(tile.key(), photoBooths);
+                }
+                candidates.addAll(photoBooths);
+            });
+        }
+
+        return candidates.stream()
+                .filter(photoBooth -> distanceKm(latitude, longitude, photoBooth) <= radiusKm)
+                .sorted(Comparator.comparingDouble(photoBooth -> distanceKm(latitude, longitude, photoBooth)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 변경 전/후 좌표가 속한 타일만 비운다. (롤백된 변경은 무시하도록 커밋 이후 처리)
+     * 리뷰로 평점만 바뀐 경우도 포함된다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPhotoBoothChanged(PhotoBoothChangedEvent event) {
+        // 타일은 공유 캐시(Redis)에 있으므로 다른 노드의 변경은 그 노드가 이미 비웠다
+        if (event.isRemote()) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        evictTiles(cache, event.getBefore());
+        evictTiles(cache, event.getAfter());
+    }
+
+    private void evictTiles(Cache cache, PhotoBoothResponseDto photoBooth) {
+        if (photoBooth == null || photoBooth.getLatitude() == null || photoBooth.getLongitude() == null) {
+            return;
+        }
+        for (int zoom = MIN_TILE_ZOOM; zoom <= MAX_TILE_ZOOM; zoom++) {
+            cache.evict(tileOf(zoom, photoBooth.getLatitude(), photoBooth.getLongitude()).key());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PhotoBoothResponseDto> getTile(Cache cache, Tile tile) {
+        if (cache == null) {
+            return null;
+        }
+        return cache.get(tile.key(), List.class);
+    }
+
+    private Map<Tile, List<PhotoBoothResponseDto>> loadTiles(int zoom, List<Tile> missing) {
+        int minX = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        Map<Tile, List<PhotoBoothResponseDto>> loaded = new LinkedHashMap<>();
+        for (Tile tile : missing) {
+            minX = Math.min(minX, tile.x());
+            maxX = Math.max(maxX, tile.x());
+            minY = Math.min(minY, tile.y());
+            maxY = Math.max(maxY, tile.y());
+            // 빈 타일도 저장해야 사진관이 없는 지역의 재조회를 막을 수 있다
+            loaded.put(tile, new ArrayList<>());
+        }
+
+        double tileCount = 1L << zoom;
+        double west = GeoUtils.mercatorLongitude(minX / tileCount);
+        double east = GeoUtils.mercatorLongitude((maxX + 1) / tileCount);
+        double north = GeoUtils.mercatorLatitude(minY / tileCount);
+        double south = GeoUtils.mercatorLatitude((maxY + 1) / tileCount);
+
+        photoBoothRepository.findByLatitudeBetweenAndLongitudeBetween(south, north, west, east)
+                .forEach(photoBooth -> {
+                    if (photoBooth.getLatitude() == null || photoBooth.getLongitude() == null) {
+                        return;
+                    }
+                    // 범위 쿼리에는 이미 캐시된 타일의 사진관도 섞여 있으므로 타일을 다시 계산해 나눈다
+                    List<PhotoBoothResponseDto> bucket =
+                            loaded.get(tileOf(zoom, photoBooth.getLatitude(), photoBooth.getLongitude()));
+                    if (bucket != null) {
+                        bucket.add(PhotoBoothResponseDto.from(photoBooth));
+                    }
+                });
+        return loaded;
+    }
+
+    private static double distanceKm(double latitude, double longitude, PhotoBoothResponseDto photoBooth) {
+        return GeoUtils.distanceKm(latitude, longitude, photoBooth.getLatitude(), photoBooth.getLongitude());
+    }
+
+    /**
+     * 타일 한 변(km)이 반경 이상이 되는 가장 큰 줌 레벨
+     */
+    static int tileZoom(double latitude, double radiusKm) {
+        double equatorRatio = EARTH_CIRCUMFERENCE_KM * Math.cos(Math.toRadians(latitude)) / radiusKm;
+        if (!(equatorRatio > 1.0)) {
+            return MIN_TILE_ZOOM;
+        }
+        int zoom = (int) Math.floor(Math.log(equatorRatio) / Math.log(2));
+        return Math.max(MIN_TILE_ZOOM, Math.min(MAX_TILE_ZOOM, zoom));
+    }
+
+    static List<Tile> coveringTiles(int zoom, double minLat, double maxLat, double minLon, double maxLon) {
+        Tile northWest = tileOf(zoom, maxLat, minLon);
+        Tile southEast = tileOf(zoom, minLat, maxLon);
+        List<Tile> tiles = new ArrayList<>();
+        for (int x = northWest.x(); x <= southEast.x(); x++) {
+            for (int y = northWest.y(); y <= southEast.y(); y++) {
+                tiles.add(new Tile(zoom, x, y));
+            }
+        }
+        return tiles;
+    }
+
+    static Tile tileOf(int zoom, double latitude, double longitude) {
+        int tileCount = 1 << zoom;
+        double clampedLat = Math.max(-MAX_MERCATOR_LATITUDE, Math.min(MAX_MERCATOR_LATITUDE, latitude));
+        double clampedLon = Math.max(-180.0, Math.min(180.0, longitude));
+        int x = (int) Math.floor(GeoUtils.mercatorX(clampedLon) * tileCount);
+        int y = (int) Math.floor(GeoUtils.mercatorY(clampedLat) * tileCount);
+        return new Tile(zoom, Math.min(tileCount - 1, x), Math.min(tileCount - 1, y));
+    }
+
+    record Tile(int zoom, int x, int y) {
+
+        String key() {
+            return "tile:" + zoom + "/" + x + "/" + y;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.min.chalkakserver.config.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import com.min.chalkakserver.index.ReviewChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 자주 읽히는 목록 응답의 직렬화 결과 캐시
+ *
+ * Redis 캐시에 적중해도 매 요청마다 JSON 역직렬화 → DTO → JSON 직렬화를 반복하므로,
+ * 전체/브랜드별/인기 목록은 응답 JSON을 한 번만 만들어 원본과 gzip 바이트 배열로 들고 있다가 그대로 내려준다.
+ * 사진관이 바뀌면(커밋 이후) 모두 비우고, 리뷰가 바뀌면 인기 목록({@link #POPULAR_PREFIX})만 비운다.
+ * 노드마다 따로 들고 있으므로 항목에 렌더링 당시 카탈로그 버전({@link #CATALOG_CACHE} 캐시 세대)을 함께 두고,
+ * 다른 노드의 변경으로 세대가 바뀌면 변경 알림을 놓쳤더라도 다음 조회에서 다시 만든다.
+ * 그 밖의 변경(SQL 스크립트)은 항목별 최대 보관 시간으로 맞춘다.
+ * 사용자 입력이 키가 되는 브랜드 항목({@link #BRAND_PREFIX})은 {@link #MAX_BRAND_ENTRIES}개를 넘으면 저장하지 않고 매번 만든다.
+ * 전체/인기 목록은 키가 정해져 있으므로 브랜드 항목이 가득 차도 저장된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrerenderedResponseCache {
+
+    static final int MAX_BRAND_ENTRIES = 256;
+    static final String CATALOG_CACHE = "photoBooths";
+    public static final String POPULAR_PREFIX = "popular:";
+    public static final String BRAND_PREFIX = "brand:";
+
+    private final ObjectMapper objectMapper;
+    // Redis 캐시를 쓰지 않는 환경(test 프로필)에는 없다 - 그때는 이 노드의 변경 이벤트로만 비운다
+    private final ObjectProvider<CacheGenerations> cacheGenerationsProvider;
+
+    private final Map<String, Rendered> entries = new ConcurrentHashMap<>();
+    private final Map<String, Rendered> brandEntries = new ConcurrentHashMap<>();
+    // 비우기 전에 시작된 렌더링 결과가 비운 뒤에 저장되지 않도록 세대를 센다
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 키에 해당하는 렌더링 결과를 반환한다. 없거나 maxAge가 지났거나 카탈로그 버전이 바뀌었으면 loader의 결과로 새로 만든다.
+     */
+    public Rendered get(String key, Duration maxAge, Supplier<?> loader) {
+        Map<String, Rendered> target = key.startsWith(BRAND_PREFIX) ? brandEntries : entries;
+        long catalogVersion = catalogVersion();
+        Rendered cached = target.get(key);
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.catalogVersion() == catalogVersion
+                && now - cached.renderedAt() < maxAge.toMillis()) {
+            return cached;
+        }
+
+        // 버전은 읽기 전에 잡아 둔다 - 읽는 동안 바뀌면 다음 조회에서 버전이 달라 다시 만든다
+        long startGeneration = generation.get();
+        Rendered rendered = render(loader.get(), catalogVersion, now);
+        if (generation.get() == startGeneration
+                && (target != brandEntries || brandEntries.size() < MAX_BRAND_ENTRIES || brandEntries.containsKey(key))) {
+            target.put(key, rendered);
+        }
+        log.debug("응답 렌더링 - 키: {}, {} bytes (gzip {} bytes)", key, rendered.identity().length, rendered.gzip().length);
+        return rendered;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPhotoBoothChanged(PhotoBoothChangedEvent event) {
+        clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        evictByPrefix(POPULAR_PREFIX);
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+        brandEntries.clear();
+    }
+
+    public void evictByPrefix(String prefix) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+        brandEntries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * If-None-Match 헤더가 etag와 맞는지 - 쉼표로 나열된 목록과 *를 받고, W/ 접두사는 떼고 비교한다(약한 비교).
+     */
+    public static boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaqueTag(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip을 받는지 - gzip(없으면 *)의 q 값이 0보다 커야 한다. gzip;q=0은 거부로 본다.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = quality(params);
+            } else if (name.equals("*")) {
+                wildcard = quality(params);
+            }
+        }
+        double quality = gzip != null ? gzip : wildcard != null ? wildcard : 0;
+        return quality > 0;
+    }
+
+    private static double quality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private long catalogVersion() {
+        CacheGenerations generations = cacheGenerationsProvider.getIfAvailable();
+        return generations != null ? generations.current(CATALOG_CACHE) : 0L;
+    }
+
+    private Rendered render(Object body, long catalogVersion, long now) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(body);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(identity.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(identity);
+            }
+            String etag = "\"" + DigestUtils.md5DigestAsHex(identity) + "\"";
+            return new Rendered(identity, compressed.toByteArray(), etag, catalogVersion, now);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 직렬화된 응답 - identity는 JSON 원본, gzip은 같은 내용을 압축한 것이다.
+     * catalogVersion은 렌더링 직전에 읽은 카탈로그 버전이다.
+     */
+    public record Rendered(byte[] identity, byte[] gzip, String etag, long catalogVersion, long renderedAt) {
+
+        /**
+         * 요청 헤더에 맞춰 304, gzip, 원본 중 하나로 응답한다.
+         */
+        public ResponseEntity<byte[]> toResponse(String acceptEncoding, String ifNoneMatch) {
+            if (matchesIfNoneMatch(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            boolean useGzip = acceptsGzip(acceptEncoding);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (useGzip) {
+                response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return response.body(useGzip ? gzip : identity);
+        }
+    }
+}
@@ -2,24 +2,31 @@ package com.min.chalkakserver.config.cache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -60,11 +67,96 @@ public class RedisCacheConfig implements CachingConfigurer {
         return redisTemplate;
     }
     
+    /**
+     * 캐시별 지표(적중/실패, 적재 시간, 값 크기, 삭제)를 Micrometer에 기록하는 캐시 매니저 - 실제 캐시는 {@link #twoTierCacheManager()}
+     * 값 크기는 Redis에 저장하는 것과 같은 직렬화기로 잰다.
+     */
     @Bean
     @Primary
-    public CacheManager cacheManager() {
+    public InstrumentedCacheManager cacheManager(MeterRegistry meterRegistry) {
+        GenericJackson2JsonRedisSerializer serializer = genericJackson2JsonRedisSerializer();
+        return new InstrumentedCacheManager(twoTierCacheManager(), meterRegistry,
+                value -> serializer.serialize(value).length);
+    }
+
+    /**
+     * Redis(L2) 앞에 노드별 로컬 캐시(L1)를 둔 2단 캐시 매니저
+     * 자주 읽히는 사진관 캐시만 L1을 두고, 무효화는 Redis pub/sub으로 모든 노드에 알린다.
+     */
+    @Bean
+    public TwoTierCacheManager twoTierCacheManager() {
+        Map<String, TwoTierCacheManager.NearCacheSpec> nearCaches = new HashMap<>();
+        nearCaches.put("photoBooth", new TwoTierCacheManager.NearCacheSpec(10_000, Duration.ofMinutes(10)));
+        nearCaches.put("photoBooths", new TwoTierCacheManager.NearCacheSpec(64, Duration.ofMinutes(10)));
+        nearCaches.put("brandPhotoBooths", new TwoTierCacheManager.NearCacheSpec(256, Duration.ofMinutes(10)));
+
+        StringRedisTemplate invalidationTemplate = stringRedisTemplate();
+        return new TwoTierCacheManager(redisCacheManager(), nearCaches,
+                message -> invalidationTemplate.convertAndSend(TwoTierCacheManager.INVALIDATION_CHANNEL, message));
+    }
+
+    @Bean
+    public StringRedisTemplate stringRedisTemplate() {
+        return new StringRedisTemplate(redisConnectionFactory());
+    }
+
+    /**
+     * 캐시 이름별 세대 번호 - Redis 캐시 키 접두사에 들어가며, 캐시 비우기는 세대 증가로 처리된다.
+     */
+    @Bean
+    public CacheGenerations cacheGenerations() {
+        return new CacheGenerations(stringRedisTemplate());
+    }
+
+    /**
+     * 부분 무효화 대상 캐시의 키 색인 - 키를 남겨 둘 시간은 L2 TTL + L1 TTL (L1이 없으면 L2 TTL)
+     */
+    @Bean
+    public CacheKeyIndex cacheKeyIndex() {
+        Map<String, Duration> retentions = new HashMap<>();
+        retentions.put("brandPhotoBooths", Duration.ofHours(1).plusMinutes(10));
+        retentions.put("seriesPhotoBooths", Duration.ofMinutes(30));
+        retentions.put("brandSeriesPhotoBooths", Duration.ofMinutes(30));
+        retentions.put("searchResults", Duration.ofMinutes(30));
+        return new CacheKeyIndex(stringRedisTemplate(), cacheGenerations(), retentions);
+    }
+
+    /**
+     * 커밋된 사진관/리뷰 변경을 다른 노드의 인메모리 인덱스/인기 순위/스냅샷/렌더링 응답에 전달한다.
+     */
+    @Bean
+    public CatalogEventRelay catalogEventRelay(ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher) {
+        return new CatalogEventRelay(stringRedisTemplate(), objectMapper, eventPublisher);
+    }
+
+    // 다른 노드가 보낸 캐시 무효화/사진관·리뷰 변경 메시지를 받아 로컬 상태를 갱신한다
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(CatalogEventRelay catalogEventRelay) {
+        TwoTierCacheManager cacheManager = twoTierCacheManager();
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        CacheGenerations generations = cacheGenerations();
+        container.addMessageListener(
+                (message, pattern) -> generations.onGenerationChanged(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CacheGenerations.GENERATION_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> catalogEventRelay.onPhotoBoothMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CatalogEventRelay.PHOTO_BOOTH_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> catalogEventRelay.onReviewMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CatalogEventRelay.REVIEW_CHANNEL));
+        return container;
+    }
+
+    private RedisCacheManager redisCacheManager() {
+        CacheGenerations generations = cacheGenerations();
+        CacheKeyIndex keyIndex = cacheKeyIndex();
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30)) // 기본 TTL 30분
+                .computePrefixWith(generations::prefix) // 캐시 이름::v세대::
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(genericJackson2JsonRedisSerializer()));
 
@@ -86,10 +178,18 @@ public class RedisCacheConfig implements CachingConfigurer {
         // 브랜드별 캐시 (1시간)
         cacheConfigurations.put("brandPhotoBooths", defaultConfig.entryTtl(Duration.ofHours(1)));
 
-        return RedisCacheManager.builder(redisConnectionFactory())
-                .cacheDefaults(defaultConfig)
-                .withInitialCacheConfigurations(cacheConfigurations)
-                .build();
+        // 비우기는 패턴 삭제 대신 세대 증가로 처리한다 (이전 세대 항목은 TTL로 만료), 부분 무효화 대상은 키를 색인한다
+        RedisCacheManager redisCacheManager = new RedisCacheManager(
+                RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory()), defaultConfig, cacheConfigurations) {
+            @Override
+            protected Cache decorateCache(Cache cache) {
+                return new GenerationalCache(super.decorateCache(cache), generations,
+                        keyIndex.tracks(cache.getName()) ? keyIndex : null);
+            }
+        };
+        // 빈으로 등록하지 않으므로 캐시별 설정을 직접 초기화한다
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
     }
 
     // 주의: 글로벌 ObjectMapper Bean을 등록하지 않습니다.
@@ -0,0 +1,136 @@
+package com.min.chalkakserver.config.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * 로컬 L1(Caffeine) + Redis L2 2단 캐시
+ *
+ * 조회는 L1 → L2 순서로 찾고 L2에서 읽은 값은 L1에 채워, 자주 읽히는 항목은 네트워크 왕복과 JSON 역직렬화 없이 응답한다.
+ * 삭제/비우기는 L2에 먼저 반영한 뒤 L1을 비우고, 다른 노드의 L1도 비우도록 무효화 메시지를 보낸다.
+ * 저장(put)은 캐시 실패 후 채우기(@Cacheable)에만 쓰이므로 알리지 않는다 - 값이 바뀌는 변경은 항상 삭제를 거치고,
+ * 그 삭제가 다른 노드의 L1을 이미 비웠다. 실패마다 메시지를 보내면 pub/sub 트래픽이 실패 수에 비례해 늘어난다.
+ * L1 키는 L2(Redis) 키와 같은 문자열 표현을 쓰므로 노드 사이에 그대로 주고받을 수 있다.
+ * L1에는 역직렬화된 객체를 그대로 두므로, 캐시된 값은 수정하지 않는 DTO여야 한다.
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    // (캐시 이름, 키) - 키가 null이면 전체 비우기
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    public TwoTierCache(Cache remote, com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local,
+                        BiConsumer<String, String> invalidationPublisher) {
+        this.remote = remote;
+        this.local = local;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return cached;
+        }
+        ValueWrapper loaded = remote.get(key);
+        if (loaded != null) {
+            local.put(localKey, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) local.get(localKey(key), k -> new SimpleValueWrapper(remote.get(key, valueLoader))).get();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), new SimpleValueWrapper(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        local.put(localKey(key), existing != null ? existing : new SimpleValueWrapper(value));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        evictEverywhere(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        evictEverywhere(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        invalidationPublisher.accept(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        clearLocal();
+        invalidationPublisher.accept(getName(), null);
+        return invalidated;
+    }
+
+    /**
+     * 다른 노드에서 온 무효화 메시지 반영 - L1만 비운다.
+     */
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    // 이 노드의 L1을 비우고 다른 노드에도 알린다
+    private void evictEverywhere(Object key) {
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        invalidationPublisher.accept(getName(), localKey);
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,111 @@
+package com.min.chalkakserver.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Redis 캐시 매니저 앞에 노드별 로컬 캐시(L1)를 두는 캐시 매니저
+ *
+ * {@link #nearCaches}에 등록된 캐시만 {@link TwoTierCache}로 감싸고, 나머지는 Redis 캐시를 그대로 쓴다.
+ * L1은 Caffeine(W-TinyLFU)으로 크기를 제한하고, 무효화 메시지 유실에 대비해 TTL을 L2보다 짧게 둔다.
+ * 삭제/비우기는 Redis pub/sub {@link #INVALIDATION_CHANNEL}로 알리고, 다른 노드는 메시지를 받아 자기 L1을 비운다.
+ * 메시지 형식: {@code 노드ID|E|캐시 이름|키} (키 삭제), {@code 노드ID|C|캐시 이름} (전체 비우기)
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private static final String SEPARATOR = "|";
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, NearCacheSpec> nearCaches;
+    private final Consumer<String> messagePublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager, Map<String, NearCacheSpec> nearCaches,
+                               Consumer<String> messagePublisher) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.nearCaches = Map.copyOf(nearCaches);
+        this.messagePublisher = messagePublisher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> decorate(remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 무효화 메시지 수신 - 자기 노드가 보낸 메시지는 이미 반영했으므로 무시한다.
+     */
+    public void onInvalidation(String message) {
+        String[] parts = message.split("\\" + SEPARATOR, 4);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        if (!(caches.get(parts[2]) instanceof TwoTierCache cache)) {
+            return;
+        }
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else if (EVICT.equals(parts[1]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+    }
+
+    private Cache decorate(Cache remote) {
+        NearCacheSpec spec = nearCaches.get(remote.getName());
+        if (spec == null) {
+            return remote;
+        }
+        return new TwoTierCache(remote,
+                Caffeine.newBuilder()
+                        .maximumSize(spec.maximumSize())
+                        .expireAfterWrite(spec.timeToLive())
+                        .build(),
+                this::publish);
+    }
+
+    private void publish(String cacheName, String key) {
+        String message = key == null
+                ? String.join(SEPARATOR, nodeId, CLEAR, cacheName)
+                : String.join(SEPARATOR, nodeId, EVICT, cacheName, key);
+        try {
+            messagePublisher.accept(message);
+        } catch (Exception e) {
+            // 다른 노드의 L1은 TTL로 만료된다
+            log.warn("캐시 무효화 메시지 발행 실패 - 캐시: {}, 키: {}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * L1 설정 - 최대 항목 수와 TTL
+     */
+    public record NearCacheSpec(long maximumSize, Duration timeToLive) {
+    }
+}
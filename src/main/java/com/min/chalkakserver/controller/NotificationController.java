@@ -1,5 +1,6 @@
 package com.min.chalkakserver.controller;
 
+import com.min.chalkakserver.dto.CursorPageResponseDto;
 import com.min.chalkakserver.dto.PagedResponseDto;
 import com.min.chalkakserver.dto.notification.DeviceTokenRequestDto;
 import com.min.chalkakserver.dto.notification.NotificationResponseDto;
@@ -35,17 +36,29 @@ public class NotificationController {
         return ResponseEntity.ok(Map.of("message", "디바이스 토큰이 등록되었습니다."));
     }
 
-    @Operation(summary = "알림 목록 조회", description = "내 알림 목록 페이징 조회")
+    @Operation(summary = "알림 목록 조회", description = "내 알림 목록 페이징 조회 (slice=true 시 전체 개수를 세지 않고 근사치 반환)")
     @GetMapping
     public ResponseEntity<PagedResponseDto<NotificationResponseDto>> getNotifications(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        PagedResponseDto<NotificationResponseDto> response =
-                notificationService.getNotifications(userDetails.getId(), page, size);
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean slice) {
+        PagedResponseDto<NotificationResponseDto> response = slice
+                ? notificationService.getNotificationsSlice(userDetails.getId(), page, size)
+                : notificationService.getNotifications(userDetails.getId(), page, size);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "알림 목록 조회 (커서)", description = "내 알림 목록 커서 페이지네이션 조회, 첫 페이지는 cursor를 비워 요청")
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<NotificationResponseDto>> getNotificationsByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(
+                notificationService.getNotificationsByCursor(userDetails.getId(), cursor, size));
+    }
+
     @Operation(summary = "알림 읽음 처리", description = "특정 알림을 읽음으로 처리")
     @PatchMapping("/{id}/read")
     public ResponseEntity<Map<String, String>> markAsRead(
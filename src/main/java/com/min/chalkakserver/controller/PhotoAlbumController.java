@@ -1,5 +1,6 @@
 package com.min.chalkakserver.controller;
 
+import com.min.chalkakserver.dto.CursorPageResponseDto;
 import com.min.chalkakserver.dto.PagedResponseDto;
 import com.min.chalkakserver.dto.album.PhotoBulkDeleteRequestDto;
 import com.min.chalkakserver.dto.album.PhotoResponseDto;
@@ -74,6 +75,18 @@ public class PhotoAlbumController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "내 사진 목록 (커서)", description = "내 사진첩 목록 커서 페이징 조회, 첫 페이지는 cursor를 비워 요청 (로그인 필요)")
+    @GetMapping(value = "/paged", params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<PhotoResponseDto>> getMyPhotosByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(value = "favorite", defaultValue = "false") boolean favorite) {
+        CursorPageResponseDto<PhotoResponseDto> response =
+            photoAlbumService.getMyPhotosByCursor(userDetails.getId(), favorite, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "사진 수정", description = "메모/찜 부분 수정 (로그인 필요)")
     @PatchMapping("/{id}")
     public ResponseEntity<PhotoResponseDto> updatePhoto(
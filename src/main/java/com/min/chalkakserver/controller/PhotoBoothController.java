@@ -1,22 +1,37 @@
 package com.min.chalkakserver.controller;
 
+import com.min.chalkakserver.config.cache.PhotoBoothCatalogSnapshot;
+import com.min.chalkakserver.config.cache.PrerenderedResponseCache;
+import com.min.chalkakserver.dto.CursorPageResponseDto;
+import com.min.chalkakserver.dto.FacetedPhotoBoothResponseDto;
+import com.min.chalkakserver.dto.NearestPhotoBoothResponseDto;
 import com.min.chalkakserver.dto.PagedResponseDto;
+import com.min.chalkakserver.dto.PhotoBoothChangesDto;
+import com.min.chalkakserver.dto.PhotoBoothClusterDto;
 import com.min.chalkakserver.dto.PhotoBoothImageDto;
 import com.min.chalkakserver.dto.PhotoBoothReportDto;
 import com.min.chalkakserver.dto.PhotoBoothRequestDto;
 import com.min.chalkakserver.dto.PhotoBoothResponseDto;
 import com.min.chalkakserver.dto.PhotoBoothReportResponseDto;
+import com.min.chalkakserver.dto.PhotoBoothSuggestionDto;
 import com.min.chalkakserver.entity.PhotoBoothImage;
+import com.min.chalkakserver.index.PhotoBoothFilterIndex;
 import com.min.chalkakserver.security.CustomUserDetails;
 import com.min.chalkakserver.service.EmailService;
+import com.min.chalkakserver.service.ExportService;
 import com.min.chalkakserver.service.PhotoBoothImageService;
 import com.min.chalkakserver.service.PhotoBoothService;
+import com.min.chalkakserver.service.PhotoBoothSyncService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import java.util.Map;
@@ -25,8 +40,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -38,12 +55,56 @@ public class PhotoBoothController {
     private final PhotoBoothService photoBoothService;
     private final PhotoBoothImageService photoBoothImageService;
     private final EmailService emailService;
+    private final PhotoBoothSyncService photoBoothSyncService;
+    private final PrerenderedResponseCache prerenderedResponseCache;
+    private final ExportService exportService;
+    
+    // 직렬화 결과는 카탈로그 버전이 바뀌면 다시 만든다. 버전을 올리지 않는 변경(SQL 스크립트)에 대비해
+    // 전체/브랜드별 목록은 기본 캐시 TTL(30분), 인기 목록은 리뷰로 순위가 바뀌므로 5분까지만 재사용한다
+    private static final Duration LIST_RENDER_MAX_AGE = Duration.ofMinutes(30);
+    private static final Duration POPULAR_RENDER_MAX_AGE = Duration.ofMinutes(5);
     
     @GetMapping
-    @Operation(summary = "모든 네컷사진관 조회", description = "전체 네컷사진관 목록을 조회합니다")
-    public ResponseEntity<List<PhotoBoothResponseDto>> getAllPhotoBooths() {
-        List<PhotoBoothResponseDto> photoBooths = photoBoothService.getAllPhotoBooths();
-        return ResponseEntity.ok(photoBooths);
+    @Operation(summary = "모든 네컷사진관 조회", description = "전체 네컷사진관 목록을 조회합니다 (Accept-Encoding: gzip, If-None-Match 지원)")
+    public ResponseEntity<byte[]> getAllPhotoBooths(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return prerenderedResponseCache
+                .get("all", LIST_RENDER_MAX_AGE, photoBoothService::getAllPhotoBooths)
+                .toResponse(acceptEncoding, ifNoneMatch);
+    }
+    
+    @GetMapping("/changes")
+    @Operation(summary = "네컷사진관 변경분 동기화", description = "since(카탈로그 버전) 이후 생성/수정/삭제된 네컷사진관만 조회합니다. since가 없거나 너무 오래되면 전체 목록을 반환합니다")
+    public ResponseEntity<PhotoBoothChangesDto> getPhotoBoothChanges(
+            @Parameter(description = "이전 응답의 version (첫 동기화 시 생략)")
+            @RequestParam(required = false) Long since) {
+        PhotoBoothChangesDto changes = photoBoothSyncService.getChanges(since);
+        return ResponseEntity.ok(changes);
+    }
+    
+    @GetMapping(value = "/snapshot", produces = PhotoBoothCatalogSnapshot.MEDIA_TYPE)
+    @Operation(summary = "네컷사진관 카탈로그 바이너리 스냅샷", description = "전체 목록을 protobuf(photo_booth_catalog.proto)로 조회합니다. If-None-Match가 같으면 304를 반환합니다")
+    public ResponseEntity<byte[]> getCatalogSnapshot(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PhotoBoothCatalogSnapshot.Snapshot snapshot = photoBoothSyncService.getCatalogSnapshot();
+        if (PrerenderedResponseCache.matchesIfNoneMatch(ifNoneMatch, snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .header("X-Catalog-Version", String.valueOf(snapshot.version()))
+                .body(snapshot.body());
+    }
+    
+    @GetMapping("/export")
+    @Operation(summary = "네컷사진관 전체 내보내기", description = "전체 목록을 스트리밍으로 내려받습니다 (format: json 배열 또는 ndjson)")
+    public ResponseEntity<StreamingResponseBody> exportPhotoBooths(
+            @Parameter(description = "json 또는 ndjson") @RequestParam(defaultValue = "json") String format) {
+        ExportService.Format exportFormat = ExportService.Format.of(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .body(exportService.exportPhotoBooths(exportFormat));
     }
     
     @GetMapping("/paged")
@@ -57,6 +118,16 @@ public class PhotoBoothController {
         return ResponseEntity.ok(photoBooths);
     }
     
+    @GetMapping(value = "/paged", params = "cursor")
+    @Operation(summary = "모든 네컷사진관 조회 (커서 페이지네이션)", description = "최신 등록순으로 조회합니다. 첫 페이지는 cursor를 비워 요청하고, 이후 응답의 nextCursor를 넘깁니다")
+    public ResponseEntity<CursorPageResponseDto<PhotoBoothResponseDto>> getAllPhotoBoothsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)")
+            @RequestParam String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") 
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(photoBoothService.getAllPhotoBoothsByCursor(cursor, size));
+    }
+    
     @GetMapping("/nearby")
     public ResponseEntity<List<PhotoBoothResponseDto>> getNearbyPhotoBooths(
             @RequestParam @Min(value = -90, message = "위도는 -90도 이상이어야 합니다") 
@@ -69,6 +140,65 @@ public class PhotoBoothController {
         return ResponseEntity.ok(nearbyBooths);
     }
     
+    @GetMapping(value = "/nearby", params = "facets=true")
+    @Operation(summary = "근처 네컷사진관 + 필터 개수", description = "근처 네컷사진관과 함께 결과의 브랜드/시리즈/태그별 개수를 조회합니다")
+    public ResponseEntity<FacetedPhotoBoothResponseDto> getNearbyPhotoBoothsWithFacets(
+            @RequestParam @Min(value = -90, message = "위도는 -90도 이상이어야 합니다") 
+            @Max(value = 90, message = "위도는 90도 이하여야 합니다") double latitude,
+            @RequestParam @Min(value = -180, message = "경도는 -180도 이상이어야 합니다") 
+            @Max(value = 180, message = "경도는 180도 이하여야 합니다") double longitude,
+            @RequestParam(defaultValue = "3.0") @Min(value = 0, message = "반경은 0km 이상이어야 합니다")
+            @Max(value = 50, message = "반경은 50km 이하여야 합니다") double radius) {
+        FacetedPhotoBoothResponseDto nearbyBooths = photoBoothService.getNearbyPhotoBoothsWithFacets(latitude, longitude, radius);
+        return ResponseEntity.ok(nearbyBooths);
+    }
+    
+    @GetMapping("/nearest")
+    @Operation(summary = "가장 가까운 네컷사진관", description = "반경과 관계없이 가장 가까운 네컷사진관 k개를 거리(km)와 함께 조회합니다")
+    public ResponseEntity<List<NearestPhotoBoothResponseDto>> getNearestPhotoBooths(
+            @RequestParam @Min(value = -90, message = "위도는 -90도 이상이어야 합니다") 
+            @Max(value = 90, message = "위도는 90도 이하여야 합니다") double latitude,
+            @RequestParam @Min(value = -180, message = "경도는 -180도 이상이어야 합니다") 
+            @Max(value = 180, message = "경도는 180도 이하여야 합니다") double longitude,
+            @Parameter(description = "조회할 사진관 수 (최대 100)")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int k) {
+        List<NearestPhotoBoothResponseDto> nearest = photoBoothService.getNearestPhotoBooths(latitude, longitude, k);
+        return ResponseEntity.ok(nearest);
+    }
+    
+    @GetMapping("/clusters")
+    @Operation(summary = "지도 클러스터", description = "지도 화면 범위와 줌 레벨에 맞춰 묶인 네컷사진관 클러스터를 조회합니다 (count가 1이면 개별 사진관)")
+    public ResponseEntity<List<PhotoBoothClusterDto>> getPhotoBoothClusters(
+            @Parameter(description = "화면 범위 '서경,남위,동경,북위' (예: 126.9,37.5,127.1,37.6)")
+            @RequestParam String bbox,
+            @Parameter(description = "지도 줌 레벨 (0~22)")
+            @RequestParam @Min(0) @Max(22) int zoom) {
+        List<PhotoBoothClusterDto> clusters = photoBoothService.getPhotoBoothClusters(bbox, zoom);
+        return ResponseEntity.ok(clusters);
+    }
+    
+    @GetMapping("/query")
+    @Operation(summary = "조합 필터 조회", description = "브랜드, 시리즈, 태그, 최소 평점, 반경 조건을 한 번에 적용하여 네컷사진관을 조회합니다 (위치가 있으면 거리순, 없으면 ID순)")
+    public ResponseEntity<List<PhotoBoothResponseDto>> queryPhotoBooths(
+            @Parameter(description = "브랜드 (여러 개면 그중 하나)")
+            @RequestParam(required = false) List<String> brand,
+            @Parameter(description = "시리즈 (여러 개면 그중 하나)")
+            @RequestParam(required = false) List<String> series,
+            @Parameter(description = "태그 (여러 개면 모두 포함)")
+            @RequestParam(required = false) List<String> tag,
+            @Parameter(description = "최소 평균 평점 (0~5)")
+            @RequestParam(required = false) @DecimalMin("0.0") @DecimalMax("5.0") Double minRating,
+            @Parameter(description = "위도 (경도와 함께 입력하면 반경 조건 적용)")
+            @RequestParam(required = false) Double latitude,
+            @Parameter(description = "경도")
+            @RequestParam(required = false) Double longitude,
+            @Parameter(description = "반경 km (최대 50)")
+            @RequestParam(defaultValue = "3.0") double radius) {
+        PhotoBoothFilterIndex.Criteria criteria = new PhotoBoothFilterIndex.Criteria(brand, series, tag, minRating);
+        List<PhotoBoothResponseDto> results = photoBoothService.queryPhotoBooths(criteria, latitude, longitude, radius);
+        return ResponseEntity.ok(results);
+    }
+    
     @GetMapping("/brands")
     @Operation(summary = "브랜드 목록", description = "중복 제거된 브랜드 목록을 조회합니다")
     public ResponseEntity<List<String>> getDistinctBrands() {
@@ -78,10 +208,14 @@ public class PhotoBoothController {
 
     @GetMapping("/popular")
     @Operation(summary = "인기 네컷사진관", description = "리뷰가 많고 평점이 높은 네컷사진관 목록을 조회합니다")
-    public ResponseEntity<List<PhotoBoothResponseDto>> getPopularPhotoBooths(
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
-        List<PhotoBoothResponseDto> popular = photoBoothService.getPopularPhotoBooths(limit);
-        return ResponseEntity.ok(popular);
+    public ResponseEntity<byte[]> getPopularPhotoBooths(
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return prerenderedResponseCache
+                .get(PrerenderedResponseCache.POPULAR_PREFIX + limit, POPULAR_RENDER_MAX_AGE,
+                        () -> photoBoothService.getPopularPhotoBooths(limit))
+                .toResponse(acceptEncoding, ifNoneMatch);
     }
 
     @GetMapping("/{id}")
@@ -90,11 +224,35 @@ public class PhotoBoothController {
         return ResponseEntity.ok(photoBooth);
     }
 
+    @GetMapping("/suggest")
+    @Operation(summary = "검색어 자동완성", description = "입력한 접두사로 시작하는 사진관 이름, 브랜드, 시리즈, 태그를 인기순으로 추천합니다")
+    public ResponseEntity<List<PhotoBoothSuggestionDto>> suggest(
+            @Parameter(description = "입력 중인 검색어 (접두사)")
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(20) int limit) {
+        List<PhotoBoothSuggestionDto> suggestions = photoBoothService.suggest(q, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
     @GetMapping("/search")
-    @Operation(summary = "키워드로 검색", description = "이름 또는 주소에 키워드가 포함된 네컷사진관을 검색합니다")
+    @Operation(summary = "키워드로 검색", description = "이름, 주소, 브랜드, 시리즈에 키워드가 포함된 네컷사진관을 검색합니다 (초성 검색 지원, 예: ㅇㅅㄴㅋ)")
     public ResponseEntity<List<PhotoBoothResponseDto>> searchPhotoBooths(
-            @RequestParam String keyword) {
-        List<PhotoBoothResponseDto> searchResults = photoBoothService.searchPhotoBooths(keyword);
+            @RequestParam String keyword,
+            @Parameter(description = "오타 허용 검색 - 이름/브랜드 단어별 편집 거리 1~2 이내를 가까운 순으로 반환")
+            @RequestParam(defaultValue = "false") boolean fuzzy) {
+        List<PhotoBoothResponseDto> searchResults = fuzzy
+                ? photoBoothService.fuzzySearchPhotoBooths(keyword)
+                : photoBoothService.searchPhotoBooths(keyword);
+        return ResponseEntity.ok(searchResults);
+    }
+    
+    @GetMapping(value = "/search", params = "facets=true")
+    @Operation(summary = "키워드로 검색 + 필터 개수", description = "키워드 검색 결과와 함께 결과의 브랜드/시리즈/태그별 개수를 조회합니다")
+    public ResponseEntity<FacetedPhotoBoothResponseDto> searchPhotoBoothsWithFacets(
+            @RequestParam String keyword,
+            @Parameter(description = "오타 허용 검색 - 이름/브랜드 단어별 편집 거리 1~2 이내를 가까운 순으로 반환")
+            @RequestParam(defaultValue = "false") boolean fuzzy) {
+        FacetedPhotoBoothResponseDto searchResults = photoBoothService.searchPhotoBoothsWithFacets(keyword, fuzzy);
         return ResponseEntity.ok(searchResults);
     }
     
@@ -112,10 +270,13 @@ public class PhotoBoothController {
     
     @GetMapping("/brand/{brand}")
     @Operation(summary = "브랜드별 조회", description = "특정 브랜드의 네컷사진관을 조회합니다")
-    public ResponseEntity<List<PhotoBoothResponseDto>> getPhotoBoothsByBrand(
-            @PathVariable String brand) {
-        List<PhotoBoothResponseDto> brandResults = photoBoothService.getPhotoBoothsByBrand(brand);
-        return ResponseEntity.ok(brandResults);
+    public ResponseEntity<byte[]> getPhotoBoothsByBrand(
+            @PathVariable String brand,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return prerenderedResponseCache
+                .get(PrerenderedResponseCache.BRAND_PREFIX + brand, LIST_RENDER_MAX_AGE, () -> photoBoothService.getPhotoBoothsByBrand(brand))
+                .toResponse(acceptEncoding, ifNoneMatch);
     }
     
     @GetMapping("/brand/{brand}/paged")
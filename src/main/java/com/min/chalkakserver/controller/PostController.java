@@ -1,9 +1,11 @@
 package com.min.chalkakserver.controller;
 
+import com.min.chalkakserver.dto.CursorPageResponseDto;
 import com.min.chalkakserver.dto.PagedResponseDto;
 import com.min.chalkakserver.dto.post.PostRequestDto;
 import com.min.chalkakserver.dto.post.PostResponseDto;
 import com.min.chalkakserver.security.CustomUserDetails;
+import com.min.chalkakserver.service.ExportService;
 import com.min.chalkakserver.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -13,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Map;
 
@@ -23,28 +26,57 @@ import java.util.Map;
 public class PostController {
 
     private final PostService postService;
+    private final ExportService exportService;
 
-    @Operation(summary = "피드 조회", description = "전체 피드 조회 (공개)")
+    @Operation(summary = "피드 조회", description = "전체 피드 조회 (공개, slice=true 시 전체 개수를 세지 않고 근사치 반환)")
     @GetMapping
     public ResponseEntity<PagedResponseDto<PostResponseDto>> getFeed(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean slice) {
+        Long userId = userDetails != null ? userDetails.getId() : null;
+        return ResponseEntity.ok(slice
+            ? postService.getFeedSlice(userId, page, size)
+            : postService.getFeed(userId, page, size));
+    }
+
+    @Operation(summary = "피드 조회 (커서)", description = "전체 피드 커서 페이지네이션 조회, 첫 페이지는 cursor를 비워 요청 (공개)")
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<PostResponseDto>> getFeedByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam String cursor,
             @RequestParam(defaultValue = "20") int size) {
         Long userId = userDetails != null ? userDetails.getId() : null;
-        return ResponseEntity.ok(postService.getFeed(userId, page, size));
+        return ResponseEntity.ok(postService.getFeedByCursor(userId, cursor, size));
+    }
+
+    @Operation(summary = "피드 내보내기", description = "전체 게시물을 스트리밍으로 내려받기 (format: json 또는 ndjson, 공개)")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportFeed(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "json") String format) {
+        Long userId = userDetails != null ? userDetails.getId() : null;
+        ExportService.Format exportFormat = ExportService.Format.of(format);
+        return ResponseEntity.ok()
+            .contentType(exportFormat.getMediaType())
+            .body(exportService.exportPosts(userId, exportFormat));
     }
 
-    @Operation(summary = "인기 게시물 조회", description = "최근 7일간 좋아요 많은 순 (공개)")
+    @Operation(summary = "인기 게시물 조회", description = "최근 7일간 좋아요 많은 순 (공개, slice=true 시 전체 개수를 세지 않음)")
     @GetMapping("/popular")
     public ResponseEntity<PagedResponseDto<PostResponseDto>> getPopularPosts(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean slice) {
         Long userId = userDetails != null ? userDetails.getId() : null;
-        return ResponseEntity.ok(postService.getPopularPosts(userId, page, size));
+        return ResponseEntity.ok(slice
+            ? postService.getPopularPostsSlice(userId, page, size)
+            : postService.getPopularPosts(userId, page, size));
     }
 
-    @Operation(summary = "주변 게시물 조회", description = "내 위치 기준 반경 내 게시물 (공개)")
+    @Operation(summary = "주변 게시물 조회", description = "내 위치 기준 반경 내 게시물 (공개, slice=true 시 거리 조건 COUNT 쿼리 생략)")
     @GetMapping("/nearby")
     public ResponseEntity<PagedResponseDto<PostResponseDto>> getNearbyPosts(
             @RequestParam double latitude,
@@ -52,31 +84,39 @@ public class PostController {
             @RequestParam(defaultValue = "5.0") double radius,
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean slice) {
         Long userId = userDetails != null ? userDetails.getId() : null;
-        return ResponseEntity.ok(
-            postService.getNearbyPosts(latitude, longitude, radius, userId, page, size));
+        return ResponseEntity.ok(slice
+            ? postService.getNearbyPostsSlice(latitude, longitude, radius, userId, page, size)
+            : postService.getNearbyPosts(latitude, longitude, radius, userId, page, size));
     }
 
-    @Operation(summary = "포토부스 피드 조회", description = "특정 포토부스의 게시물 조회 (공개)")
+    @Operation(summary = "포토부스 피드 조회", description = "특정 포토부스의 게시물 조회 (공개, slice=true 시 전체 개수를 세지 않고 근사치 반환)")
     @GetMapping("/photo-booth/{photoBoothId}")
     public ResponseEntity<PagedResponseDto<PostResponseDto>> getPhotoBoothPosts(
             @PathVariable Long photoBoothId,
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean slice) {
         Long userId = userDetails != null ? userDetails.getId() : null;
-        return ResponseEntity.ok(postService.getPhotoBoothPosts(photoBoothId, userId, page, size));
+        return ResponseEntity.ok(slice
+            ? postService.getPhotoBoothPostsSlice(photoBoothId, userId, page, size)
+            : postService.getPhotoBoothPosts(photoBoothId, userId, page, size));
     }
 
-    @Operation(summary = "내 게시물 조회", description = "내가 올린 게시물 조회 (로그인 필요)")
+    @Operation(summary = "내 게시물 조회", description = "내가 올린 게시물 조회 (로그인 필요, slice=true 시 전체 개수를 세지 않고 근사치 반환)")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/my")
     public ResponseEntity<PagedResponseDto<PostResponseDto>> getMyPosts(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        return ResponseEntity.ok(postService.getMyPosts(userDetails.getId(), page, size));
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean slice) {
+        return ResponseEntity.ok(slice
+            ? postService.getMyPostsSlice(userDetails.getId(), page, size)
+            : postService.getMyPosts(userDetails.getId(), page, size));
     }
 
     @Operation(summary = "게시물 작성", description = "사진 게시물 업로드 (로그인 필요)")
@@ -1,10 +1,12 @@
 package com.min.chalkakserver.controller;
 
+import com.min.chalkakserver.dto.CursorPageResponseDto;
 import com.min.chalkakserver.dto.PagedResponseDto;
 import com.min.chalkakserver.dto.review.ReviewRequestDto;
 import com.min.chalkakserver.dto.review.ReviewResponseDto;
 import com.min.chalkakserver.dto.review.ReviewStatsDto;
 import com.min.chalkakserver.security.CustomUserDetails;
+import com.min.chalkakserver.service.ExportService;
 import com.min.chalkakserver.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -14,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -25,6 +28,7 @@ import java.util.Map;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ExportService exportService;
 
     @Operation(summary = "리뷰 작성", description = "포토부스에 리뷰 작성 (로그인 필요)")
     @SecurityRequirement(name = "bearerAuth")
@@ -68,14 +72,27 @@ public class ReviewController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "포토부스 리뷰 목록 (페이징)", description = "특정 포토부스의 리뷰 목록 페이징 조회")
+    @Operation(summary = "포토부스 리뷰 내보내기", description = "특정 포토부스의 전체 리뷰를 스트리밍으로 내려받기 (format: json 또는 ndjson)")
+    @GetMapping("/photo-booth/{photoBoothId}/export")
+    public ResponseEntity<StreamingResponseBody> exportPhotoBoothReviews(
+            @PathVariable Long photoBoothId,
+            @RequestParam(defaultValue = "json") String format) {
+        ExportService.Format exportFormat = ExportService.Format.of(format);
+        return ResponseEntity.ok()
+            .contentType(exportFormat.getMediaType())
+            .body(exportService.exportPhotoBoothReviews(photoBoothId, exportFormat));
+    }
+
+    @Operation(summary = "포토부스 리뷰 목록 (페이징)", description = "특정 포토부스의 리뷰 목록 페이징 조회 (slice=true 시 전체 개수를 세지 않고 근사치 반환)")
     @GetMapping("/photo-booth/{photoBoothId}/paged")
     public ResponseEntity<PagedResponseDto<ReviewResponseDto>> getPhotoBoothReviewsPaged(
             @PathVariable Long photoBoothId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PagedResponseDto<ReviewResponseDto> response = 
-            reviewService.getPhotoBoothReviewsPaged(photoBoothId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean slice) {
+        PagedResponseDto<ReviewResponseDto> response = slice
+            ? reviewService.getPhotoBoothReviewsSlice(photoBoothId, page, size)
+            : reviewService.getPhotoBoothReviewsPaged(photoBoothId, page, size);
         return ResponseEntity.ok(response);
     }
 
@@ -108,15 +125,26 @@ public class ReviewController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "최근 리뷰 피드", description = "최근 작성된 리뷰 목록 조회 (공개)")
+    @Operation(summary = "최근 리뷰 피드", description = "최근 작성된 리뷰 목록 조회 (공개, slice=true 시 전체 개수를 세지 않고 근사치 반환)")
     @GetMapping("/recent")
     public ResponseEntity<PagedResponseDto<ReviewResponseDto>> getRecentReviews(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        PagedResponseDto<ReviewResponseDto> response = reviewService.getRecentReviews(page, size);
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean slice) {
+        PagedResponseDto<ReviewResponseDto> response = slice
+            ? reviewService.getRecentReviewsSlice(page, size)
+            : reviewService.getRecentReviews(page, size);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "최근 리뷰 피드 (커서)", description = "최근 작성된 리뷰 커서 페이지네이션 조회, 첫 페이지는 cursor를 비워 요청 (공개)")
+    @GetMapping(value = "/recent", params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<ReviewResponseDto>> getRecentReviewsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reviewService.getRecentReviewsByCursor(cursor, size));
+    }
+
     @Operation(summary = "특정 리뷰 조회", description = "리뷰 상세 조회")
     @GetMapping("/{reviewId}")
     public ResponseEntity<ReviewResponseDto> getReview(
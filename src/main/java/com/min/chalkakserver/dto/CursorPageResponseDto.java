@@ -0,0 +1,45 @@
+package com.min.chalkakserver.dto;
+
+import com.min.chalkakserver.util.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지네이션 응답 DTO
+ * 다음 페이지는 nextCursor를 그대로 cursor 파라미터로 넘겨 요청한다 (마지막 페이지면 nextCursor 없음).
+ * @param <T> 데이터 타입
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponseDto<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * (createdAt, id) 내림차순 Slice로부터 생성 - 마지막 행의 위치가 다음 커서가 된다.
+     */
+    public static <E, T> CursorPageResponseDto<T> from(Slice<E> slice, Function<E, KeysetCursor> cursorOf,
+                                                       Function<E, T> mapper) {
+        List<E> rows = slice.getContent();
+        String nextCursor = slice.hasNext() && !rows.isEmpty()
+                ? cursorOf.apply(rows.get(rows.size() - 1)).encode()
+                : null;
+        return CursorPageResponseDto.<T>builder()
+                .content(rows.stream().map(mapper).toList())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
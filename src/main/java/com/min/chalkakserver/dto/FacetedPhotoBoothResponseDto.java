@@ -0,0 +1,19 @@
+package com.min.chalkakserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사진관 목록 + facet 개수 응답 DTO (facets=true 요청)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedPhotoBoothResponseDto {
+
+    private List<PhotoBoothResponseDto> photoBooths;
+    private PhotoBoothFacetsDto facets;
+}
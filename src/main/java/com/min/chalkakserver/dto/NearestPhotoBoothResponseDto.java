@@ -0,0 +1,28 @@
+package com.min.chalkakserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가장 가까운 네컷사진관 응답 DTO (거리 포함)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearestPhotoBoothResponseDto {
+
+    private PhotoBoothResponseDto photoBooth;
+
+    // 요청 좌표로부터의 거리 (km, 소수점 3자리)
+    private double distance;
+
+    public static NearestPhotoBoothResponseDto of(PhotoBoothResponseDto photoBooth, double distanceKm) {
+        return NearestPhotoBoothResponseDto.builder()
+                .photoBooth(photoBooth)
+                .distance(Math.round(distanceKm * 1000) / 1000.0)
+                .build();
+    }
+}
@@ -5,11 +5,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 /**
  * 페이지네이션 응답 DTO
+ * Slice 모드(COUNT 쿼리 없음)에서는 approximate=true이며 totalElements/totalPages는 근사치이다.
  * @param <T> 데이터 타입
  */
 @Getter
@@ -27,6 +29,13 @@ public class PagedResponseDto<T> {
     private boolean last;
     private boolean hasNext;
     private boolean hasPrevious;
+    // Slice 모드에서만 true (정확한 전체 개수 응답에서는 생략)
+    private Boolean approximate;
+
+    public PagedResponseDto(List<T> content, int page, int size, long totalElements, int totalPages,
+                            boolean first, boolean last, boolean hasNext, boolean hasPrevious) {
+        this(content, page, size, totalElements, totalPages, first, last, hasNext, hasPrevious, null);
+    }
 
     /**
      * Spring Data Page 객체로부터 PagedResponseDto 생성
@@ -45,6 +54,34 @@ public class PagedResponseDto<T> {
                 .build();
     }
 
+    /**
+     * Spring Data Slice 객체로부터 PagedResponseDto 생성 (COUNT 쿼리 없이 size+1건으로 다음 페이지 여부만 판단)
+     * 전체 개수는 approximateTotal(캐시된 근사치, 없으면 null)과 지금까지 확인된 개수 중 큰 값으로 채운다.
+     * 마지막 페이지에 도달하면 확인된 개수가 곧 정확한 전체 개수이다.
+     */
+    public static <T> PagedResponseDto<T> from(Slice<T> slice, Long approximateTotal) {
+        long known = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+        long totalElements;
+        if (!slice.hasNext()) {
+            totalElements = known;
+        } else {
+            totalElements = Math.max(known + 1, approximateTotal != null ? approximateTotal : 0);
+        }
+        int totalPages = slice.getSize() > 0 ? (int) ((totalElements + slice.getSize() - 1) / slice.getSize()) : 1;
+        return PagedResponseDto.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .hasNext(slice.hasNext())
+                .hasPrevious(slice.hasPrevious())
+                .approximate(true)
+                .build();
+    }
+
     /**
      * 단순 리스트를 페이지네이션 응답으로 변환 (전체 데이터)
      */
@@ -0,0 +1,25 @@
+package com.min.chalkakserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 카탈로그 델타 동기화 응답 DTO
+ * 클라이언트는 version을 저장해 두었다가 다음 요청의 since로 보낸다.
+ * full이 true이면 upserted가 전체 목록이므로 로컬 카탈로그를 통째로 교체해야 한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhotoBoothChangesDto {
+
+    private long version;
+    private boolean full;
+    private List<PhotoBoothResponseDto> upserted;
+    private List<Long> deleted;
+}
@@ -0,0 +1,24 @@
+package com.min.chalkakserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 클러스터 응답 DTO
+ * count가 1이면 개별 사진관이며 photoBoothId/name/brand가 채워진다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhotoBoothClusterDto {
+
+    private double latitude;
+    private double longitude;
+    private int count;
+    private Long photoBoothId;
+    private String name;
+    private String brand;
+}
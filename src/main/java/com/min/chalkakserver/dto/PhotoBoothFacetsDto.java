@@ -0,0 +1,46 @@
+package com.min.chalkakserver.dto;
+
+import com.min.chalkakserver.index.PhotoBoothFilterIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 결과 목록의 브랜드/시리즈/태그별 사진관 수 (개수 내림차순)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhotoBoothFacetsDto {
+
+    private List<FacetCountDto> brands;
+    private List<FacetCountDto> series;
+    private List<FacetCountDto> tags;
+
+    public static PhotoBoothFacetsDto from(PhotoBoothFilterIndex.FacetCounts counts) {
+        return PhotoBoothFacetsDto.builder()
+                .brands(toDtos(counts.brands()))
+                .series(toDtos(counts.series()))
+                .tags(toDtos(counts.tags()))
+                .build();
+    }
+
+    private static List<FacetCountDto> toDtos(List<PhotoBoothFilterIndex.FacetCount> counts) {
+        return counts.stream()
+                .map(count -> new FacetCountDto(count.value(), count.count()))
+                .collect(Collectors.toList());
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetCountDto {
+        private String value;
+        private int count;
+    }
+}
@@ -27,33 +27,27 @@ public class PhotoBoothResponseDto {
     private LocalDateTime updatedAt;
     private List<PhotoBoothImageDto> images;
     private List<String> tags;
+    // 사진관 행에 유지되는 리뷰 집계 (캐시된 목록에서는 캐시 시점 값)
+    private Integer reviewCount;
+    private Double averageRating;
 
     public static PhotoBoothResponseDto from(PhotoBooth photoBooth) {
-        List<String> tagNames = photoBooth.getTags() != null
-                ? photoBooth.getTags().stream().map(t -> t.getName()).collect(Collectors.toList())
-                : List.of();
-        return PhotoBoothResponseDto.builder()
-                .id(photoBooth.getId())
-                .name(photoBooth.getName())
-                .brand(photoBooth.getBrand())
-                .series(photoBooth.getSeries())
-                .address(photoBooth.getAddress())
-                .roadAddress(photoBooth.getRoadAddress())
-                .latitude(photoBooth.getLatitude())
-                .longitude(photoBooth.getLongitude())
-                .description(photoBooth.getDescription())
-                .priceInfo(photoBooth.getPriceInfo())
-                .createdAt(photoBooth.getCreatedAt())
-                .updatedAt(photoBooth.getUpdatedAt())
-                .images(List.of())
-                .tags(tagNames)
-                .build();
+        return from(photoBooth, List.of());
     }
 
     public static PhotoBoothResponseDto from(PhotoBooth photoBooth, List<PhotoBoothImageDto> images) {
         List<String> tagNames = photoBooth.getTags() != null
                 ? photoBooth.getTags().stream().map(t -> t.getName()).collect(Collectors.toList())
                 : List.of();
+        return of(photoBooth, images, tagNames);
+    }
+
+    // 태그 이름을 따로 읽어온 경우 (스트리밍 내보내기 등 태그 컬렉션을 초기화하지 않고 변환)
+    public static PhotoBoothResponseDto withTagNames(PhotoBooth photoBooth, List<String> tagNames) {
+        return of(photoBooth, List.of(), tagNames);
+    }
+
+    private static PhotoBoothResponseDto of(PhotoBooth photoBooth, List<PhotoBoothImageDto> images, List<String> tagNames) {
         return PhotoBoothResponseDto.builder()
                 .id(photoBooth.getId())
                 .name(photoBooth.getName())
@@ -69,6 +63,8 @@ public class PhotoBoothResponseDto {
                 .updatedAt(photoBooth.getUpdatedAt())
                 .images(images)
                 .tags(tagNames)
+                .reviewCount(photoBooth.getReviewCount())
+                .averageRating(photoBooth.getAverageRating())
                 .build();
     }
     
@@ -88,5 +84,7 @@ public class PhotoBoothResponseDto {
         this.updatedAt = photoBooth.getUpdatedAt();
         this.images = List.of();
         this.tags = List.of();
+        this.reviewCount = photoBooth.getReviewCount();
+        this.averageRating = photoBooth.getAverageRating();
     }
 }
@@ -0,0 +1,32 @@
+package com.min.chalkakserver.dto;
+
+import com.min.chalkakserver.index.PhotoBoothSuggestIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색어 자동완성 응답 DTO
+ * type은 NAME, BRAND, SERIES, TAG 중 하나이며 NAME이면 photoBoothId가 채워진다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhotoBoothSuggestionDto {
+
+    private String text;
+    private String type;
+    private Long photoBoothId;
+    private long score;
+
+    public static PhotoBoothSuggestionDto from(PhotoBoothSuggestIndex.Suggestion suggestion) {
+        return PhotoBoothSuggestionDto.builder()
+                .text(suggestion.text())
+                .type(suggestion.type().name())
+                .photoBoothId(suggestion.photoBoothId())
+                .score(suggestion.score())
+                .build();
+    }
+}
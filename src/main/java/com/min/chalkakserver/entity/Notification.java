@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 @Table(name = "notifications",
     indexes = {
         @Index(name = "idx_notification_user_id", columnList = "user_id"),
-        @Index(name = "idx_notification_created_at", columnList = "created_at")
+        @Index(name = "idx_notification_created_at", columnList = "created_at"),
+        @Index(name = "idx_notification_user_created", columnList = "user_id, created_at")
     })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
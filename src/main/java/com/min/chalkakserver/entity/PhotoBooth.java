@@ -9,6 +9,8 @@ import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 @Entity
@@ -17,7 +19,8 @@ import java.util.Set;
         @Index(name = "idx_location", columnList = "latitude,longitude"),
         @Index(name = "idx_brand", columnList = "brand"),
         @Index(name = "idx_name", columnList = "name"),
-        @Index(name = "idx_brand_series", columnList = "brand,series")
+        @Index(name = "idx_brand_series", columnList = "brand,series"),
+        @Index(name = "idx_updated_at", columnList = "updated_at")
     })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -66,6 +69,30 @@ public class PhotoBooth {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 리뷰 집계 (리뷰 수, 평점 합계, 1~5점 분포)
+    // 리뷰 작성/수정/삭제 트랜잭션에서 PhotoBoothRepository의 원자적 UPDATE로만 바꾸고 주기적으로 리뷰 테이블과 맞춘다.
+    // 엔티티 저장이 오래된 값으로 덮어쓰지 않도록 updatable = false 이다.
+    @Column(name = "review_count", nullable = false, updatable = false)
+    private int reviewCount = 0;
+
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    private long ratingSum = 0;
+
+    @Column(name = "rating1_count", nullable = false, updatable = false)
+    private int rating1Count = 0;
+
+    @Column(name = "rating2_count", nullable = false, updatable = false)
+    private int rating2Count = 0;
+
+    @Column(name = "rating3_count", nullable = false, updatable = false)
+    private int rating3Count = 0;
+
+    @Column(name = "rating4_count", nullable = false, updatable = false)
+    private int rating4Count = 0;
+
+    @Column(name = "rating5_count", nullable = false, updatable = false)
+    private int rating5Count = 0;
+
     // 목록 응답은 booth마다 태그를 읽으므로, 배치로 묶어 N+1을 방지한다
     // (네이티브 쿼리 경로인 nearby/popular 포함 전 조회 경로에 적용됨)
     @ManyToMany(fetch = FetchType.LAZY)
@@ -105,9 +132,27 @@ public class PhotoBooth {
         this.priceInfo = priceInfo;
     }
     
+    // 평균 평점 (소수점 첫째 자리, 리뷰가 없으면 0.0)
+    public double getAverageRating() {
+        return reviewCount > 0 ? Math.round(ratingSum * 10.0 / reviewCount) / 10.0 : 0.0;
+    }
+
+    // 별점별 리뷰 수 (1점~5점)
+    public Map<Integer, Long> getRatingDistribution() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        distribution.put(1, (long) rating1Count);
+        distribution.put(2, (long) rating2Count);
+        distribution.put(3, (long) rating3Count);
+        distribution.put(4, (long) rating4Count);
+        distribution.put(5, (long) rating5Count);
+        return distribution;
+    }
+
     public void updateTags(Set<Tag> newTags) {
         this.tags.clear();
         this.tags.addAll(newTags);
+        // 태그만 바뀌어도 델타 동기화에 잡히도록 수정 시각을 갱신한다
+        this.updatedAt = LocalDateTime.now();
     }
 
     public void update(String name, String brand, String series, String address, String roadAddress,
@@ -0,0 +1,41 @@
+package com.min.chalkakserver.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 네컷사진관 기록 (델타 동기화용)
+ * 행이 사라지면 updatedAt으로는 삭제를 알 수 없으므로, 삭제 시점을 따로 남겨 클라이언트에 전달한다.
+ */
+@Entity
+@Table(name = "photo_booth_tombstones",
+    indexes = {
+        @Index(name = "idx_tombstone_deleted_at", columnList = "deleted_at")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PhotoBoothTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "photo_booth_id", nullable = false)
+    private Long photoBoothId;
+
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    public PhotoBoothTombstone(Long photoBoothId) {
+        this.photoBoothId = photoBoothId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        deletedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,11 @@
+package com.min.chalkakserver.exception;
+
+/**
+ * 인메모리 인덱스가 아직 적재되지 않아 요청을 처리할 수 없을 때 발생하는 예외
+ */
+public class IndexNotReadyException extends RuntimeException {
+    
+    public IndexNotReadyException(String message) {
+        super(message);
+    }
+}
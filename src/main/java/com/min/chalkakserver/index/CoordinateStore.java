@@ -0,0 +1,144 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.util.GeoUtils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 전수 거리 스캔용 좌표 저장소 (구조체 배열, SoA)
+ *
+ * 위경도를 단위 구 위의 3차원 좌표(x, y, z)로 미리 변환해 primitive double[]에 나란히 담아둔다.
+ * 두 점 사이의 현(chord) 길이는 구면 거리와 단조 관계이므로, 반경 검사는 점마다 삼각함수 없이
+ * 곱셈/덧셈 몇 번으로 끝나고 {@link DistanceKernel}이 여러 점을 한 번에 비교한다.
+ * 삭제는 마지막 원소를 빈자리로 옮겨 배열을 빈틈없이 유지한다.
+ * 스레드 안전하지 않으므로 소유자(공간 인덱스)의 락 안에서만 사용한다.
+ */
+final class CoordinateStore {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private double[] xs = new double[INITIAL_CAPACITY];
+    private double[] ys = new double[INITIAL_CAPACITY];
+    private double[] zs = new double[INITIAL_CAPACITY];
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private int size = 0;
+
+    int size() {
+        return size;
+    }
+
+    long idAt(int position) {
+        return ids[position];
+    }
+
+    void clear() {
+        positions.clear();
+        size = 0;
+    }
+
+    /**
+     * 좌표를 추가하거나, 이미 있는 ID면 제자리에서 좌표를 바꾼다.
+     */
+    void put(long id, double latitude, double longitude) {
+        Integer position = positions.get(id);
+        if (position == null) {
+            ensureCapacity(size + 1);
+            position = size++;
+            positions.put(id, position);
+            ids[position] = id;
+        }
+        double latRad = Math.toRadians(latitude);
+        double lonRad = Math.toRadians(longitude);
+        double cosLat = Math.cos(latRad);
+        xs[position] = cosLat * Math.cos(lonRad);
+        ys[position] = cosLat * Math.sin(lonRad);
+        zs[position] = Math.sin(latRad);
+    }
+
+    void remove(long id) {
+        Integer position = positions.remove(id);
+        if (position == null) {
+            return;
+        }
+        int last = --size;
+        if (position != last) {
+            ids[position] = ids[last];
+            xs[position] = xs[last];
+            ys[position] = ys[last];
+            zs[position] = zs[last];
+            positions.put(ids[position], position);
+        }
+    }
+
+    /**
+     * 반경(km) 이내 좌표의 위치(순서 없음)를 반환한다.
+     */
+    int[] findWithinRadius(double latitude, double longitude, double radiusKm) {
+        double[] query = unitVector(latitude, longitude);
+        double maxChord = 2 * Math.sin(Math.min(Math.PI, radiusKm / GeoUtils.EARTH_RADIUS_KM) / 2);
+        int[] hits = new int[size];
+        int count = DistanceKernel.collectWithin(xs, ys, zs, size,
+                query[0], query[1], query[2], maxChord * maxChord, hits);
+        return Arrays.copyOf(hits, count);
+    }
+
+    /**
+     * 가장 가까운 좌표 k개의 위치를 거리순으로 반환한다.
+     */
+    int[] findNearest(double latitude, double longitude, int k) {
+        double[] query = unitVector(latitude, longitude);
+        double[] chordSquared = new double[size];
+        DistanceKernel.chordSquared(xs, ys, zs, size, query[0], query[1], query[2], chordSquared);
+
+        int limit = Math.min(k, size);
+        PriorityQueue<Integer> best = new PriorityQueue<>(
+                (a, b) -> Double.compare(chordSquared[b], chordSquared[a]));
+        for (int position = 0; position < size; position++) {
+            if (best.size() < limit) {
+                best.add(position);
+            } else if (limit > 0 && chordSquared[position] < chordSquared[best.peek()]) {
+                best.poll();
+                best.add(position);
+            }
+        }
+        int[] result = new int[best.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = best.poll();
+        }
+        return result;
+    }
+
+    /**
+     * 위치의 좌표까지의 구면 거리(km)
+     */
+    double distanceKm(int position, double latitude, double longitude) {
+        double[] query = unitVector(latitude, longitude);
+        double dx = xs[position] - query[0];
+        double dy = ys[position] - query[1];
+        double dz = zs[position] - query[2];
+        double chord = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        return 2 * GeoUtils.EARTH_RADIUS_KM * Math.asin(Math.min(1.0, chord / 2));
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newCapacity);
+        xs = Arrays.copyOf(xs, newCapacity);
+        ys = Arrays.copyOf(ys, newCapacity);
+        zs = Arrays.copyOf(zs, newCapacity);
+    }
+
+    private static double[] unitVector(double latitude, double longitude) {
+        double latRad = Math.toRadians(latitude);
+        double lonRad = Math.toRadians(longitude);
+        double cosLat = Math.cos(latRad);
+        return new double[] {cosLat * Math.cos(lonRad), cosLat * Math.sin(lonRad), Math.sin(latRad)};
+    }
+}
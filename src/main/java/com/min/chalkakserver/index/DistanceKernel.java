@@ -0,0 +1,63 @@
+package com.min.chalkakserver.index;
+
+/**
+ * 단위 구 좌표 배열에 대한 거리 계산 커널
+ *
+ * 실행 환경에 jdk.incubator.vector 모듈이 있으면({@code --add-modules jdk.incubator.vector})
+ * {@link VectorDistanceKernel}의 SIMD 구현을, 없으면 같은 연산 순서의 스칼라 구현을 사용한다.
+ * 두 구현은 연산 순서가 같아 결과도 비트 단위로 같다.
+ */
+final class DistanceKernel {
+
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private DistanceKernel() {
+    }
+
+    /**
+     * 질의 점까지의 현 길이 제곱이 maxChordSquared 이하인 위치를 out에 담고 개수를 반환한다.
+     */
+    static int collectWithin(double[] xs, double[] ys, double[] zs, int size,
+                             double qx, double qy, double qz, double maxChordSquared, int[] out) {
+        if (VECTORIZED) {
+            return VectorDistanceKernel.collectWithin(xs, ys, zs, size, qx, qy, qz, maxChordSquared, out);
+        }
+        return collectWithinScalar(xs, ys, zs, 0, size, qx, qy, qz, maxChordSquared, out, 0);
+    }
+
+    /**
+     * 모든 위치의 현 길이 제곱을 out에 채운다.
+     */
+    static void chordSquared(double[] xs, double[] ys, double[] zs, int size,
+                             double qx, double qy, double qz, double[] out) {
+        if (VECTORIZED) {
+            VectorDistanceKernel.chordSquared(xs, ys, zs, size, qx, qy, qz, out);
+            return;
+        }
+        chordSquaredScalar(xs, ys, zs, 0, size, qx, qy, qz, out);
+    }
+
+    static int collectWithinScalar(double[] xs, double[] ys, double[] zs, int from, int to,
+                                   double qx, double qy, double qz, double maxChordSquared,
+                                   int[] out, int count) {
+        for (int i = from; i < to; i++) {
+            double dx = xs[i] - qx;
+            double dy = ys[i] - qy;
+            double dz = zs[i] - qz;
+            if (dx * dx + dy * dy + dz * dz <= maxChordSquared) {
+                out[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    static void chordSquaredScalar(double[] xs, double[] ys, double[] zs, int from, int to,
+                                   double qx, double qy, double qz, double[] out) {
+        for (int i = from; i < to; i++) {
+            double dx = xs[i] - qx;
+            double dy = ys[i] - qy;
+            double dz = zs[i] - qz;
+            out[i] = dx * dx + dy * dy + dz * dz;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.min.chalkakserver.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 길이 1~maxGram n-gram → 사진관 ID 목록(posting list)
+ *
+ * 부분 문자열 검색의 후보를 좁히는 용도로만 쓴다. 후보는 n-gram이 모두 있을 뿐 연속된다는 보장이 없으므로
+ * 호출 측이 실제 포함 여부를 다시 확인해야 한다.
+ * 스레드 안전하지 않으므로 소유자(인덱스)의 락 안에서만 사용한다.
+ */
+final class NGramPostings {
+
+    private final int maxGram;
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    NGramPostings(int maxGram) {
+        this.maxGram = maxGram;
+    }
+
+    void add(Long id, Collection<String> fields) {
+        for (String gram : allGrams(fields)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    void remove(Long id, Collection<String> fields) {
+        for (String gram : allGrams(fields)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * 검색어의 n-gram posting list를 짧은 것부터 교집합한다.
+     */
+    Set<Long> candidates(String query) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(query, Math.min(query.length(), maxGram))) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+        }
+        if (lists.isEmpty()) {
+            return Set.of();
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private Set<String> allGrams(Collection<String> fields) {
+        Set<String> grams = new HashSet<>();
+        for (String field : fields) {
+            for (int n = 1; n <= maxGram; n++) {
+                grams.addAll(grams(field, n));
+            }
+        }
+        return grams;
+    }
+
+    // 길이 n인 연속 부분 문자열 (문자열이 n보다 짧으면 없음)
+    private static Set<String> grams(String text, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+        return grams;
+    }
+}
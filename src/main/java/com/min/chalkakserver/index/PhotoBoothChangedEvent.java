@@ -0,0 +1,43 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 네컷사진관 생성/수정/삭제 이벤트
+ * 트랜잭션 커밋 이후 인메모리 인덱스를 갱신하는 데 사용된다.
+ * before는 변경 전 상태(생성 시 null), after는 변경 후 상태(삭제 시 null)이다.
+ * remote는 다른 노드에서 커밋된 변경을 전달받은 것으로, 트랜잭션 밖에서 발행되며 노드 로컬 상태만 갱신한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PhotoBoothChangedEvent {
+
+    private final Long photoBoothId;
+    private final PhotoBoothResponseDto before;
+    private final PhotoBoothResponseDto after;
+    private final boolean remote;
+
+    public static PhotoBoothChangedEvent created(PhotoBoothResponseDto after) {
+        return new PhotoBoothChangedEvent(after.getId(), null, after, false);
+    }
+
+    public static PhotoBoothChangedEvent updated(PhotoBoothResponseDto before, PhotoBoothResponseDto after) {
+        return new PhotoBoothChangedEvent(after.getId(), before, after, false);
+    }
+
+    public static PhotoBoothChangedEvent deleted(PhotoBoothResponseDto before) {
+        return new PhotoBoothChangedEvent(before.getId(), before, null, false);
+    }
+
+    public static PhotoBoothChangedEvent remote(Long photoBoothId, PhotoBoothResponseDto before,
+                                                PhotoBoothResponseDto after) {
+        return new PhotoBoothChangedEvent(photoBoothId, before, after, true);
+    }
+
+    public boolean isDeleted() {
+        return after == null;
+    }
+}
@@ -0,0 +1,182 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 한글 초성 검색 인덱스 ("ㅇㅅㄴㅋ" → "인생네컷")
+ *
+ * 사진관 이름과 브랜드를 정규화한 뒤 한글 음절을 초성으로 바꾼 투영 문자열("인생네컷 강남" → "ㅇㅅㄴㅋㄱㄴ")을
+ * 미리 만들어 n-gram posting list에 담는다. 검색어가 초성(과 영문/숫자)으로만 이루어져 있으면
+ * 투영 문자열에서 부분 문자열(접두사 포함)로 찾는다.
+ * 초성은 19가지뿐이라 n-gram 선택도가 낮으므로 {@link PhotoBoothTextIndex}보다 긴 n-gram을 쓴다.
+ */
+@Component
+public class PhotoBoothChosungIndex implements PhotoBoothIndex {
+
+    static final int MAX_GRAM = 4;
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+    private static final char[] INITIALS = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final NGramPostings postings = new NGramPostings(MAX_GRAM);
+    private volatile boolean ready = false;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<PhotoBoothResponseDto> photoBooths) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            for (PhotoBoothResponseDto photoBooth : photoBooths) {
+                insert(photoBooth);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(PhotoBoothResponseDto photoBooth) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBooth.getId());
+            insert(photoBooth);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long photoBoothId) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBoothId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 초성 검색어가 이름/브랜드의 초성 투영에 포함된 사진관을 ID 오름차순으로 반환한다.
+     */
+    public List<PhotoBoothResponseDto> search(String keyword) {
+        String query = PhotoBoothTextIndex.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        List<PhotoBoothResponseDto> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : postings.candidates(query)) {
+                Document document = documents.get(id);
+                if (document != null && document.contains(query)) {
+                    result.add(document.photoBooth());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        result.sort(Comparator.comparing(PhotoBoothResponseDto::getId));
+        return result;
+    }
+
+    /**
+     * 초성이 하나 이상 있고 완성된 한글 음절은 없는 검색어인지 ("ㅇㅅㄴㅋ", "ㅍㅌㅇㅈ 2")
+     */
+    public static boolean isChosungQuery(String keyword) {
+        if (keyword == null) {
+            return false;
+        }
+        boolean hasInitial = false;
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (isSyllable(c)) {
+                return false;
+            }
+            hasInitial |= isInitial(c);
+        }
+        return hasInitial;
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼다. 그 밖의 문자는 그대로 둔다.
+     */
+    static String toChosung(String text) {
+        StringBuilder chosung = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            chosung.append(isSyllable(c) ? INITIALS[(c - HANGUL_BASE) / SYLLABLES_PER_INITIAL] : c);
+        }
+        return chosung.toString();
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private static boolean isInitial(char c) {
+        for (char initial : INITIALS) {
+            if (c == initial) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void insert(PhotoBoothResponseDto photoBooth) {
+        if (photoBooth.getId() == null) {
+            return;
+        }
+        List<String> fields = Stream.of(photoBooth.getName(), photoBooth.getBrand())
+                .map(PhotoBoothTextIndex::normalize)
+                .filter(field -> !field.isEmpty())
+                .map(PhotoBoothChosungIndex::toChosung)
+                .toList();
+        documents.put(photoBooth.getId(), new Document(photoBooth, fields));
+        postings.add(photoBooth.getId(), fields);
+    }
+
+    private void delete(Long photoBoothId) {
+        Document removed = documents.remove(photoBoothId);
+        if (removed != null) {
+            postings.remove(photoBoothId, removed.fields());
+        }
+    }
+
+    private record Document(PhotoBoothResponseDto photoBooth, List<String> fields) {
+
+        boolean contains(String query) {
+            for (String field : fields) {
+                if (field.contains(query)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
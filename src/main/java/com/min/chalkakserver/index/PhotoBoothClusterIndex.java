@@ -0,0 +1,239 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.util.GeoUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 지도 클러스터 피라미드 (줌 레벨별 격자 클러스터)
+ *
+ * 사진관 좌표를 Web Mercator 평면([0, 1] 범위)으로 투영하고, 줌 레벨마다
+ * CLUSTER_CELL_PX 픽셀 크기의 격자 칸 하나를 클러스터 하나로 집계해 둔다.
+ * 칸마다 개수/좌표 합계만 유지하므로 사진관 하나의 추가/삭제는 줌 레벨 수만큼의 갱신으로 끝나고,
+ * 화면 범위 조회는 화면을 덮는 칸 수(화면 크기 / CLUSTER_CELL_PX)로 결과 개수가 제한된다.
+ */
+@Component
+public class PhotoBoothClusterIndex implements PhotoBoothIndex {
+
+    static final int MAX_CLUSTER_ZOOM = 16;
+
+    // 256px 타일 기준 클러스터 한 칸의 크기
+    private static final int TILE_SIZE_PX = 256;
+    private static final int CLUSTER_CELL_PX = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Point> points = new HashMap<>();
+    private final List<Map<Long, Cluster>> levels = new ArrayList<>();
+    private volatile boolean ready = false;
+
+    public PhotoBoothClusterIndex() {
+        for (int zoom = 0; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<PhotoBoothResponseDto> photoBooths) {
+        lock.writeLock().lock();
+        try {
+            points.clear();
+            levels.forEach(Map::clear);
+            for (PhotoBoothResponseDto photoBooth : photoBooths) {
+                insert(photoBooth);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(PhotoBoothResponseDto photoBooth) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBooth.getId());
+            insert(photoBooth);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long photoBoothId) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBoothId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 화면 범위(bbox)와 줌 레벨에 해당하는 클러스터 목록을 반환한다.
+     * MAX_CLUSTER_ZOOM보다 확대된 화면에서는 클러스터를 풀어 개별 사진관을 반환한다.
+     * west > east 이면 날짜변경선을 넘는 범위로 본다.
+     */
+    public List<ClusterView> findClusters(double west, double south, double east, double north, int zoom) {
+        int level = Math.max(0, Math.min(zoom, MAX_CLUSTER_ZOOM));
+        boolean expand = zoom > MAX_CLUSTER_ZOOM;
+
+        List<ClusterView> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (west > east) {
+                collect(level, west, south, 180.0, north, expand, result);
+                collect(level, -180.0, south, east, north, expand, result);
+            } else {
+                collect(level, west, south, east, north, expand, result);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private void collect(int level, double west, double south, double east, double north,
+                         boolean expand, List<ClusterView> result) {
+        double minX = GeoUtils.mercatorX(west);
+        double maxX = GeoUtils.mercatorX(east);
+        double minY = GeoUtils.mercatorY(north);
+        double maxY = GeoUtils.mercatorY(south);
+
+        long cellsPerAxis = cellsPerAxis(level);
+        long minCellX = cellIndex(minX, cellsPerAxis);
+        long maxCellX = cellIndex(maxX, cellsPerAxis);
+        long minCellY = cellIndex(minY, cellsPerAxis);
+        long maxCellY = cellIndex(maxY, cellsPerAxis);
+
+        Map<Long, Cluster> clusters = levels.get(level);
+        long cellCount = (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1);
+        if (cellCount > clusters.size()) {
+            for (Cluster cluster : clusters.values()) {
+                addIfInside(cluster, minX, minY, maxX, maxY, expand, result);
+            }
+            return;
+        }
+        for (long cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (long cellY = minCellY; cellY <= maxCellY; cellY++) {
+                Cluster cluster = clusters.get(cellKey(cellX, cellY));
+                if (cluster != null) {
+                    addIfInside(cluster, minX, minY, maxX, maxY, expand, result);
+                }
+            }
+        }
+    }
+
+    private void addIfInside(Cluster cluster, double minX, double minY, double maxX, double maxY,
+                             boolean expand, List<ClusterView> result) {
+        if (expand || cluster.count == 1) {
+            for (Long memberId : cluster.memberIds) {
+                Point point = points.get(memberId);
+                if (inside(point.x(), point.y(), minX, minY, maxX, maxY)) {
+                    result.add(ClusterView.single(point.photoBooth()));
+                }
+            }
+            return;
+        }
+        double x = cluster.sumX / cluster.count;
+        double y = cluster.sumY / cluster.count;
+        if (inside(x, y, minX, minY, maxX, maxY)) {
+            result.add(ClusterView.group(GeoUtils.mercatorLatitude(y), GeoUtils.mercatorLongitude(x), cluster.count));
+        }
+    }
+
+    private void insert(PhotoBoothResponseDto photoBooth) {
+        if (photoBooth.getId() == null || photoBooth.getLatitude() == null || photoBooth.getLongitude() == null) {
+            return;
+        }
+        Point point = new Point(GeoUtils.mercatorX(photoBooth.getLongitude()),
+                GeoUtils.mercatorY(photoBooth.getLatitude()), photoBooth);
+        points.put(photoBooth.getId(), point);
+        for (int level = 0; level <= MAX_CLUSTER_ZOOM; level++) {
+            long cellsPerAxis = cellsPerAxis(level);
+            long key = cellKey(cellIndex(point.x(), cellsPerAxis), cellIndex(point.y(), cellsPerAxis));
+            Cluster cluster = levels.get(level).computeIfAbsent(key, k -> new Cluster());
+            cluster.count++;
+            cluster.sumX += point.x();
+            cluster.sumY += point.y();
+            cluster.memberIds.add(photoBooth.getId());
+        }
+    }
+
+    private void delete(Long photoBoothId) {
+        Point point = points.remove(photoBoothId);
+        if (point == null) {
+            return;
+        }
+        for (int level = 0; level <= MAX_CLUSTER_ZOOM; level++) {
+            long cellsPerAxis = cellsPerAxis(level);
+            long key = cellKey(cellIndex(point.x(), cellsPerAxis), cellIndex(point.y(), cellsPerAxis));
+            Map<Long, Cluster> clusters = levels.get(level);
+            Cluster cluster = clusters.get(key);
+            if (cluster == null) {
+                continue;
+            }
+            cluster.count--;
+            cluster.sumX -= point.x();
+            cluster.sumY -= point.y();
+            cluster.memberIds.remove(photoBoothId);
+            if (cluster.count == 0) {
+                clusters.remove(key);
+            }
+        }
+    }
+
+    private static boolean inside(double x, double y, double minX, double minY, double maxX, double maxY) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+
+    private static long cellsPerAxis(int level) {
+        return (1L << level) * (TILE_SIZE_PX / CLUSTER_CELL_PX);
+    }
+
+    private static long cellIndex(double projected, long cellsPerAxis) {
+        return Math.min(cellsPerAxis - 1, (long) Math.floor(projected * cellsPerAxis));
+    }
+
+    private static long cellKey(long cellX, long cellY) {
+        return (cellX << 32) | cellY;
+    }
+
+    private record Point(double x, double y, PhotoBoothResponseDto photoBooth) {
+    }
+
+    private static final class Cluster {
+        private int count;
+        private double sumX;
+        private double sumY;
+        private final Set<Long> memberIds = new HashSet<>();
+    }
+
+    /**
+     * 조회 결과 - 여러 사진관이 묶인 클러스터이거나(photoBooth == null) 개별 사진관이다.
+     */
+    public record ClusterView(double latitude, double longitude, int count, PhotoBoothResponseDto photoBooth) {
+
+        static ClusterView group(double latitude, double longitude, int count) {
+            return new ClusterView(latitude, longitude, count, null);
+        }
+
+        static ClusterView single(PhotoBoothResponseDto photoBooth) {
+            return new ClusterView(photoBooth.getLatitude(), photoBooth.getLongitude(), 1, photoBooth);
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 브랜드/시리즈/태그/평점 조합 필터 및 facet 집계용 비트맵 인덱스
+ *
+ * 사진관마다 0부터 빈틈없이 슬롯 번호를 붙이고, 브랜드/시리즈/태그 값마다 해당 사진관 슬롯의 비트맵을,
+ * 평점은 "평균 n점 이상"(n = 1~5) 누적 비트맵을 둔다. 조건 조합은 같은 항목 안에서는 OR, 항목끼리는 AND를
+ * 비트맵 연산 몇 번으로 끝낸다. 슬롯이 조밀하므로 사진관 수천 곳이면 비트맵 하나가 수백 바이트라
+ * 별도 압축 비트맵 라이브러리 없이 {@link BitSet}을 쓴다. 삭제된 슬롯은 재사용한다.
+ * 같은 비트맵으로 검색/근처 결과의 브랜드/시리즈/태그별 개수(facet)도 센다.
+ * 값 비교는 정규화(소문자, 공백 제거)한 완전 일치이다.
+ * 평균 평점은 사진관 응답에 담긴 값(사진관 행의 리뷰 집계)을 쓴다. 리뷰가 바뀌면 사진관 수정 이벤트로
+ * 갱신된 응답이 upsert되므로 평점 구간도 그때 바로 옮겨진다.
+ */
+@Component
+public class PhotoBoothFilterIndex implements PhotoBoothIndex {
+
+    static final int MAX_RATING = 5;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final List<PhotoBoothResponseDto> photoBooths = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private final Facet brands = new Facet();
+    private final Facet series = new Facet();
+    private final Facet tags = new Facet();
+    // ratingAtLeast[n] = 평균 평점이 n점 이상인 사진관 (n = 1~5)
+    private final BitSet[] ratingAtLeast = ratingBitmaps();
+    private volatile boolean ready = false;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<PhotoBoothResponseDto> photoBooths) {
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            this.photoBooths.clear();
+            freeSlots.clear();
+            live.clear();
+            brands.clear();
+            series.clear();
+            tags.clear();
+            for (int rating = 1; rating <= MAX_RATING; rating++) {
+                ratingAtLeast[rating].clear();
+            }
+            for (PhotoBoothResponseDto photoBooth : photoBooths) {
+                insert(photoBooth);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(PhotoBoothResponseDto photoBooth) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBooth.getId());
+            insert(photoBooth);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long photoBoothId) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBoothId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 사진관 집합
+     */
+    public Matches match(Criteria criteria) {
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) live.clone();
+            and(result, brands, criteria.brands());
+            and(result, series, criteria.series());
+            for (String tag : criteria.tags()) {
+                and(result, tags, List.of(tag));
+            }
+            if (criteria.minRating() != null && criteria.minRating() > 0) {
+                applyMinRating(result, criteria.minRating());
+            }
+
+            Map<Long, PhotoBoothResponseDto> matched = new HashMap<>();
+            List<PhotoBoothResponseDto> ordered = new ArrayList<>(result.cardinality());
+            for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+                PhotoBoothResponseDto photoBooth = photoBooths.get(slot);
+                matched.put(photoBooth.getId(), photoBooth);
+                ordered.add(photoBooth);
+            }
+            ordered.sort(Comparator.comparing(PhotoBoothResponseDto::getId));
+            return new Matches(matched, ordered);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 사진관들의 브랜드/시리즈/태그별 개수 - 값마다 비트맵과 결과 비트맵의 교집합 크기를 센다.
+     */
+    public FacetCounts countFacets(Collection<Long> photoBoothIds) {
+        lock.readLock().lock();
+        try {
+            BitSet result = new BitSet();
+            for (Long id : photoBoothIds) {
+                Integer slot = slots.get(id);
+                if (slot != null) {
+                    result.set(slot);
+                }
+            }
+            return new FacetCounts(brands.count(result), series.count(result), tags.count(result));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스 없이 목록만으로 facet 개수를 센다. (인덱스 적재 전 대체 경로)
+     */
+    public static FacetCounts countFacets(List<PhotoBoothResponseDto> photoBooths) {
+        Facet brands = new Facet();
+        Facet series = new Facet();
+        Facet tags = new Facet();
+        BitSet all = new BitSet();
+        for (int slot = 0; slot < photoBooths.size(); slot++) {
+            int current = slot;
+            all.set(slot);
+            forEachValue(photoBooths.get(slot), brands, series, tags,
+                    (facet, key, label) -> facet.add(key, label, current));
+        }
+        return new FacetCounts(brands.count(all), series.count(all), tags.count(all));
+    }
+
+    /**
+     * 전체 브랜드 목록 (이름순)
+     */
+    public List<String> brands() {
+        lock.readLock().lock();
+        try {
+            return brands.labels.values().stream().sorted().toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 같은 항목의 여러 값은 OR, 그 결과를 AND (값이 없으면 조건 없음)
+    private static void and(BitSet result, Facet facet, Collection<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        BitSet any = new BitSet();
+        for (String value : values) {
+            BitSet bitmap = facet.bitmaps.get(PhotoBoothTextIndex.normalize(value));
+            if (bitmap != null) {
+                any.or(bitmap);
+            }
+        }
+        result.and(any);
+    }
+
+    // 정수 부분은 누적 비트맵으로 거르고, 소수 부분(예: 4.5점 이상)은 남은 후보만 실제 평균과 비교한다
+    private void applyMinRating(BitSet result, double minRating) {
+        if (minRating > MAX_RATING) {
+            result.clear();
+            return;
+        }
+        int floor = (int) Math.floor(minRating);
+        if (floor >= 1) {
+            result.and(ratingAtLeast[floor]);
+        }
+        if (minRating == floor) {
+            return;
+        }
+        for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+            Double average = averageRating(photoBooths.get(slot));
+            if (average == null || average < minRating) {
+                result.clear(slot);
+            }
+        }
+    }
+
+    private void insert(PhotoBoothResponseDto photoBooth) {
+        if (photoBooth.getId() == null) {
+            return;
+        }
+        int slot = freeSlots.isEmpty() ? photoBooths.size() : freeSlots.pop();
+        if (slot == photoBooths.size()) {
+            photoBooths.add(photoBooth);
+        } else {
+            photoBooths.set(slot, photoBooth);
+        }
+        slots.put(photoBooth.getId(), slot);
+        live.set(slot);
+        forEachValue(photoBooth, (facet, key, label) -> facet.add(key, label, slot));
+        Double average = averageRating(photoBooth);
+        for (int rating = 1; rating <= MAX_RATING; rating++) {
+            if (average != null && average >= rating) {
+                ratingAtLeast[rating].set(slot);
+            }
+        }
+    }
+
+    // 리뷰가 없는 사진관은 평점 조건에 걸리지 않는다
+    private static Double averageRating(PhotoBoothResponseDto photoBooth) {
+        Integer reviewCount = photoBooth.getReviewCount();
+        return reviewCount != null && reviewCount > 0 ? photoBooth.getAverageRating() : null;
+    }
+
+    private void delete(Long photoBoothId) {
+        Integer slot = slots.remove(photoBoothId);
+        if (slot == null) {
+            return;
+        }
+        PhotoBoothResponseDto removed = photoBooths.set(slot, null);
+        live.clear(slot);
+        forEachValue(removed, (facet, key, label) -> facet.remove(key, slot));
+        for (int rating = 1; rating <= MAX_RATING; rating++) {
+            ratingAtLeast[rating].clear(slot);
+        }
+        freeSlots.push(slot);
+    }
+
+    private void forEachValue(PhotoBoothResponseDto photoBooth, ValueConsumer consumer) {
+        forEachValue(photoBooth, brands, series, tags, consumer);
+    }
+
+    private static void forEachValue(PhotoBoothResponseDto photoBooth, Facet brands, Facet series, Facet tags,
+                                     ValueConsumer consumer) {
+        accept(brands, List.of(nullToEmpty(photoBooth.getBrand())), consumer);
+        accept(series, List.of(nullToEmpty(photoBooth.getSeries())), consumer);
+        accept(tags, photoBooth.getTags() != null ? photoBooth.getTags() : List.of(), consumer);
+    }
+
+    private static void accept(Facet facet, Collection<String> values, ValueConsumer consumer) {
+        Map<String, String> labels = new LinkedHashMap<>();
+        for (String value : values) {
+            String key = PhotoBoothTextIndex.normalize(value);
+            if (!key.isEmpty()) {
+                labels.putIfAbsent(key, value.trim());
+            }
+        }
+        labels.forEach((key, label) -> consumer.accept(facet, key, label));
+    }
+
+    private static BitSet[] ratingBitmaps() {
+        BitSet[] bitmaps = new BitSet[MAX_RATING + 1];
+        for (int rating = 1; rating <= MAX_RATING; rating++) {
+            bitmaps[rating] = new BitSet();
+        }
+        return bitmaps;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    @FunctionalInterface
+    private interface ValueConsumer {
+        void accept(Facet facet, String key, String label);
+    }
+
+    // 항목(브랜드/시리즈/태그) 하나의 정규화 값 → 비트맵, 표시용 원래 값
+    private static final class Facet {
+
+        final Map<String, BitSet> bitmaps = new HashMap<>();
+        final Map<String, String> labels = new HashMap<>();
+
+        void add(String key, String label, int slot) {
+            bitmaps.computeIfAbsent(key, k -> new BitSet()).set(slot);
+            labels.putIfAbsent(key, label);
+        }
+
+        void remove(String key, int slot) {
+            BitSet bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                bitmap.clear(slot);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(key);
+                    labels.remove(key);
+                }
+            }
+        }
+
+        void clear() {
+            bitmaps.clear();
+            labels.clear();
+        }
+
+        // 개수 내림차순, 같으면 값 순
+        List<FacetCount> count(BitSet result) {
+            List<FacetCount> counts = new ArrayList<>();
+            bitmaps.forEach((key, bitmap) -> {
+                if (bitmap.intersects(result)) {
+                    BitSet intersection = (BitSet) bitmap.clone();
+                    intersection.and(result);
+                    counts.add(new FacetCount(labels.get(key), intersection.cardinality()));
+                }
+            });
+            counts.sort(Comparator.comparingInt(FacetCount::count).reversed().thenComparing(FacetCount::value));
+            return counts;
+        }
+    }
+
+    public record FacetCount(String value, int count) {
+    }
+
+    public record FacetCounts(List<FacetCount> brands, List<FacetCount> series, List<FacetCount> tags) {
+    }
+
+    /**
+     * 조합 조건 - 목록이 비어 있거나 minRating이 null이면 그 항목은 거르지 않는다.
+     * 브랜드/시리즈는 값 중 하나, 태그는 모든 값을 만족해야 한다.
+     */
+    public record Criteria(List<String> brands, List<String> series, List<String> tags, Double minRating) {
+
+        public Criteria {
+            brands = brands != null ? brands : List.of();
+            series = series != null ? series : List.of();
+            tags = tags != null ? tags : List.of();
+        }
+
+        /**
+         * 인덱스 없이 사진관 하나가 조건에 맞는지 본다. (인덱스 적재 전 대체 경로, 비교 방식은 {@link #match}와 같다)
+         */
+        public boolean matches(PhotoBoothResponseDto photoBooth) {
+            if (!matchesAny(brands, photoBooth.getBrand()) || !matchesAny(series, photoBooth.getSeries())) {
+                return false;
+            }
+            List<String> photoBoothTags = photoBooth.getTags() != null
+                    ? photoBooth.getTags().stream().map(PhotoBoothTextIndex::normalize).toList()
+                    : List.of();
+            for (String tag : tags) {
+                String key = PhotoBoothTextIndex.normalize(tag);
+                if (key.isEmpty() || !photoBoothTags.contains(key)) {
+                    return false;
+                }
+            }
+            if (minRating != null && minRating > 0) {
+                Double average = averageRating(photoBooth);
+                return average != null && average >= minRating;
+            }
+            return true;
+        }
+
+        private static boolean matchesAny(List<String> values, String value) {
+            if (values.isEmpty()) {
+                return true;
+            }
+            String key = PhotoBoothTextIndex.normalize(nullToEmpty(value));
+            return !key.isEmpty() && values.stream().map(PhotoBoothTextIndex::normalize).anyMatch(key::equals);
+        }
+    }
+
+    /**
+     * 조건에 맞는 사진관 - 공간 인덱스 결과처럼 순서가 있는 목록을 거를 때는 contains를 쓴다.
+     */
+    public static final class Matches {
+
+        private final Map<Long, PhotoBoothResponseDto> byId;
+        private final List<PhotoBoothResponseDto> photoBooths;
+
+        private Matches(Map<Long, PhotoBoothResponseDto> byId, List<PhotoBoothResponseDto> photoBooths) {
+            this.byId = byId;
+            this.photoBooths = photoBooths;
+        }
+
+        public boolean contains(Long photoBoothId) {
+            return byId.containsKey(photoBoothId);
+        }
+
+        public int size() {
+            return photoBooths.size();
+        }
+
+        /**
+         * ID 오름차순 사진관 목록
+         */
+        public List<PhotoBoothResponseDto> photoBooths() {
+            return photoBooths;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 오타 허용 검색용 토큰 트라이 ("포토이슴" → "포토이즘")
+ *
+ * 사진관 이름과 브랜드를 단어 단위로 정규화한 토큰(단어, 공백을 뺀 전체 이름)을 트라이에 넣고,
+ * 검색어 토큰의 Levenshtein 거리 행을 트라이를 내려가며 한 줄씩 계산한다. (Levenshtein 오토마톤과 트라이의 교집합)
+ * 노드마다 그 아래 토큰의 길이 범위를 두고, 지금까지의 거리 행에 남은 글자 수 차이를 더한 하한이 허용 거리를 넘는
+ * 가지는 내려가지 않는다. 그래서 검색어와 앞부분이 비슷하고 길이도 비슷한 토큰만 방문한다.
+ * 가지는 하한이 작은 노드부터(최선 우선) 펼치므로, 방문 상한에 걸려도 가까운 토큰을 먼저 찾는다.
+ * 한글은 음절 종류가 많아 서로 다른 토큰의 거리가 대부분 길이와 같아지므로 BK-tree는 거의 전수 비교가 되어 쓰지 않는다.
+ * 모든 검색어 토큰을 만족하는 사진관을 거리 합이 작은 순으로 돌려주며, 허용 거리는 토큰 길이로 정한다.
+ * (1글자 0, 2~4글자 1, 5글자 이상 2) 한 토큰당 펼치는 노드 수를 {@link #MAX_VISITS}로 제한해 지연 시간의 상한을 두고,
+ * 상한에 걸려 결과가 잘렸을 수 있으면 경고 로그를 남긴다.
+ */
+@Slf4j
+@Component
+public class PhotoBoothFuzzyIndex implements PhotoBoothIndex {
+
+    static final int MAX_VISITS = 5_000;
+    static final int MAX_RESULTS = 50;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PhotoBoothResponseDto> photoBooths = new HashMap<>();
+    private final Map<Long, Set<String>> tokensById = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Node root = new Node();
+    private volatile boolean ready = false;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<PhotoBoothResponseDto> photoBooths) {
+        lock.writeLock().lock();
+        try {
+            this.photoBooths.clear();
+            tokensById.clear();
+            postings.clear();
+            root.children.clear();
+            root.recomputeLengths();
+            for (PhotoBoothResponseDto photoBooth : photoBooths) {
+                insert(photoBooth);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(PhotoBoothResponseDto photoBooth) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBooth.getId());
+            insert(photoBooth);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long photoBoothId) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBoothId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 단어와 편집 거리 이내로 일치하는 사진관을 거리 합, ID 순으로 반환한다.
+     */
+    public List<PhotoBoothResponseDto> search(String keyword) {
+        Set<String> queryTokens = words(keyword);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> distances = null;
+            for (String queryToken : queryTokens) {
+                Map<Long, Integer> matches = match(queryToken);
+                if (distances == null) {
+                    distances = matches;
+                } else {
+                    distances.keySet().retainAll(matches.keySet());
+                    distances.replaceAll((id, distance) -> distance + matches.get(id));
+                }
+                if (distances.isEmpty()) {
+                    return List.of();
+                }
+            }
+            Map<Long, Integer> ranked = distances;
+            return ranked.keySet().stream()
+                    .sorted(Comparator.comparing((Long id) -> ranked.get(id)).thenComparing(id -> id))
+                    .limit(MAX_RESULTS)
+                    .map(photoBooths::get)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어 토큰 하나와 허용 거리 이내인 사진관별 최소 거리
+    private Map<Long, Integer> match(String queryToken) {
+        Map<Long, Integer> matches = new HashMap<>();
+        int maxDistance = maxDistance(queryToken);
+        int[] firstRow = new int[queryToken.length() + 1];
+        for (int j = 0; j < firstRow.length; j++) {
+            firstRow[j] = j;
+        }
+        PriorityQueue<Step> queue = new PriorityQueue<>(Comparator.comparingInt(Step::bound));
+        queue.add(new Step(root, 0, firstRow, 0));
+        int visits = 0;
+        while (!queue.isEmpty()) {
+            if (++visits > MAX_VISITS) {
+                log.warn("오타 허용 검색 방문 상한 도달 - 결과가 잘렸을 수 있습니다. 검색어 토큰: {}", queryToken);
+                break;
+            }
+            Step step = queue.poll();
+            int depth = step.depth() + 1;
+            // 검색어에 없는 글자로 내려가는 행은 글자와 무관하게 같으므로 한 번만 계산한다
+            int[] mismatchRow = null;
+            for (Map.Entry<Character, Node> child : step.node().children.entrySet()) {
+                Node node = child.getValue();
+                int[] row;
+                if (queryToken.indexOf(child.getKey()) >= 0) {
+                    row = nextRow(step.row(), child.getKey(), queryToken);
+                } else {
+                    if (mismatchRow == null) {
+                        mismatchRow = nextRow(step.row(), child.getKey(), queryToken);
+                    }
+                    row = mismatchRow;
+                }
+
+                int distance = row[row.length - 1];
+                if (node.term != null && distance <= maxDistance) {
+                    for (Long id : postings.getOrDefault(node.term, Set.of())) {
+                        matches.merge(id, distance, Math::min);
+                    }
+                }
+                int bound = lowerBound(row, depth, node);
+                if (bound <= maxDistance && !node.children.isEmpty()) {
+                    queue.add(new Step(node, depth, row, bound));
+                }
+            }
+        }
+        return matches;
+    }
+
+    // 트라이에서 한 글자 내려간 Levenshtein 거리 행
+    private static int[] nextRow(int[] previousRow, char label, String queryToken) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        for (int j = 1; j < row.length; j++) {
+            int substitution = previousRow[j - 1] + (queryToken.charAt(j - 1) == label ? 0 : 1);
+            row[j] = Math.min(substitution, Math.min(previousRow[j], row[j - 1]) + 1);
+        }
+        return row;
+    }
+
+    /**
+     * 노드 아래 토큰과 검색어의 거리 하한
+     * 정렬은 어떤 칸 (depth, j)를 지나므로 거리는 row[j]에 남은 토큰 길이와 남은 검색어 길이(length - j)의
+     * 차이를 더한 값 이상이다. 남은 토큰 길이는 노드 아래 토큰 길이 범위로 잡는다.
+     */
+    private static int lowerBound(int[] row, int depth, Node node) {
+        if (node.minLength > node.maxLength) {
+            return Integer.MAX_VALUE;
+        }
+        int queryLength = row.length - 1;
+        int minRemaining = node.minLength - depth;
+        int maxRemaining = node.maxLength - depth;
+        int bound = Integer.MAX_VALUE;
+        for (int j = 0; j <= queryLength; j++) {
+            int remaining = queryLength - j;
+            int gap = remaining < minRemaining ? minRemaining - remaining : Math.max(0, remaining - maxRemaining);
+            bound = Math.min(bound, row[j] + gap);
+        }
+        return bound;
+    }
+
+    private void insert(PhotoBoothResponseDto photoBooth) {
+        if (photoBooth.getId() == null) {
+            return;
+        }
+        Set<String> tokens = new HashSet<>(tokens(photoBooth.getName()));
+        tokens.addAll(tokens(photoBooth.getBrand()));
+        photoBooths.put(photoBooth.getId(), photoBooth);
+        tokensById.put(photoBooth.getId(), tokens);
+        for (String token : tokens) {
+            if (!postings.containsKey(token)) {
+                addTerm(token);
+            }
+            postings.computeIfAbsent(token, key -> new HashSet<>()).add(photoBooth.getId());
+        }
+    }
+
+    private void delete(Long photoBoothId) {
+        photoBooths.remove(photoBoothId);
+        Set<String> tokens = tokensById.remove(photoBoothId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Set<Long> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(photoBoothId);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                    removeTerm(token);
+                }
+            }
+        }
+    }
+
+    private void addTerm(String term) {
+        Node node = root;
+        node.includeLength(term.length());
+        for (int i = 0; i < term.length(); i++) {
+            node = node.children.computeIfAbsent(term.charAt(i), label -> new Node());
+            node.includeLength(term.length());
+        }
+        node.term = term;
+    }
+
+    private void removeTerm(String term) {
+        List<Node> path = new ArrayList<>(term.length() + 1);
+        path.add(root);
+        Node node = root;
+        for (int i = 0; i < term.length() && node != null; i++) {
+            node = node.children.get(term.charAt(i));
+            path.add(node);
+        }
+        if (node == null) {
+            return;
+        }
+        node.term = null;
+        // 토큰도 자식도 없는 꼬리 노드는 떼어낸다
+        for (int i = term.length(); i > 0; i--) {
+            Node current = path.get(i);
+            if (current.term != null || !current.children.isEmpty()) {
+                break;
+            }
+            path.get(i - 1).children.remove(term.charAt(i - 1));
+        }
+        // 남은 경로의 길이 범위를 아래에서부터 다시 계산한다
+        for (int i = term.length(); i >= 0; i--) {
+            path.get(i).recomputeLengths();
+        }
+    }
+
+    /**
+     * 색인 토큰 - 단어별 토큰과, 여러 단어면 공백을 뺀 전체 문자열 ("인생네컷 강남역점" → 인생네컷, 강남역점, 인생네컷강남역점)
+     */
+    private static Set<String> tokens(String text) {
+        Set<String> tokens = words(text);
+        if (tokens.size() > 1) {
+            tokens.add(PhotoBoothTextIndex.normalize(text));
+        }
+        return tokens;
+    }
+
+    // 공백으로 나눈 단어별 정규화 토큰
+    private static Set<String> words(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : text.trim().split("\\s+")) {
+            String token = PhotoBoothTextIndex.normalize(word);
+            if (!token.isEmpty()) {
+                words.add(token);
+            }
+        }
+        return words;
+    }
+
+    static int maxDistance(String token) {
+        if (token.length() <= 1) {
+            return 0;
+        }
+        return token.length() <= 4 ? 1 : 2;
+    }
+
+    private record Step(Node node, int depth, int[] row, int bound) {
+    }
+
+    private static final class Node {
+
+        final Map<Character, Node> children = new HashMap<>();
+        // 이 노드에서 끝나는 토큰 (없으면 null)
+        String term;
+        // 이 노드 아래(자신 포함) 토큰 길이 범위 - 토큰이 없으면 비어 있는 범위
+        int minLength = Integer.MAX_VALUE;
+        int maxLength = Integer.MIN_VALUE;
+
+        void includeLength(int length) {
+            minLength = Math.min(minLength, length);
+            maxLength = Math.max(maxLength, length);
+        }
+
+        void recomputeLengths() {
+            minLength = Integer.MAX_VALUE;
+            maxLength = Integer.MIN_VALUE;
+            if (term != null) {
+                includeLength(term.length());
+            }
+            for (Node child : children.values()) {
+                minLength = Math.min(minLength, child.minLength);
+                maxLength = Math.max(maxLength, child.maxLength);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+
+import java.util.Collection;
+
+/**
+ * {@link PhotoBoothIndexSynchronizer}가 적재/갱신하는 인메모리 사진관 인덱스
+ * 적재 전(isReady() == false)에는 호출 측이 DB 쿼리로 대체해야 한다.
+ */
+public interface PhotoBoothIndex {
+
+    boolean isReady();
+
+    /**
+     * 전체 사진관 목록으로 인덱스를 다시 만든다.
+     */
+    void rebuild(Collection<PhotoBoothResponseDto> photoBooths);
+
+    /**
+     * 사진관 하나를 추가하거나 최신 상태로 교체한다.
+     */
+    void upsert(PhotoBoothResponseDto photoBooth);
+
+    void remove(Long photoBoothId);
+}
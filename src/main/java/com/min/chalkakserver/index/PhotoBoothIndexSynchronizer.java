@@ -0,0 +1,115 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.repository.PhotoBoothRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 인메모리 사진관 인덱스 적재/동기화
+ *
+ * 1. 애플리케이션 시작 시(캐시 워밍업보다 먼저) 전체 사진관으로 인덱스를 만든다.
+ * 2. 사진관 변경 이벤트는 커밋 이후에만 반영하여 롤백된 변경이 인덱스에 남지 않게 한다.
+ *    다른 노드의 변경은 CatalogEventRelay가 트랜잭션 밖에서 원격 이벤트로 발행하므로 바로 반영한다.
+ * 3. SQL 스크립트 등 애플리케이션 밖에서 들어온 변경은 주기적인 재적재로 맞춘다.
+ *    재적재는 잠금 없이 읽은 스냅샷으로 인덱스를 바꾸므로, 재적재 중 도착한 변경을 모아 두었다가 바꾼 뒤 다시 반영한다.
+ *    그렇지 않으면 스냅샷을 읽은 뒤 커밋된 변경(삭제된 사진관 등)이 이전 스냅샷에 덮여 다음 재적재까지 남는다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class PhotoBoothIndexSynchronizer implements ApplicationRunner {
+
+    private final PhotoBoothRepository photoBoothRepository;
+    private final List<PhotoBoothIndex> indexes;
+
+    // 변경 반영과 재적재 후 다시 반영을 직렬화한다
+    private final Object changeLock = new Object();
+    // 재적재 중 도착한 변경 - 재적재 중이 아니면 null
+    private List<PhotoBoothChangedEvent> changesDuringRebuild;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuildAll();
+    }
+
+    /**
+     * 전체 사진관 재적재
+     * 매시간 15분에 실행
+     */
+    @Scheduled(cron = "0 15 * * * *")
+    public void rebuildAll() {
+        synchronized (changeLock) {
+            if (changesDuringRebuild != null) {
+                log.info("사진관 인메모리 인덱스 재적재가 이미 진행 중입니다");
+                return;
+            }
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            // findAll()은 태그를 fetch join 하므로 트랜잭션 밖에서 DTO 변환해도 지연 로딩이 없다
+            List<PhotoBoothResponseDto> photoBooths = photoBoothRepository.findAll()
+                    .stream()
+                    .map(PhotoBoothResponseDto::from)
+                    .collect(Collectors.toList());
+            for (PhotoBoothIndex index : indexes) {
+                index.rebuild(photoBooths);
+            }
+            log.info("사진관 인메모리 인덱스 적재 완료 - 인덱스 {}개, 사진관 {}건, 거리 계산 커널: {}",
+                    indexes.size(), photoBooths.size(), DistanceKernel.VECTORIZED ? "SIMD" : "스칼라");
+        } catch (Exception e) {
+            log.error("사진관 인메모리 인덱스 적재 실패 - DB 쿼리로 대체합니다: {}", e.getMessage());
+        } finally {
+            replayChangesDuringRebuild();
+        }
+    }
+
+    /**
+     * 미리 렌더링한 응답 캐시가 비워진 뒤 다시 만들 때 갱신된 인덱스(인기 순위 등)를 읽도록 먼저 실행한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPhotoBoothChanged(PhotoBoothChangedEvent event) {
+        synchronized (changeLock) {
+            // 재적재 중이어도 바로 반영해 이전 인덱스로 응답하는 동안에도 최신이 되게 한다
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+            apply(event);
+        }
+        log.debug("사진관 인메모리 인덱스 갱신 - ID: {}, 삭제: {}", event.getPhotoBoothId(), event.isDeleted());
+    }
+
+    // 갱신은 절대값 교체(upsert)와 삭제뿐이라 스냅샷에 이미 들어간 변경을 다시 반영해도 결과가 같다
+    private void replayChangesDuringRebuild() {
+        synchronized (changeLock) {
+            changesDuringRebuild.forEach(this::apply);
+            if (!changesDuringRebuild.isEmpty()) {
+                log.info("재적재 중 도착한 사진관 변경 {}건 다시 반영", changesDuringRebuild.size());
+            }
+            changesDuringRebuild = null;
+        }
+    }
+
+    private void apply(PhotoBoothChangedEvent event) {
+        for (PhotoBoothIndex index : indexes) {
+            if (event.isDeleted()) {
+                index.remove(event.getPhotoBoothId());
+            } else {
+                index.upsert(event.getAfter());
+            }
+        }
+    }
+}
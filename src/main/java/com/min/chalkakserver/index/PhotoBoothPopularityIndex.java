@@ -0,0 +1,153 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인기 사진관 순위
+ *
+ * 사진관 DTO의 리뷰 수와 평균 평점(사진관 행에 유지 중인 리뷰 집계)으로 베이지안 평균 점수를 매기고, 점수 순으로 정렬된 트리를 유지한다.
+ * 리뷰가 작성/수정/삭제되면 사진관 수정 이벤트로 바뀐 집계가 담긴 DTO가 들어오므로({@link #upsert}),
+ * 해당 사진관 하나만 트리에서 빼고 다시 넣어 O(log n)이고, 조회는 트리 앞쪽 limit개를 읽는 것이 전부다.
+ * 점수 = (PRIOR_WEIGHT × 전체 평균 + 평점 합계) / (PRIOR_WEIGHT + 리뷰 수) 로, 리뷰가 몇 개 없는 사진관의
+ * 평점이 전체 평균 쪽으로 당겨진다. 전체 평균은 재적재 시점 값으로 고정해 갱신 때 다른 사진관의 순서가 바뀌지 않게 한다.
+ * 리뷰가 없는 사진관은 순위에 넣지 않는다.
+ *
+ * 변경분(델타)을 더하지 않고 DTO에 담긴 절대값으로 점수를 다시 매기므로, 같은 변경이 재적재 스냅샷과 이벤트로
+ * 두 번 들어와도 한 번만 반영된 것과 같다.
+ */
+@Slf4j
+@Component
+public class PhotoBoothPopularityIndex implements PhotoBoothIndex {
+
+    static final double PRIOR_WEIGHT = 5.0;
+    static final double DEFAULT_PRIOR_MEAN = 3.0;
+
+    private static final Comparator<Ranked> RANKING = Comparator
+            .comparingDouble(Ranked::score).reversed()
+            .thenComparing(Comparator.comparingLong(Ranked::reviewCount).reversed())
+            .thenComparingLong(Ranked::photoBoothId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PhotoBoothResponseDto> photoBooths = new HashMap<>();
+    private final Map<Long, Ranked> rankedById = new HashMap<>();
+    private final NavigableSet<Ranked> ranking = new TreeSet<>(RANKING);
+    private double priorMean = DEFAULT_PRIOR_MEAN;
+    private volatile boolean ready = false;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<PhotoBoothResponseDto> photoBooths) {
+        long totalCount = 0;
+        double totalSum = 0;
+        for (PhotoBoothResponseDto photoBooth : photoBooths) {
+            totalCount += reviewCount(photoBooth);
+            totalSum += ratingSum(photoBooth);
+        }
+
+        lock.writeLock().lock();
+        try {
+            this.photoBooths.clear();
+            rankedById.clear();
+            ranking.clear();
+            priorMean = totalCount > 0 ? totalSum / totalCount : DEFAULT_PRIOR_MEAN;
+            for (PhotoBoothResponseDto photoBooth : photoBooths) {
+                this.photoBooths.put(photoBooth.getId(), photoBooth);
+                rank(photoBooth);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(PhotoBoothResponseDto photoBooth) {
+        lock.writeLock().lock();
+        try {
+            photoBooths.put(photoBooth.getId(), photoBooth);
+            rank(photoBooth);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("인기 순위 갱신 - 사진관 ID: {}", photoBooth.getId());
+    }
+
+    @Override
+    public void remove(Long photoBoothId) {
+        lock.writeLock().lock();
+        try {
+            unrank(photoBoothId);
+            photoBooths.remove(photoBoothId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 순 상위 limit개 사진관
+     */
+    public List<PhotoBoothResponseDto> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<PhotoBoothResponseDto> result = new ArrayList<>(Math.min(limit, ranking.size()));
+            for (Ranked ranked : ranking) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                result.add(photoBooths.get(ranked.photoBoothId()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 기존 순위를 빼고, 리뷰가 있으면 DTO의 집계로 다시 넣는다
+    private void rank(PhotoBoothResponseDto photoBooth) {
+        unrank(photoBooth.getId());
+        long count = reviewCount(photoBooth);
+        if (count == 0) {
+            return;
+        }
+        double score = (PRIOR_WEIGHT * priorMean + ratingSum(photoBooth)) / (PRIOR_WEIGHT + count);
+        Ranked ranked = new Ranked(photoBooth.getId(), score, count);
+        rankedById.put(photoBooth.getId(), ranked);
+        ranking.add(ranked);
+    }
+
+    private void unrank(Long photoBoothId) {
+        Ranked previous = rankedById.remove(photoBoothId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+    }
+
+    private static long reviewCount(PhotoBoothResponseDto photoBooth) {
+        return photoBooth.getReviewCount() != null ? photoBooth.getReviewCount() : 0;
+    }
+
+    // 평균 평점은 소수 첫째 자리로 반올림된 값이므로 평점 합계도 그만큼의 오차가 있다
+    private static double ratingSum(PhotoBoothResponseDto photoBooth) {
+        return photoBooth.getAverageRating() != null ? photoBooth.getAverageRating() * reviewCount(photoBooth) : 0;
+    }
+
+    private record Ranked(long photoBoothId, double score, long reviewCount) {
+    }
+}
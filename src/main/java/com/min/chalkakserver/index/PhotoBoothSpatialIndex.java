@@ -0,0 +1,308 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.util.GeoUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 네컷사진관 좌표 인메모리 공간 인덱스 (고정 크기 격자)
+ *
+ * 위경도를 CELL_SIZE_DEGREES 단위 격자로 나누어 버킷에 담아두고, 반경 검색 시
+ * Bounding Box에 걸치는 격자만 확인한 뒤 Haversine 거리로 정확히 거른다.
+ * 격자보다 전체 순회가 싼 경우에는 {@link CoordinateStore}의 SoA 배열을 한 번에 훑는다.
+ * 사진관 변경은 {@link PhotoBoothIndexSynchronizer}가 커밋 이후 반영하며,
+ * 시작 시 적재가 끝나기 전(ready=false)에는 호출 측이 DB 쿼리로 대체해야 한다.
+ */
+@Component
+public class PhotoBoothSpatialIndex implements PhotoBoothIndex {
+
+    // 0.02도 = 위도 기준 약 2.2km
+    static final double CELL_SIZE_DEGREES = 0.02;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final CoordinateStore coordinates = new CoordinateStore();
+    private volatile boolean ready = false;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 사진관 목록으로 인덱스를 다시 만든다.
+     */
+    @Override
+    public void rebuild(Collection<PhotoBoothResponseDto> photoBooths) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            cells.clear();
+            coordinates.clear();
+            for (PhotoBoothResponseDto photoBooth : photoBooths) {
+                insert(photoBooth);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사진관 하나를 추가하거나 최신 상태로 교체한다.
+     */
+    @Override
+    public void upsert(PhotoBoothResponseDto photoBooth) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBooth.getId());
+            insert(photoBooth);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long photoBoothId) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBoothId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 반경(km) 이내의 사진관을 거리순으로 반환한다.
+     */
+    public List<PhotoBoothResponseDto> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        double latDelta = GeoUtils.latitudeDelta(radiusKm);
+        double lonDelta = GeoUtils.longitudeDelta(latitude, radiusKm);
+
+        int minLatCell = cellIndex(latitude - latDelta);
+        int maxLatCell = cellIndex(latitude + latDelta);
+        int minLonCell = cellIndex(longitude - lonDelta);
+        int maxLonCell = cellIndex(longitude + lonDelta);
+        long cellCount = (long) (maxLatCell - minLatCell + 1) * (maxLonCell - minLonCell + 1);
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (cellCount > entries.size()) {
+                // 검색 범위의 격자 수가 전체 사진관 수보다 많으면 전체를 훑는 편이 싸다
+                for (int position : coordinates.findWithinRadius(latitude, longitude, radiusKm)) {
+                    hits.add(toHit(position, latitude, longitude));
+                }
+            } else {
+                for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                    for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                        List<Entry> bucket = cells.get(cellKey(latCell, lonCell));
+                        if (bucket == null) {
+                            continue;
+                        }
+                        for (Entry entry : bucket) {
+                            collect(entry, latitude, longitude, radiusKm, hits);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        List<PhotoBoothResponseDto> result = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            result.add(hit.entry().photoBooth());
+        }
+        return result;
+    }
+
+    /**
+     * 반경 제한 없이 가장 가까운 사진관 k개를 거리순으로 반환한다.
+     *
+     * 격자 칸을 "질의 지점에서 칸까지의 최소 거리" 순으로 꺼내 확인하는 best-first 탐색이다.
+     * 후보는 크기 k의 최대 힙에만 유지하고, 다음 칸의 최소 거리가 힙의 최댓값보다 멀어지면 멈춘다.
+     * 사진관이 드문 지역에서 빈 칸을 전체 사진관 수보다 많이 훑게 되면 전체 순회로 전환한다.
+     */
+    public List<Neighbor> findNearest(double latitude, double longitude, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Hit> best = new PriorityQueue<>(
+                Comparator.comparingDouble(Hit::distanceKm).reversed());
+
+        lock.readLock().lock();
+        try {
+            if (entries.size() <= k) {
+                scanNearest(best, latitude, longitude, k);
+            } else {
+                searchCellsBestFirst(best, latitude, longitude, k);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Neighbor> result = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            Hit hit = best.poll();
+            result.add(new Neighbor(hit.entry().photoBooth(), hit.distanceKm()));
+        }
+        result.sort(Comparator.comparingDouble(Neighbor::distanceKm));
+        return result;
+    }
+
+    private void searchCellsBestFirst(PriorityQueue<Hit> best, double latitude, double longitude, int k) {
+        PriorityQueue<CellCandidate> frontier = new PriorityQueue<>(
+                Comparator.comparingDouble(CellCandidate::minDistanceKm));
+        Set<Long> visited = new HashSet<>();
+
+        int startLat = cellIndex(latitude);
+        int startLon = cellIndex(longitude);
+        frontier.add(new CellCandidate(startLat, startLon, 0.0));
+        visited.add(cellKey(startLat, startLon));
+
+        while (!frontier.isEmpty()) {
+            CellCandidate cell = frontier.poll();
+            if (best.size() == k && cell.minDistanceKm() > best.peek().distanceKm()) {
+                return;
+            }
+            if (visited.size() > entries.size()) {
+                // 빈 칸만 계속 넓어지는 경우: 전체를 한 번 훑는 편이 싸다
+                scanNearest(best, latitude, longitude, k);
+                return;
+            }
+
+            List<Entry> bucket = cells.get(cellKey(cell.latCell(), cell.lonCell()));
+            if (bucket != null) {
+                for (Entry entry : bucket) {
+                    offer(best, entry, latitude, longitude, k);
+                }
+            }
+
+            for (int dLat = -1; dLat <= 1; dLat++) {
+                for (int dLon = -1; dLon <= 1; dLon++) {
+                    int latCell = cell.latCell() + dLat;
+                    int lonCell = cell.lonCell() + dLon;
+                    if (visited.add(cellKey(latCell, lonCell))) {
+                        frontier.add(new CellCandidate(latCell, lonCell,
+                                minDistanceToCell(latitude, longitude, latCell, lonCell)));
+                    }
+                }
+            }
+        }
+    }
+
+    // 전체 순회는 SoA 좌표 저장소의 거리 커널로 한 번에 계산한다
+    private void scanNearest(PriorityQueue<Hit> best, double latitude, double longitude, int k) {
+        best.clear();
+        for (int position : coordinates.findNearest(latitude, longitude, k)) {
+            best.add(toHit(position, latitude, longitude));
+        }
+    }
+
+    private Hit toHit(int position, double latitude, double longitude) {
+        return new Hit(entries.get(coordinates.idAt(position)), coordinates.distanceKm(position, latitude, longitude));
+    }
+
+    private void offer(PriorityQueue<Hit> best, Entry entry, double latitude, double longitude, int k) {
+        double distance = GeoUtils.distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+        if (best.size() < k) {
+            best.add(new Hit(entry, distance));
+        } else if (distance < best.peek().distanceKm()) {
+            best.poll();
+            best.add(new Hit(entry, distance));
+        }
+    }
+
+    // 질의 지점을 칸의 위경도 범위로 잘라낸 점까지의 거리 (칸 안의 어떤 점보다도 가깝다)
+    private static double minDistanceToCell(double latitude, double longitude, int latCell, int lonCell) {
+        double minLat = latCell * CELL_SIZE_DEGREES;
+        double minLon = lonCell * CELL_SIZE_DEGREES;
+        double clampedLat = Math.max(minLat, Math.min(latitude, minLat + CELL_SIZE_DEGREES));
+        double clampedLon = Math.max(minLon, Math.min(longitude, minLon + CELL_SIZE_DEGREES));
+        return GeoUtils.distanceKm(latitude, longitude, clampedLat, clampedLon);
+    }
+
+    private void collect(Entry entry, double latitude, double longitude, double radiusKm, List<Hit> hits) {
+        double distance = GeoUtils.distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+        if (distance <= radiusKm) {
+            hits.add(new Hit(entry, distance));
+        }
+    }
+
+    private void insert(PhotoBoothResponseDto photoBooth) {
+        if (photoBooth.getId() == null || photoBooth.getLatitude() == null || photoBooth.getLongitude() == null) {
+            return;
+        }
+        Entry entry = new Entry(photoBooth.getLatitude(), photoBooth.getLongitude(), photoBooth);
+        entries.put(photoBooth.getId(), entry);
+        coordinates.put(photoBooth.getId(), entry.latitude(), entry.longitude());
+        cells.computeIfAbsent(cellKey(entry), key -> new ArrayList<>()).add(entry);
+    }
+
+    private void delete(Long photoBoothId) {
+        Entry removed = entries.remove(photoBoothId);
+        if (removed == null) {
+            return;
+        }
+        coordinates.remove(photoBoothId);
+        long key = cellKey(removed);
+        List<Entry> bucket = cells.get(key);
+        if (bucket != null) {
+            bucket.remove(removed);
+            if (bucket.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    private static long cellKey(Entry entry) {
+        return cellKey(cellIndex(entry.latitude()), cellIndex(entry.longitude()));
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    private record Entry(double latitude, double longitude, PhotoBoothResponseDto photoBooth) {
+    }
+
+    private record Hit(Entry entry, double distanceKm) {
+    }
+
+    private record CellCandidate(int latCell, int lonCell, double minDistanceKm) {
+    }
+
+    /**
+     * k-최근접 검색 결과 (거리 단위: km)
+     */
+    public record Neighbor(PhotoBoothResponseDto photoBooth, double distanceKm) {
+    }
+}
@@ -0,0 +1,289 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색어 자동완성용 접두사 트라이
+ *
+ * 사진관 이름, 브랜드, 시리즈, 태그를 정규화한 키로 트라이에 넣고, 노드마다 그 접두사로 시작하는
+ * 후보 중 상위 {@link #MAX_SUGGESTIONS}개를 미리 계산해 둔다. 조회는 접두사 길이만큼 노드를 내려간 뒤
+ * 저장된 목록을 잘라 주는 것이 전부라 전체 사진관 수와 무관하게 끝난다.
+ * 순위는 브랜드/시리즈/태그 후보가 먼저, 사진관 이름이 다음이며 같은 종류 안에서는 인기순이다.
+ * 인기도는 브랜드/시리즈/태그는 해당 사진관 수, 이름은 사진관 응답에 담긴 리뷰 수(사진관 행의 리뷰 집계)이다.
+ * 리뷰가 바뀌면 사진관 수정 이벤트로 갱신된 응답이 upsert되므로 이름 후보의 순위도 그때 바로 바뀐다.
+ * 이름 "인생네컷 강남역점"은 "강남역점"으로도 찾을 수 있도록 단어 시작 위치마다 키를 하나씩 더 넣는다.
+ * 변경 시에는 바뀐 키의 경로에 있는 노드의 상위 목록만 자식 목록을 병합해 다시 계산한다.
+ */
+@Component
+public class PhotoBoothSuggestIndex implements PhotoBoothIndex {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparing(Suggestion::type)
+            .thenComparing(Comparator.comparingLong(Suggestion::score).reversed())
+            .thenComparingInt(suggestion -> suggestion.text().length())
+            .thenComparing(Suggestion::text)
+            .thenComparing(Suggestion::photoBoothId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<Long, PhotoBoothResponseDto> photoBooths = new HashMap<>();
+    private final Map<Long, Suggestion> names = new HashMap<>();
+    private final Map<String, Suggestion> facets = new HashMap<>();
+    private volatile boolean ready = false;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<PhotoBoothResponseDto> photoBooths) {
+        lock.writeLock().lock();
+        try {
+            root.children.clear();
+            root.terminals.clear();
+            this.photoBooths.clear();
+            names.clear();
+            facets.clear();
+            for (PhotoBoothResponseDto photoBooth : photoBooths) {
+                insert(photoBooth, false);
+            }
+            // 상위 목록은 적재가 끝난 뒤 한 번에 아래에서부터 계산한다
+            for (Node child : root.children.values()) {
+                recomputeAll(child);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(PhotoBoothResponseDto photoBooth) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBooth.getId());
+            insert(photoBooth, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long photoBoothId) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBoothId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 자동완성 후보를 순위대로 최대 limit개 반환한다.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = PhotoBoothTextIndex.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return List.of(Arrays.copyOf(node.top, Math.min(limit, node.top.length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(PhotoBoothResponseDto photoBooth, boolean recompute) {
+        if (photoBooth.getId() == null) {
+            return;
+        }
+        photoBooths.put(photoBooth.getId(), photoBooth);
+        if (photoBooth.getName() != null && !photoBooth.getName().isBlank()) {
+            Suggestion name = new Suggestion(photoBooth.getName().trim(), Type.NAME, photoBooth.getId(),
+                    photoBooth.getReviewCount() != null ? photoBooth.getReviewCount() : 0L);
+            names.put(photoBooth.getId(), name);
+            attach(name, recompute);
+        }
+        facetValues(photoBooth).forEach((type, values) ->
+                values.forEach(value -> changeFacet(type, value, 1, recompute)));
+    }
+
+    private void delete(Long photoBoothId) {
+        PhotoBoothResponseDto removed = photoBooths.remove(photoBoothId);
+        if (removed == null) {
+            return;
+        }
+        Suggestion name = names.remove(photoBoothId);
+        if (name != null) {
+            detach(name, true);
+        }
+        facetValues(removed).forEach((type, values) ->
+                values.forEach(value -> changeFacet(type, value, -1, true)));
+    }
+
+    // 브랜드/시리즈/태그 후보의 사진관 수를 바꿔 다시 건다
+    private void changeFacet(Type type, String value, int delta, boolean recompute) {
+        String id = type + ":" + PhotoBoothTextIndex.normalize(value);
+        Suggestion previous = facets.remove(id);
+        if (previous != null) {
+            detach(previous, recompute);
+        }
+        long score = (previous != null ? previous.score() : 0) + delta;
+        if (score > 0) {
+            Suggestion facet = new Suggestion(previous != null ? previous.text() : value.trim(), type, null, score);
+            facets.put(id, facet);
+            attach(facet, recompute);
+        }
+    }
+
+    private void attach(Suggestion suggestion, boolean recompute) {
+        for (String key : keys(suggestion.text())) {
+            List<Node> path = new ArrayList<>(key.length());
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), label -> new Node());
+                path.add(node);
+            }
+            node.terminals.add(suggestion);
+            if (recompute) {
+                recomputePath(path);
+            }
+        }
+    }
+
+    private void detach(Suggestion suggestion, boolean recompute) {
+        for (String key : keys(suggestion.text())) {
+            List<Node> path = new ArrayList<>(key.length());
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+                path.add(node);
+            }
+            if (node == null) {
+                continue;
+            }
+            node.terminals.remove(suggestion);
+            // 더 이상 아무 후보도 없는 꼬리 노드는 떼어낸다
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node current = path.get(i);
+                if (!current.terminals.isEmpty() || !current.children.isEmpty()) {
+                    break;
+                }
+                Node parent = i > 0 ? path.get(i - 1) : root;
+                parent.children.remove(key.charAt(i));
+                path.remove(i);
+            }
+            if (recompute) {
+                recomputePath(path);
+            }
+        }
+    }
+
+    private static void recomputePath(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            path.get(i).recompute();
+        }
+    }
+
+    private static void recomputeAll(Node node) {
+        for (Node child : node.children.values()) {
+            recomputeAll(child);
+        }
+        node.recompute();
+    }
+
+    private static Map<Type, Set<String>> facetValues(PhotoBoothResponseDto photoBooth) {
+        Map<Type, Set<String>> values = new HashMap<>();
+        values.put(Type.BRAND, facetSet(List.of(nullToEmpty(photoBooth.getBrand()))));
+        values.put(Type.SERIES, facetSet(List.of(nullToEmpty(photoBooth.getSeries()))));
+        // 같은 태그가 중복으로 붙어 있어도 사진관 수는 한 번만 센다
+        values.put(Type.TAG, facetSet(photoBooth.getTags() != null ? photoBooth.getTags() : List.of()));
+        return values;
+    }
+
+    // 정규화 키가 같은 값은 하나만 남긴다
+    private static Set<String> facetSet(Collection<String> values) {
+        Map<String, String> byKey = new HashMap<>();
+        for (String value : values) {
+            String normalized = PhotoBoothTextIndex.normalize(value);
+            if (!normalized.isEmpty()) {
+                byKey.putIfAbsent(normalized, value);
+            }
+        }
+        return new LinkedHashSet<>(byKey.values());
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    // 전체 문자열과 두 번째 단어부터 시작하는 접미사들의 정규화 키
+    private static Set<String> keys(String text) {
+        Set<String> keys = new LinkedHashSet<>();
+        String[] words = text.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            String key = PhotoBoothTextIndex.normalize(String.join("", Arrays.asList(words).subList(i, words.length)));
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 후보 종류 - 선언 순서가 같은 접두사 안에서의 노출 순서이다.
+     */
+    public enum Type {
+        BRAND, SERIES, TAG, NAME
+    }
+
+    /**
+     * 자동완성 후보 - photoBoothId는 이름(NAME) 후보에만 채워진다.
+     */
+    public record Suggestion(String text, Type type, Long photoBoothId, long score) {
+    }
+
+    private static final class Node {
+
+        final Map<Character, Node> children = new HashMap<>();
+        // 이 노드에서 키가 끝나는 후보
+        final List<Suggestion> terminals = new ArrayList<>(1);
+        Suggestion[] top = new Suggestion[0];
+
+        // 자기 후보와 자식들의 상위 목록을 병합한다 (한 후보가 여러 키로 들어오면 중복 제거)
+        void recompute() {
+            Set<Suggestion> merged = new LinkedHashSet<>(terminals);
+            for (Node child : children.values()) {
+                merged.addAll(Arrays.asList(child.top));
+            }
+            top = merged.stream()
+                    .sorted(RANKING)
+                    .limit(MAX_SUGGESTIONS)
+                    .toArray(Suggestion[]::new);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 네컷사진관 키워드 검색용 n-gram 역색인
+ *
+ * 이름/주소/도로명 주소/브랜드/시리즈를 정규화(소문자, 공백 제거)한 뒤 길이 1~3의 n-gram을
+ * 사진관 ID 목록(posting list)에 담아둔다. 검색어가 3글자 이상이면 검색어의 trigram 목록을
+ * 가장 짧은 것부터 교집합하고, 후보는 실제 부분 문자열 포함 여부로 한 번 더 확인한다.
+ * 한글 검색어는 대부분 2~3음절이므로 LIKE '%키워드%' 전체 스캔 없이 posting list 몇 개로 끝난다.
+ */
+@Component
+public class PhotoBoothTextIndex implements PhotoBoothIndex {
+
+    static final int MAX_GRAM = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final NGramPostings postings = new NGramPostings(MAX_GRAM);
+    private volatile boolean ready = false;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<PhotoBoothResponseDto> photoBooths) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            for (PhotoBoothResponseDto photoBooth : photoBooths) {
+                insert(photoBooth);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(PhotoBoothResponseDto photoBooth) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBooth.getId());
+            insert(photoBooth);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long photoBoothId) {
+        lock.writeLock().lock();
+        try {
+            delete(photoBoothId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드가 포함된 사진관을 ID 오름차순으로 반환한다.
+     */
+    public List<PhotoBoothResponseDto> search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        List<PhotoBoothResponseDto> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : postings.candidates(query)) {
+                Document document = documents.get(id);
+                if (document != null && document.contains(query)) {
+                    result.add(document.photoBooth());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        result.sort(Comparator.comparing(PhotoBoothResponseDto::getId));
+        return result;
+    }
+
+    private void insert(PhotoBoothResponseDto photoBooth) {
+        if (photoBooth.getId() == null) {
+            return;
+        }
+        List<String> fields = Stream.of(
+                        photoBooth.getName(), photoBooth.getAddress(), photoBooth.getRoadAddress(),
+                        photoBooth.getBrand(), photoBooth.getSeries())
+                .map(PhotoBoothTextIndex::normalize)
+                .filter(field -> !field.isEmpty())
+                .toList();
+        Document document = new Document(photoBooth, fields);
+        documents.put(photoBooth.getId(), document);
+        postings.add(photoBooth.getId(), fields);
+    }
+
+    private void delete(Long photoBoothId) {
+        Document removed = documents.remove(photoBoothId);
+        if (removed != null) {
+            postings.remove(photoBoothId, removed.fields());
+        }
+    }
+
+    /**
+     * 검색 정규화 - 소문자로 바꾸고 공백을 모두 없앤다. ("강남 역" == "강남역")
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    private record Document(PhotoBoothResponseDto photoBooth, List<String> fields) {
+
+        boolean contains(String query) {
+            for (String field : fields) {
+                if (field.contains(query)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.min.chalkakserver.index;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 작성/수정/삭제 이벤트
+ * 트랜잭션 커밋 이후 리뷰 집계(인기 순위)를 갱신하는 데 사용된다.
+ * beforeRating은 변경 전 평점(작성 시 null), afterRating은 변경 후 평점(삭제 시 null)이다.
+ * remote는 다른 노드에서 커밋된 변경을 전달받은 것으로, 트랜잭션 밖에서 발행되며 노드 로컬 상태만 갱신한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewChangedEvent {
+
+    private final Long photoBoothId;
+    private final Integer beforeRating;
+    private final Integer afterRating;
+    private final boolean remote;
+
+    public static ReviewChangedEvent created(Long photoBoothId, Integer rating) {
+        return new ReviewChangedEvent(photoBoothId, null, rating, false);
+    }
+
+    public static ReviewChangedEvent updated(Long photoBoothId, Integer beforeRating, Integer afterRating) {
+        return new ReviewChangedEvent(photoBoothId, beforeRating, afterRating, false);
+    }
+
+    public static ReviewChangedEvent deleted(Long photoBoothId, Integer rating) {
+        return new ReviewChangedEvent(photoBoothId, rating, null, false);
+    }
+
+    public static ReviewChangedEvent remote(Long photoBoothId, Integer beforeRating, Integer afterRating) {
+        return new ReviewChangedEvent(photoBoothId, beforeRating, afterRating, true);
+    }
+}
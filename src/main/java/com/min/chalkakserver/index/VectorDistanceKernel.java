@@ -0,0 +1,53 @@
+package com.min.chalkakserver.index;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link DistanceKernel}의 SIMD 구현 (jdk.incubator.vector)
+ * 모듈이 없는 환경에서 로딩되지 않도록 {@link DistanceKernel}을 통해서만 호출한다.
+ */
+final class VectorDistanceKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorDistanceKernel() {
+    }
+
+    static int collectWithin(double[] xs, double[] ys, double[] zs, int size,
+                             double qx, double qy, double qz, double maxChordSquared, int[] out) {
+        int count = 0;
+        int i = 0;
+        int upperBound = SPECIES.loopBound(size);
+        for (; i < upperBound; i += SPECIES.length()) {
+            VectorMask<Double> inside = chordSquared(xs, ys, zs, i, qx, qy, qz)
+                    .compare(VectorOperators.LE, maxChordSquared);
+            long lanes = inside.toLong();
+            while (lanes != 0) {
+                out[count++] = i + Long.numberOfTrailingZeros(lanes);
+                lanes &= lanes - 1;
+            }
+        }
+        return DistanceKernel.collectWithinScalar(xs, ys, zs, i, size, qx, qy, qz, maxChordSquared, out, count);
+    }
+
+    static void chordSquared(double[] xs, double[] ys, double[] zs, int size,
+                             double qx, double qy, double qz, double[] out) {
+        int i = 0;
+        int upperBound = SPECIES.loopBound(size);
+        for (; i < upperBound; i += SPECIES.length()) {
+            chordSquared(xs, ys, zs, i, qx, qy, qz).intoArray(out, i);
+        }
+        DistanceKernel.chordSquaredScalar(xs, ys, zs, i, size, qx, qy, qz, out);
+    }
+
+    private static DoubleVector chordSquared(double[] xs, double[] ys, double[] zs, int offset,
+                                             double qx, double qy, double qz) {
+        DoubleVector dx = DoubleVector.fromArray(SPECIES, xs, offset).sub(qx);
+        DoubleVector dy = DoubleVector.fromArray(SPECIES, ys, offset).sub(qy);
+        DoubleVector dz = DoubleVector.fromArray(SPECIES, zs, offset).sub(qz);
+        return dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz));
+    }
+}
@@ -4,20 +4,32 @@ import com.min.chalkakserver.entity.Notification;
 import com.min.chalkakserver.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     Page<Notification> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
+    // COUNT 쿼리 없는 Slice 모드
+    Slice<Notification> findSliceByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
+    long countByUser(User user);
+
     long countByUserAndIsReadFalse(User user);
 
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.user = :user AND n.isRead = false")
     void markAllAsReadByUser(@Param("user") User user);
+
+    @Query("SELECT n FROM Notification n WHERE n.user = :user AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) ORDER BY n.createdAt DESC, n.id DESC")
+    Slice<Notification> findSliceByUserBefore(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id, Pageable pageable);
 }
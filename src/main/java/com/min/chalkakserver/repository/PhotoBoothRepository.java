@@ -1,15 +1,23 @@
 package com.min.chalkakserver.repository;
 
 import com.min.chalkakserver.entity.PhotoBooth;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface PhotoBoothRepository extends JpaRepository<PhotoBooth, Long> {
@@ -45,17 +53,16 @@ public interface PhotoBoothRepository extends JpaRepository<PhotoBooth, Long> {
     Page<PhotoBooth> findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(String name, String address, Pageable pageable);
     
     // Spatial Index를 활용한 근처 네컷사진관 검색
-    // Bounding Box를 이용한 1차 필터링 후 정확한 거리 계산
+    // location(SRID 4326) 공간 인덱스로 Bounding Box를 먼저 거른 뒤 구면 거리로 정확히 계산
+    // (location 컬럼/인덱스는 db/migration/V2__add_spatial_indexes.sql 참고)
     @Query(value = """
-        SELECT pb.*, 
-               (6371 * acos(cos(radians(:latitude)) * cos(radians(pb.latitude)) * 
-                cos(radians(pb.longitude) - radians(:longitude)) + 
-                sin(radians(:latitude)) * sin(radians(pb.latitude)))) AS distance 
-        FROM photo_booths pb 
-        WHERE pb.latitude BETWEEN :minLat AND :maxLat 
-          AND pb.longitude BETWEEN :minLon AND :maxLon 
-        HAVING distance <= :radius 
-        ORDER BY distance
+        SELECT pb.*
+        FROM photo_booths pb
+        WHERE MBRContains(
+                ST_SRID(ST_MakeEnvelope(POINT(:minLon, :minLat), POINT(:maxLon, :maxLat)), 4326),
+                pb.location)
+          AND ST_Distance_Sphere(pb.location, ST_SRID(POINT(:longitude, :latitude), 4326)) <= :radius * 1000
+        ORDER BY ST_Distance_Sphere(pb.location, ST_SRID(POINT(:longitude, :latitude), 4326))
         """, nativeQuery = true)
     List<PhotoBooth> findNearbyPhotoBooths(
         @Param("latitude") double latitude,
@@ -67,37 +74,125 @@ public interface PhotoBoothRepository extends JpaRepository<PhotoBooth, Long> {
         @Param("maxLon") double maxLon
     );
     
+    // 위경도 범위(지오타일) 안의 사진관 - 타일 캐시에 그대로 담기므로 태그를 함께 읽는다
+    @EntityGraph(attributePaths = "tags")
+    List<PhotoBooth> findByLatitudeBetweenAndLongitudeBetween(
+        double minLat, double maxLat, double minLon, double maxLon);
+    
+    // since 이후 생성/수정된 사진관 - 델타 동기화 응답에 그대로 담기므로 태그를 함께 읽는다
+    @EntityGraph(attributePaths = "tags")
+    @Query("SELECT pb FROM PhotoBooth pb WHERE pb.updatedAt > :since ORDER BY pb.id")
+    List<PhotoBooth> findUpdatedAfter(@Param("since") LocalDateTime since);
+
+    // 가장 늦은 생성/수정 시각 (카탈로그 버전)
+    @Query("SELECT MAX(pb.updatedAt) FROM PhotoBooth pb")
+    LocalDateTime findLatestUpdatedAt();
+    
     // 브랜드 목록 (중복 제거)
     @Query("SELECT DISTINCT pb.brand FROM PhotoBooth pb WHERE pb.brand IS NOT NULL AND pb.brand <> '' ORDER BY pb.brand")
     List<String> findDistinctBrands();
 
-    // 인기 사진관 (리뷰 수 기준 정렬)
+    // 인기 사진관 (리뷰 수, 평균 평점 순) - 행에 유지 중인 리뷰 집계로 정렬하므로 리뷰 테이블을 집계하지 않는다
     @Query(value = """
         SELECT pb.* FROM photo_booths pb
-        LEFT JOIN reviews r ON pb.id = r.photo_booth_id
-        GROUP BY pb.id
-        HAVING COUNT(r.id) > 0
-        ORDER BY COUNT(r.id) DESC, AVG(r.rating) DESC
+        WHERE pb.review_count > 0
+        ORDER BY pb.review_count DESC, pb.rating_sum / pb.review_count DESC
         LIMIT :limit
         """, nativeQuery = true)
     List<PhotoBooth> findPopularPhotoBooths(@Param("limit") int limit);
 
-    // 간단한 버전 - Point 타입 사용 시
+    // 리뷰 집계 원자적 갱신 - added는 추가된 평점, removed는 빠진 평점 (없으면 0)
+    // 읽고 쓰지 않고 한 문장으로 더하므로 같은 사진관에 리뷰가 동시에 달려도 값을 잃지 않는다
+    // 응답에 담기는 평점이 바뀌므로 updated_at도 올려 델타 동기화가 변경을 내려보내게 한다
+    @Modifying
+    @Query("""
+        UPDATE PhotoBooth pb SET
+            pb.reviewCount = pb.reviewCount + (CASE WHEN :added > 0 THEN 1 ELSE 0 END) - (CASE WHEN :removed > 0 THEN 1 ELSE 0 END),
+            pb.ratingSum = pb.ratingSum + :added - :removed,
+            pb.rating1Count = pb.rating1Count + (CASE WHEN :added = 1 THEN 1 ELSE 0 END) - (CASE WHEN :removed = 1 THEN 1 ELSE 0 END),
+            pb.rating2Count = pb.rating2Count + (CASE WHEN :added = 2 THEN 1 ELSE 0 END) - (CASE WHEN :removed = 2 THEN 1 ELSE 0 END),
+            pb.rating3Count = pb.rating3Count + (CASE WHEN :added = 3 THEN 1 ELSE 0 END) - (CASE WHEN :removed = 3 THEN 1 ELSE 0 END),
+            pb.rating4Count = pb.rating4Count + (CASE WHEN :added = 4 THEN 1 ELSE 0 END) - (CASE WHEN :removed = 4 THEN 1 ELSE 0 END),
+            pb.rating5Count = pb.rating5Count + (CASE WHEN :added = 5 THEN 1 ELSE 0 END) - (CASE WHEN :removed = 5 THEN 1 ELSE 0 END),
+            pb.updatedAt = :updatedAt
+        WHERE pb.id = :id
+        """)
+    void applyReviewChange(@Param("id") Long id, @Param("added") int added, @Param("removed") int removed,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 리뷰 집계가 리뷰 테이블과 어긋난 사진관 ID
+    @Query(value = """
+        SELECT pb.id
+        FROM photo_booths pb
+        LEFT JOIN (
+            SELECT photo_booth_id, COUNT(*) AS cnt, SUM(rating) AS total,
+                   SUM(rating = 1) AS r1, SUM(rating = 2) AS r2, SUM(rating = 3) AS r3,
+                   SUM(rating = 4) AS r4, SUM(rating = 5) AS r5
+            FROM reviews
+            GROUP BY photo_booth_id
+        ) r ON r.photo_booth_id = pb.id
+        WHERE pb.review_count <> COALESCE(r.cnt, 0)
+           OR pb.rating_sum <> COALESCE(r.total, 0)
+           OR pb.rating1_count <> COALESCE(r.r1, 0)
+           OR pb.rating2_count <> COALESCE(r.r2, 0)
+           OR pb.rating3_count <> COALESCE(r.r3, 0)
+           OR pb.rating4_count <> COALESCE(r.r4, 0)
+           OR pb.rating5_count <> COALESCE(r.r5, 0)
+        """, nativeQuery = true)
+    List<Long> findReviewAggregateDrift();
+
+    // ids 사진관의 리뷰 집계를 리뷰 테이블 기준으로 다시 맞춘다 - 여전히 어긋난 사진관만 갱신(updated_at 포함)하고 그 수를 반환한다
+    @Modifying
     @Query(value = """
-        SELECT *, ST_Distance_Sphere(
-            POINT(longitude, latitude), 
-            POINT(:longitude, :latitude)
-        ) / 1000 AS distance 
-        FROM photo_booths 
-        WHERE ST_Distance_Sphere(
-            POINT(longitude, latitude), 
-            POINT(:longitude, :latitude)
-        ) <= :radius * 1000 
-        ORDER BY distance
+        UPDATE photo_booths pb
+        LEFT JOIN (
+            SELECT photo_booth_id, COUNT(*) AS cnt, SUM(rating) AS total,
+                   SUM(rating = 1) AS r1, SUM(rating = 2) AS r2, SUM(rating = 3) AS r3,
+                   SUM(rating = 4) AS r4, SUM(rating = 5) AS r5
+            FROM reviews
+            GROUP BY photo_booth_id
+        ) r ON r.photo_booth_id = pb.id
+        SET pb.review_count = COALESCE(r.cnt, 0),
+            pb.rating_sum = COALESCE(r.total, 0),
+            pb.rating1_count = COALESCE(r.r1, 0),
+            pb.rating2_count = COALESCE(r.r2, 0),
+            pb.rating3_count = COALESCE(r.r3, 0),
+            pb.rating4_count = COALESCE(r.r4, 0),
+            pb.rating5_count = COALESCE(r.r5, 0),
+            pb.updated_at = :updatedAt
+        WHERE pb.id IN (:ids)
+          AND (pb.review_count <> COALESCE(r.cnt, 0)
+           OR pb.rating_sum <> COALESCE(r.total, 0)
+           OR pb.rating1_count <> COALESCE(r.r1, 0)
+           OR pb.rating2_count <> COALESCE(r.r2, 0)
+           OR pb.rating3_count <> COALESCE(r.r3, 0)
+           OR pb.rating4_count <> COALESCE(r.r4, 0)
+           OR pb.rating5_count <> COALESCE(r.r5, 0))
+        """, nativeQuery = true)
+    int reconcileReviewAggregates(@Param("ids") Collection<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 간단한 버전 - Bounding Box 없이 구면 거리만 사용 (공간 인덱스를 타지 않음)
+    @Query(value = """
+        SELECT pb.*
+        FROM photo_booths pb
+        WHERE ST_Distance_Sphere(pb.location, ST_SRID(POINT(:longitude, :latitude), 4326)) <= :radius * 1000
+        ORDER BY ST_Distance_Sphere(pb.location, ST_SRID(POINT(:longitude, :latitude), 4326))
         """, nativeQuery = true)
     List<PhotoBooth> findWithinRadius(
         @Param("latitude") double latitude,
         @Param("longitude") double longitude,
         @Param("radius") double radiusInKm
     );
+
+    // 내보내기용 전체 스트림 - [사진관, 태그 이름] 행, 같은 사진관의 행은 연속으로 나온다 (태그가 없으면 태그 이름 null)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT pb, t.name FROM PhotoBooth pb LEFT JOIN pb.tags t ORDER BY pb.id")
+    Stream<Object[]> streamAllWithTagNames();
+
+    // 키셋 페이지네이션 - (createdAt, id)가 커서보다 뒤인 행 (idx_created_at은 PK를 포함하므로 정렬까지 인덱스로 처리)
+    @Query("SELECT pb FROM PhotoBooth pb WHERE (pb.createdAt < :createdAt OR (pb.createdAt = :createdAt AND pb.id < :id)) ORDER BY pb.createdAt DESC, pb.id DESC")
+    Slice<PhotoBooth> findSliceBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,28 @@
+package com.min.chalkakserver.repository;
+
+import com.min.chalkakserver.entity.PhotoBoothTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PhotoBoothTombstoneRepository extends JpaRepository<PhotoBoothTombstone, Long> {
+
+    // since 이후 삭제된 사진관 ID
+    @Query("SELECT DISTINCT t.photoBoothId FROM PhotoBoothTombstone t " +
+           "WHERE t.deletedAt > :since ORDER BY t.photoBoothId")
+    List<Long> findPhotoBoothIdsDeletedAfter(@Param("since") LocalDateTime since);
+
+    // 가장 늦은 삭제 시각 (카탈로그 버전)
+    @Query("SELECT MAX(t.deletedAt) FROM PhotoBoothTombstone t")
+    LocalDateTime findLatestDeletedAt();
+
+    @Modifying
+    @Query("DELETE FROM PhotoBoothTombstone t WHERE t.deletedAt < :cutoff")
+    void deleteAllDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -3,9 +3,13 @@ package com.min.chalkakserver.repository;
 import com.min.chalkakserver.entity.Photo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +27,11 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
     Optional<Photo> findByIdAndUserId(Long id, Long userId);
 
     List<Photo> findByIdInAndUserId(List<Long> ids, Long userId);
+
+    // 키셋 페이지네이션 - idx_photo_user_created(user_id, created_at) 범위 조회
+    @Query("SELECT ph FROM Photo ph WHERE ph.user.id = :userId AND (:favoriteOnly = false OR ph.favorite = true) "
+        + "AND (ph.createdAt < :createdAt OR (ph.createdAt = :createdAt AND ph.id < :id)) ORDER BY ph.createdAt DESC, ph.id DESC")
+    Slice<Photo> findSliceByUserIdBefore(@Param("userId") Long userId, @Param("favoriteOnly") boolean favoriteOnly,
+                                         @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                         Pageable pageable);
 }
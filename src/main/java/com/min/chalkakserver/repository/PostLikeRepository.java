@@ -4,8 +4,11 @@ import com.min.chalkakserver.entity.Post;
 import com.min.chalkakserver.entity.PostLike;
 import com.min.chalkakserver.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
+import java.util.Set;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
@@ -14,4 +17,7 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     boolean existsByPostAndUser(Post post, User user);
 
     void deleteByPostAndUser(Post post, User user);
+
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId")
+    Set<Long> findPostIdsByUserId(@Param("userId") Long userId);
 }
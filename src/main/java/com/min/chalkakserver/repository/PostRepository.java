@@ -2,13 +2,18 @@ package com.min.chalkakserver.repository;
 
 import com.min.chalkakserver.entity.Post;
 import com.min.chalkakserver.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.stream.Stream;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
@@ -25,30 +30,24 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         + "ORDER BY p.likesCount DESC, p.createdAt DESC")
     Page<Post> findPopularSince(@Param("since") LocalDateTime since, Pageable pageable);
 
+    // 주변 게시물 조회/개수 쿼리 공통 부분 (Page/Slice 모드가 함께 쓴다)
+    String NEARBY_POSTS_FROM = "FROM posts p "
+        + "JOIN photo_booths pb ON p.photo_booth_id = pb.id "
+        + "WHERE MBRContains("
+        + "        ST_SRID(ST_MakeEnvelope(POINT(:minLon, :minLat), POINT(:maxLon, :maxLat)), 4326), "
+        + "        pb.location) "
+        + "  AND ST_Distance_Sphere(pb.location, ST_SRID(POINT(:longitude, :latitude), 4326)) <= :radius * 1000 ";
+
+    String NEARBY_POSTS_QUERY = "SELECT p.* " + NEARBY_POSTS_FROM
+        + "ORDER BY ST_Distance_Sphere(pb.location, ST_SRID(POINT(:longitude, :latitude), 4326)) ASC, "
+        + "p.created_at DESC";
+
     /**
-     * 주변 게시물 — 포토부스가 연결된 글 중 Haversine 거리 :radius km 이내.
-     * 거리순 정렬.
+     * 주변 게시물 — 포토부스가 연결된 글 중 구면 거리 :radius km 이내.
+     * 포토부스 location(SRID 4326) 공간 인덱스로 Bounding Box를 먼저 거른다. 거리순 정렬.
      */
-    @Query(value = "SELECT p.* FROM posts p "
-        + "JOIN photo_booths pb ON p.photo_booth_id = pb.id "
-        + "WHERE p.photo_booth_id IS NOT NULL "
-        + "  AND pb.latitude BETWEEN :minLat AND :maxLat "
-        + "  AND pb.longitude BETWEEN :minLon AND :maxLon "
-        + "  AND (6371 * acos(cos(radians(:latitude)) * cos(radians(pb.latitude)) "
-        + "       * cos(radians(pb.longitude) - radians(:longitude)) "
-        + "       + sin(radians(:latitude)) * sin(radians(pb.latitude)))) <= :radius "
-        + "ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(pb.latitude)) "
-        + "       * cos(radians(pb.longitude) - radians(:longitude)) "
-        + "       + sin(radians(:latitude)) * sin(radians(pb.latitude)))) ASC, "
-        + "p.created_at DESC",
-        countQuery = "SELECT count(*) FROM posts p "
-        + "JOIN photo_booths pb ON p.photo_booth_id = pb.id "
-        + "WHERE p.photo_booth_id IS NOT NULL "
-        + "  AND pb.latitude BETWEEN :minLat AND :maxLat "
-        + "  AND pb.longitude BETWEEN :minLon AND :maxLon "
-        + "  AND (6371 * acos(cos(radians(:latitude)) * cos(radians(pb.latitude)) "
-        + "       * cos(radians(pb.longitude) - radians(:longitude)) "
-        + "       + sin(radians(:latitude)) * sin(radians(pb.latitude)))) <= :radius",
+    @Query(value = NEARBY_POSTS_QUERY,
+        countQuery = "SELECT count(*) " + NEARBY_POSTS_FROM,
         nativeQuery = true)
     Page<Post> findNearbyPosts(
         @Param("latitude") double latitude,
@@ -59,4 +58,51 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         @Param("maxLon") double maxLon,
         @Param("radius") double radius,
         Pageable pageable);
+
+    /*
+     * Slice 모드 — 위 목록들과 같은 조회를 COUNT 쿼리 없이 size+1건으로 다음 페이지 여부만 확인한다.
+     */
+
+    Slice<Post> findSliceByOrderByCreatedAtDesc(Pageable pageable);
+
+    Slice<Post> findSliceByPhotoBoothIdOrderByCreatedAtDesc(Long photoBoothId, Pageable pageable);
+
+    Slice<Post> findSliceByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.createdAt >= :since "
+        + "ORDER BY p.likesCount DESC, p.createdAt DESC")
+    Slice<Post> findPopularSliceSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query(value = NEARBY_POSTS_QUERY, nativeQuery = true)
+    Slice<Post> findNearbyPostsSlice(
+        @Param("latitude") double latitude,
+        @Param("longitude") double longitude,
+        @Param("minLat") double minLat,
+        @Param("maxLat") double maxLat,
+        @Param("minLon") double minLon,
+        @Param("maxLon") double maxLon,
+        @Param("radius") double radius,
+        Pageable pageable);
+
+    long countByPhotoBoothId(Long photoBoothId);
+
+    long countByUser(User user);
+
+    /**
+     * 내보내기용 전체 게시물 스트림 — 최신순.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Post p JOIN FETCH p.user LEFT JOIN FETCH p.photoBooth ORDER BY p.createdAt DESC, p.id DESC")
+    Stream<Post> streamAllWithUserAndPhotoBooth();
+
+    /**
+     * 피드 키셋 페이지네이션 — (createdAt, id)가 커서보다 뒤인 글, 최신순.
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.user LEFT JOIN FETCH p.photoBooth "
+        + "WHERE (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) "
+        + "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedSliceBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
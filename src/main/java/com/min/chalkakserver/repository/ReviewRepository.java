@@ -3,15 +3,21 @@ package com.min.chalkakserver.repository;
 import com.min.chalkakserver.entity.PhotoBooth;
 import com.min.chalkakserver.entity.Review;
 import com.min.chalkakserver.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -26,6 +32,10 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.photoBooth = :photoBooth ORDER BY r.createdAt DESC")
     Page<Review> findByPhotoBoothWithUserPaged(@Param("photoBooth") PhotoBooth photoBooth, Pageable pageable);
 
+    // COUNT 쿼리 없는 Slice 모드
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.photoBooth = :photoBooth ORDER BY r.createdAt DESC")
+    Slice<Review> findSliceByPhotoBoothWithUser(@Param("photoBooth") PhotoBooth photoBooth, Pageable pageable);
+
     @Query("SELECT r FROM Review r JOIN FETCH r.photoBooth WHERE r.user = :user ORDER BY r.createdAt DESC")
     List<Review> findByUserWithPhotoBooth(@Param("user") User user);
 
@@ -35,12 +45,6 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT COUNT(r) FROM Review r WHERE r.photoBooth = :photoBooth")
     long countByPhotoBooth(@Param("photoBooth") PhotoBooth photoBooth);
 
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.photoBooth = :photoBooth")
-    Double getAverageRatingByPhotoBooth(@Param("photoBooth") PhotoBooth photoBooth);
-
-    @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.photoBooth = :photoBooth GROUP BY r.rating ORDER BY r.rating DESC")
-    List<Object[]> getRatingDistribution(@Param("photoBooth") PhotoBooth photoBooth);
-
     void deleteAllByUser(User user);
 
     @Query("SELECT COUNT(r) FROM Review r WHERE r.user = :user")
@@ -52,4 +56,20 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query(value = "SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.photoBooth ORDER BY r.createdAt DESC",
            countQuery = "SELECT COUNT(r) FROM Review r")
     Page<Review> findAllRecentWithUserAndPhotoBooth(Pageable pageable);
+
+    // COUNT 쿼리 없는 Slice 모드
+    @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.photoBooth ORDER BY r.createdAt DESC")
+    Slice<Review> findRecentSliceWithUserAndPhotoBooth(Pageable pageable);
+
+    // 내보내기용 사진관 리뷰 스트림
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.photoBooth WHERE r.photoBooth.id = :photoBoothId ORDER BY r.createdAt DESC")
+    Stream<Review> streamByPhotoBoothId(@Param("photoBoothId") Long photoBoothId);
+
+    // 최근 리뷰 키셋 페이지네이션
+    @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.photoBooth WHERE (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<Review> findRecentSliceBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
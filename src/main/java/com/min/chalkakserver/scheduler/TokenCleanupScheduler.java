@@ -1,7 +1,10 @@
 package com.min.chalkakserver.scheduler;
 
 import com.min.chalkakserver.config.RateLimitConfig;
+import com.min.chalkakserver.repository.PhotoBoothTombstoneRepository;
 import com.min.chalkakserver.repository.RefreshTokenRepository;
+import com.min.chalkakserver.service.PhotoBoothSyncService;
+import com.min.chalkakserver.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -9,10 +12,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 토큰 및 캐시 정리 스케줄러
- * 주기적으로 만료된 토큰과 불필요한 캐시를 정리합니다.
+ * 주기적으로 만료된 토큰과 불필요한 캐시, 오래된 사진관 삭제 기록을 정리하고 사진관 리뷰 집계를 맞춥니다.
  */
 @Slf4j
 @Component
@@ -21,6 +25,8 @@ public class TokenCleanupScheduler {
 
     private final RefreshTokenRepository refreshTokenRepository;
     private final RateLimitConfig rateLimitConfig;
+    private final PhotoBoothTombstoneRepository photoBoothTombstoneRepository;
+    private final ReviewService reviewService;
 
     /**
      * 만료된 Refresh Token 정리
@@ -59,6 +65,45 @@ public class TokenCleanupScheduler {
         }
     }
 
+    /**
+     * 보관 기간이 지난 사진관 삭제 기록(tombstone) 정리
+     * 매일 새벽 4시 30분에 실행 (이보다 오래된 since로 동기화하면 전체 목록을 내려준다)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void cleanupPhotoBoothTombstones() {
+        log.info("Starting photo booth tombstone cleanup...");
+        
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(PhotoBoothSyncService.TOMBSTONE_RETENTION);
+            photoBoothTombstoneRepository.deleteAllDeletedBefore(cutoff);
+            log.info("Photo booth tombstones cleaned up successfully");
+        } catch (Exception e) {
+            log.error("Failed to cleanup photo booth tombstones: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사진관 리뷰 집계 보정
+     * 매일 새벽 5시에 실행 (SQL 스크립트 등 애플리케이션 밖에서 바뀐 리뷰를 반영)
+     * 트랜잭션은 ReviewService가 연다 - 실패해도 이 메서드의 트랜잭션이 롤백 전용으로 남지 않는다
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    public void reconcileReviewAggregates() {
+        log.info("Starting review aggregate reconciliation...");
+        
+        try {
+            List<Long> corrected = reviewService.reconcileReviewAggregates();
+            if (!corrected.isEmpty()) {
+                log.warn("Review aggregates corrected for {} photo booths: {}", corrected.size(), corrected);
+            } else {
+                log.info("Review aggregates are consistent");
+            }
+        } catch (Exception e) {
+            log.error("Failed to reconcile review aggregates: {}", e.getMessage());
+        }
+    }
+
     /**
      * Rate Limit 버킷 캐시 정리
      * 매시간 실행
@@ -9,12 +9,11 @@ import com.min.chalkakserver.entity.PhotoBooth;
 import com.min.chalkakserver.entity.User;
 import com.min.chalkakserver.exception.AuthException;
 import com.min.chalkakserver.exception.PhotoBoothNotFoundException;
-import com.min.chalkakserver.exception.ReviewNotFoundException;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
 import com.min.chalkakserver.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -38,6 +37,8 @@ public class AdminService {
     private final FavoriteRepository favoriteRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final com.min.chalkakserver.repository.PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReviewService reviewService;
 
     /**
      * 관리자 대시보드 통계
@@ -69,12 +70,6 @@ public class AdminService {
      * 포토부스 생성
      */
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "photoBooths", allEntries = true),
-        @CacheEvict(value = "nearbyPhotoBooths", allEntries = true),
-        @CacheEvict(value = "searchResults", allEntries = true),
-        @CacheEvict(value = "brandPhotoBooths", allEntries = true)
-    })
     public PhotoBoothResponseDto createPhotoBooth(PhotoBoothRequestDto request) {
         PhotoBooth photoBooth = PhotoBooth.builder()
             .name(request.getName())
@@ -93,23 +88,19 @@ public class AdminService {
         PhotoBooth savedPhotoBooth = photoBoothRepository.save(photoBooth);
         log.info("PhotoBooth created by admin: id={}, name={}", savedPhotoBooth.getId(), savedPhotoBooth.getName());
 
-        return PhotoBoothResponseDto.from(savedPhotoBooth);
+        PhotoBoothResponseDto created = PhotoBoothResponseDto.from(savedPhotoBooth);
+        eventPublisher.publishEvent(PhotoBoothChangedEvent.created(created));
+        return created;
     }
 
     /**
      * 포토부스 수정
      */
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "photoBooths", allEntries = true),
-        @CacheEvict(value = "photoBooth", key = "#id"),
-        @CacheEvict(value = "nearbyPhotoBooths", allEntries = true),
-        @CacheEvict(value = "searchResults", allEntries = true),
-        @CacheEvict(value = "brandPhotoBooths", allEntries = true)
-    })
     public PhotoBoothResponseDto updatePhotoBooth(Long id, PhotoBoothRequestDto request) {
         PhotoBooth photoBooth = photoBoothRepository.findById(id)
             .orElseThrow(() -> new PhotoBoothNotFoundException(id));
+        PhotoBoothResponseDto before = PhotoBoothResponseDto.from(photoBooth);
 
         photoBooth.update(
             request.getName(),
@@ -125,26 +116,25 @@ public class AdminService {
             request.getPriceInfo()
         );
 
+        // @PreUpdate가 updatedAt을 채운 뒤 변환해야 이벤트, 인덱스, 동기화 버전이 이번 수정 시각을 갖는다
+        photoBoothRepository.saveAndFlush(photoBooth);
         log.info("PhotoBooth updated by admin: id={}", id);
-        return PhotoBoothResponseDto.from(photoBooth);
+        PhotoBoothResponseDto updated = PhotoBoothResponseDto.from(photoBooth);
+        eventPublisher.publishEvent(PhotoBoothChangedEvent.updated(before, updated));
+        return updated;
     }
 
     /**
      * 포토부스 삭제
      */
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "photoBooths", allEntries = true),
-        @CacheEvict(value = "photoBooth", key = "#id"),
-        @CacheEvict(value = "nearbyPhotoBooths", allEntries = true),
-        @CacheEvict(value = "searchResults", allEntries = true),
-        @CacheEvict(value = "brandPhotoBooths", allEntries = true)
-    })
     public void deletePhotoBooth(Long id) {
         PhotoBooth photoBooth = photoBoothRepository.findById(id)
             .orElseThrow(() -> new PhotoBoothNotFoundException(id));
 
+        PhotoBoothResponseDto before = PhotoBoothResponseDto.from(photoBooth);
         photoBoothRepository.delete(photoBooth);
+        eventPublisher.publishEvent(PhotoBoothChangedEvent.deleted(before));
         log.info("PhotoBooth deleted by admin: id={}", id);
     }
 
@@ -223,9 +213,9 @@ public class AdminService {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new AuthException("User not found"));
 
-        // 관련 데이터 삭제
+        // 관련 데이터 삭제 (리뷰는 사진관 리뷰 집계도 함께 갱신한다)
         refreshTokenRepository.deleteAllByUser(user);
-        reviewRepository.deleteAllByUser(user);
+        reviewService.deleteAllReviewsByUser(user);
         favoriteRepository.deleteAllByUser(user);
         userRepository.delete(user);
 
@@ -233,16 +223,11 @@ public class AdminService {
     }
 
     /**
-     * 리뷰 삭제 (관리자)
+     * 리뷰 삭제 (관리자) - 사진관 리뷰 집계 갱신과 이벤트 발행은 ReviewService가 맡는다
      */
     @Transactional
     public void deleteReview(Long reviewId) {
-        if (!reviewRepository.existsById(reviewId)) {
-            throw new ReviewNotFoundException(reviewId);
-        }
-
-        reviewRepository.deleteById(reviewId);
-        log.info("Review deleted by admin: reviewId={}", reviewId);
+        reviewService.deleteReviewByAdmin(reviewId);
     }
 
     /**
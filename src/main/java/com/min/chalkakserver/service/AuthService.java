@@ -31,6 +31,7 @@ public class AuthService {
     private final com.min.chalkakserver.repository.FavoriteRepository favoriteRepository;
     private final com.min.chalkakserver.repository.CongestionReportRepository congestionReportRepository;
     private final com.min.chalkakserver.repository.PhotoBoothReportRepository photoBoothReportRepository;
+    private final ReviewService reviewService;
     private final JwtTokenProvider jwtTokenProvider;
     private final SocialAuthService socialAuthService;
     private final PasswordEncoder passwordEncoder;
@@ -175,8 +176,8 @@ public class AuthService {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new AuthException("User not found"));
 
-        // 연관 데이터 먼저 삭제 (FK 제약 방지)
-        reviewRepository.deleteAllByUser(user);
+        // 연관 데이터 먼저 삭제 (FK 제약 방지, 리뷰는 사진관 리뷰 집계도 함께 갱신한다)
+        reviewService.deleteAllReviewsByUser(user);
         favoriteRepository.deleteAllByUser(user);
         congestionReportRepository.deleteAllByUser(user);
         photoBoothReportRepository.deleteAllByUser(user);
@@ -1,19 +1,34 @@
 package com.min.chalkakserver.service;
 
+import com.min.chalkakserver.config.cache.CacheGenerations;
+import com.min.chalkakserver.config.cache.CacheMetrics;
+import com.min.chalkakserver.config.cache.InstrumentedCacheManager;
+import com.min.chalkakserver.config.cache.PrerenderedResponseCache;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Service
 public class CacheService {
+
+    static final int SCAN_COUNT = 1000;
+    static final int SCAN_LIMIT = 10_000;
+    static final int TTL_SAMPLE_SIZE = 100;
     
     @Autowired
     private CacheManager cacheManager;
@@ -21,11 +36,19 @@ public class CacheService {
     @Autowired(required = false)
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired(required = false)
+    private PrerenderedResponseCache prerenderedResponseCache;
+
+    @Autowired(required = false)
+    private CacheGenerations cacheGenerations;
+
     public void evictCache(String cacheName) {
         Cache cache = cacheManager.getCache(cacheName);
         if (cache != null) {
             cache.clear();
         }
+        // 직렬화해 둔 목록 응답도 같은 데이터를 담고 있으므로 함께 비운다
+        clearPrerenderedResponses();
     }
     
     public void evictAllCaches() {
@@ -36,8 +59,20 @@ public class CacheService {
                 cache.clear();
             }
         });
+        clearPrerenderedResponses();
+    }
+
+    private void clearPrerenderedResponses() {
+        if (prerenderedResponseCache != null) {
+            prerenderedResponseCache.clear();
+        }
     }
     
+    /**
+     * 캐시 통계 - 운영 중에도 주기적으로 호출해도 안전하도록 Redis를 막는 명령(KEYS 등)을 쓰지 않는다.
+     * 적중/실패/적재 시간은 프로세스 내 카운터에서 읽고, 키 개수는 SCAN으로 최대 {@link #SCAN_LIMIT}개까지 세며,
+     * TTL은 앞쪽 {@link #TTL_SAMPLE_SIZE}개 키만 파이프라인 한 번으로 조회한다.
+     */
     public Map<String, Object> getCacheStatistics() {
         Map<String, Object> stats = new HashMap<>();
         
@@ -48,20 +83,21 @@ public class CacheService {
             if (cache != null) {
                 cacheStats.put("name", cacheName);
                 cacheStats.put("type", cache.getClass().getSimpleName());
+
+                if (cacheManager instanceof InstrumentedCacheManager instrumented) {
+                    CacheMetrics metrics = instrumented.getMetrics(cacheName);
+                    if (metrics != null) {
+                        cacheStats.putAll(metrics.snapshot());
+                    }
+                }
                 
                 // Redis 통계 정보
-                Set<String> keys = redisTemplate != null ? redisTemplate.keys(cacheName + "::*") : null;
-                if (keys != null) {
-                    cacheStats.put("size", keys.size());
-                    cacheStats.put("keys", keys);
-                    
-                    // 각 키의 TTL 정보
-                    Map<String, Long> ttlInfo = new HashMap<>();
-                    keys.forEach(key -> {
-                        Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-                        ttlInfo.put(key, ttl);
-                    });
-                    cacheStats.put("ttlInfo", ttlInfo);
+                if (redisTemplate != null) {
+                    try {
+                        cacheStats.putAll(sampleRedisKeys(cacheName));
+                    } catch (Exception e) {
+                        log.warn("캐시 키 통계 조회 실패 - 캐시: {}: {}", cacheName, e.getMessage());
+                    }
                 }
             }
             
@@ -70,6 +106,55 @@ public class CacheService {
         
         return stats;
     }
+
+    private Map<String, Object> sampleRedisKeys(String cacheName) {
+        // 현재 세대 키만 센다 - 이전 세대 항목은 읽히지 않고 TTL로 사라진다
+        String prefix = cacheGenerations != null ? cacheGenerations.prefix(cacheName) : cacheName + "::";
+        List<String> sample = new ArrayList<>();
+        long size = 0;
+        boolean exact;
+        try (Cursor<String> cursor = redisTemplate.scan(
+                ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build())) {
+            while (size < SCAN_LIMIT && cursor.hasNext()) {
+                String key = cursor.next();
+                size++;
+                if (sample.size() < TTL_SAMPLE_SIZE) {
+                    sample.add(key);
+                }
+            }
+            exact = !cursor.hasNext();
+        }
+
+        Map<String, Object> keyStats = new HashMap<>();
+        keyStats.put("size", size);
+        keyStats.put("sizeExact", exact);
+        if (!sample.isEmpty()) {
+            keyStats.put("ttlInfo", summarizeTtl(sample));
+        }
+        return keyStats;
+    }
+
+    // 표본 키의 TTL(초)을 파이프라인 한 번으로 읽어 최소/최대/평균으로 요약한다
+    private Map<String, Object> summarizeTtl(List<String> keys) {
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.keyCommands().ttl(key.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+        LongSummaryStatistics summary = ttls.stream()
+                .filter(Long.class::isInstance)
+                .mapToLong(Long.class::cast)
+                .filter(ttl -> ttl >= 0)
+                .summaryStatistics();
+
+        Map<String, Object> ttlInfo = new HashMap<>();
+        ttlInfo.put("sampled", keys.size());
+        if (summary.getCount() > 0) {
+            ttlInfo.put("minSeconds", summary.getMin());
+            ttlInfo.put("maxSeconds", summary.getMax());
+            ttlInfo.put("averageSeconds", Math.round(summary.getAverage()));
+        }
+        return ttlInfo;
+    }
     
     public void warmUpCache() {
     }
@@ -11,6 +11,7 @@ import com.min.chalkakserver.exception.PhotoBoothNotFoundException;
 import com.min.chalkakserver.repository.CongestionReportRepository;
 import com.min.chalkakserver.repository.PhotoBoothRepository;
 import com.min.chalkakserver.repository.UserRepository;
+import com.min.chalkakserver.util.GeoUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -102,10 +103,10 @@ public class CongestionService {
                 .orElseThrow(() -> new PhotoBoothNotFoundException(photoBoothId));
 
         // GPS 거리 검증
-        double distance = calculateDistanceInMeters(
+        double distance = GeoUtils.distanceKm(
             request.getLatitude(), request.getLongitude(),
             photoBooth.getLatitude(), photoBooth.getLongitude()
-        );
+        ) * 1000;
         if (distance > MAX_REPORT_DISTANCE_METERS) {
             throw new IllegalArgumentException(
                 String.format("매장에서 너무 멀리 있습니다. (%.0fm) 매장 근처에서 제보해주세요.", distance)
@@ -145,17 +146,6 @@ public class CongestionService {
                 .build();
     }
 
-    private double calculateDistanceInMeters(double lat1, double lon1, double lat2, double lon2) {
-        final double R = 6371000;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c;
-    }
-
     private double calculateWeightedScore(List<CongestionReport> reports) {
         LocalDateTime now = LocalDateTime.now();
         double weightedSum = 0.0;
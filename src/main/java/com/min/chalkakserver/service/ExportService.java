@@ -0,0 +1,211 @@
+package com.min.chalkakserver.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.dto.post.PostResponseDto;
+import com.min.chalkakserver.dto.review.ReviewResponseDto;
+import com.min.chalkakserver.entity.PhotoBooth;
+import com.min.chalkakserver.entity.Post;
+import com.min.chalkakserver.entity.Review;
+import com.min.chalkakserver.exception.PhotoBoothNotFoundException;
+import com.min.chalkakserver.repository.PhotoBoothRepository;
+import com.min.chalkakserver.repository.PostLikeRepository;
+import com.min.chalkakserver.repository.PostRepository;
+import com.min.chalkakserver.repository.ReviewRepository;
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 대량 목록 내보내기 (JSON 배열 / NDJSON 스트리밍)
+ *
+ * 목록을 List로 모으지 않고 JPA Stream으로 한 행씩 읽어 바로 응답 스트림에 쓴다.
+ * {@link #FLUSH_INTERVAL}건마다 출력을 flush하고 영속성 컨텍스트를 비워, 전체 건수와 무관하게 메모리 사용량이 일정하다.
+ * 응답 본문은 컨트롤러가 반환된 뒤 별도 스레드에서 쓰이므로(OSIV 비활성화) 읽기 전용 트랜잭션을 직접 연다.
+ * 내보내기용 스트림 쿼리는 모두 fetch size를 Integer.MIN_VALUE로 지정한다. MySQL 드라이버는 이 값일 때
+ * 결과를 한 행씩 스트리밍하므로(useCursorFetch 없이도) 드라이버 단에서도 결과 전체를 메모리에 올리지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    static final int FLUSH_INTERVAL = 500;
+
+    private final PhotoBoothRepository photoBoothRepository;
+    private final ReviewRepository reviewRepository;
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    // 전체 사진관 내보내기 - 태그는 조인 행을 사진관별로 묶어 채운다 (지연 로딩 없음)
+    public StreamingResponseBody exportPhotoBooths(Format format) {
+        return out -> write(out, format, "사진관", writer -> {
+            try (Stream<Object[]> rows = photoBoothRepository.streamAllWithTagNames()) {
+                PhotoBooth current = null;
+                List<String> tagNames = new ArrayList<>();
+                Iterator<Object[]> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    Object[] row = iterator.next();
+                    PhotoBooth photoBooth = (PhotoBooth) row[0];
+                    if (current != null && !current.getId().equals(photoBooth.getId())) {
+                        writer.write(PhotoBoothResponseDto.withTagNames(current, tagNames));
+                        tagNames = new ArrayList<>();
+                    }
+                    current = photoBooth;
+                    if (row[1] != null) {
+                        tagNames.add((String) row[1]);
+                    }
+                }
+                if (current != null) {
+                    writer.write(PhotoBoothResponseDto.withTagNames(current, tagNames));
+                }
+            }
+        });
+    }
+
+    // 사진관 리뷰 내보내기 - 사진관이 없으면 스트리밍 시작 전에 404
+    public StreamingResponseBody exportPhotoBoothReviews(Long photoBoothId, Format format) {
+        if (!photoBoothRepository.existsById(photoBoothId)) {
+            throw new PhotoBoothNotFoundException(photoBoothId);
+        }
+        return out -> write(out, format, "리뷰", writer -> {
+            try (Stream<Review> reviews = reviewRepository.streamByPhotoBoothId(photoBoothId)) {
+                Iterator<Review> iterator = reviews.iterator();
+                while (iterator.hasNext()) {
+                    writer.write(ReviewResponseDto.from(iterator.next()));
+                }
+            }
+        });
+    }
+
+    // 전체 게시물 내보내기 - 좋아요 여부는 게시물마다 조회하지 않고 사용자의 좋아요 ID를 한 번에 읽는다
+    public StreamingResponseBody exportPosts(Long currentUserId, Format format) {
+        return out -> write(out, format, "게시물", writer -> {
+            Set<Long> likedPostIds = currentUserId != null
+                    ? postLikeRepository.findPostIdsByUserId(currentUserId)
+                    : Set.of();
+            try (Stream<Post> posts = postRepository.streamAllWithUserAndPhotoBooth()) {
+                Iterator<Post> iterator = posts.iterator();
+                while (iterator.hasNext()) {
+                    Post post = iterator.next();
+                    writer.write(PostResponseDto.from(post, likedPostIds.contains(post.getId())));
+                }
+            }
+        });
+    }
+
+    private void write(OutputStream out, Format format, String target, Exporter exporter) throws IOException {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        // 항목마다 flush하지 않고, 최상위 값 사이에 기본 구분자(공백)를 넣지 않는다
+        ObjectWriter objectWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+        try (JsonGenerator generator = objectWriter.createGenerator(out)) {
+            // 중간에 실패하면 닫는 ']'를 쓰지 않아, 잘린 응답이 정상 JSON처럼 보이지 않게 한다
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            ItemWriter writer = new ItemWriter(objectWriter, generator, format);
+            writer.start();
+            transaction.executeWithoutResult(status -> {
+                try {
+                    exporter.export(writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.end();
+            log.info("{} 내보내기 완료 - {}건 ({})", target, writer.count, format);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Exporter {
+        void export(ItemWriter writer) throws IOException;
+    }
+
+    // 항목을 형식에 맞춰 쓰고, 일정 건수마다 flush 및 영속성 컨텍스트 정리
+    private final class ItemWriter {
+
+        private final ObjectWriter objectWriter;
+        private final JsonGenerator generator;
+        private final Format format;
+        private long count;
+
+        private ItemWriter(ObjectWriter objectWriter, JsonGenerator generator, Format format) {
+            this.objectWriter = objectWriter;
+            this.generator = generator;
+            this.format = format;
+        }
+
+        void start() throws IOException {
+            if (format == Format.JSON) {
+                generator.writeStartArray();
+            }
+        }
+
+        void write(Object item) throws IOException {
+            objectWriter.writeValue(generator, item);
+            if (format == Format.NDJSON) {
+                generator.writeRaw('\n');
+            }
+            if (++count % FLUSH_INTERVAL == 0) {
+                generator.flush();
+                entityManager.clear();
+            }
+        }
+
+        void end() throws IOException {
+            if (format == Format.JSON) {
+                generator.writeEndArray();
+            }
+            generator.flush();
+        }
+    }
+
+    /**
+     * 내보내기 형식 - json은 하나의 배열, ndjson은 한 줄에 한 항목
+     */
+    @Getter
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON),
+        NDJSON(MediaType.APPLICATION_NDJSON);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public static Format of(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+}
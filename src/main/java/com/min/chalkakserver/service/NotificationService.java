@@ -3,6 +3,8 @@ package com.min.chalkakserver.service;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.min.chalkakserver.config.cache.ApproximateCountCache;
+import com.min.chalkakserver.dto.CursorPageResponseDto;
 import com.min.chalkakserver.dto.PagedResponseDto;
 import com.min.chalkakserver.dto.notification.NotificationResponseDto;
 import com.min.chalkakserver.entity.DeviceToken;
@@ -12,11 +14,13 @@ import com.min.chalkakserver.repository.DeviceTokenRepository;
 import com.min.chalkakserver.repository.FavoriteRepository;
 import com.min.chalkakserver.repository.NotificationRepository;
 import com.min.chalkakserver.repository.UserRepository;
+import com.min.chalkakserver.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.lang.Nullable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -35,6 +39,7 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final FavoriteRepository favoriteRepository;
     private final UserRepository userRepository;
+    private final ApproximateCountCache approximateCountCache;
 
     // FCM은 선택적: 서비스 계정 JSON 없으면 null로 주입되고 푸시는 스킵.
     @Autowired(required = false)
@@ -77,6 +82,30 @@ public class NotificationService {
         return PagedResponseDto.from(notifications.map(NotificationResponseDto::from));
     }
 
+    // Slice 모드 - COUNT 쿼리 없이 조회하고 전체 개수는 캐시된 근사치로 채운다
+    @Transactional(readOnly = true)
+    public PagedResponseDto<NotificationResponseDto> getNotificationsSlice(Long userId, int page, int size) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Slice<Notification> notifications = notificationRepository.findSliceByUserOrderByCreatedAtDesc(
+                user, PageRequest.of(page, size));
+        long total = approximateCountCache.get("notifications:user:" + userId,
+                () -> notificationRepository.countByUser(user));
+        return PagedResponseDto.from(notifications.map(NotificationResponseDto::from), total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<NotificationResponseDto> getNotificationsByCursor(Long userId, String cursor, int size) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        return CursorPageResponseDto.from(
+                notificationRepository.findSliceByUserBefore(
+                        user, position.createdAt(), position.id(), PageRequest.ofSize(size)),
+                notification -> new KeysetCursor(notification.getCreatedAt(), notification.getId()),
+                NotificationResponseDto::from);
+    }
+
     public void markAsRead(Long notificationId, Long userId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("알림을 찾을 수 없습니다."));
@@ -1,5 +1,6 @@
 package com.min.chalkakserver.service;
 
+import com.min.chalkakserver.dto.CursorPageResponseDto;
 import com.min.chalkakserver.dto.PagedResponseDto;
 import com.min.chalkakserver.dto.album.PhotoResponseDto;
 import com.min.chalkakserver.dto.album.PhotoUpdateRequestDto;
@@ -8,6 +9,7 @@ import com.min.chalkakserver.entity.User;
 import com.min.chalkakserver.exception.AuthException;
 import com.min.chalkakserver.repository.PhotoRepository;
 import com.min.chalkakserver.repository.UserRepository;
+import com.min.chalkakserver.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -97,6 +99,20 @@ public class PhotoAlbumService {
         return PagedResponseDto.from(photoPage.map(PhotoResponseDto::from));
     }
 
+    /**
+     * 내 사진 목록 조회 (커서 페이징, createdAt DESC)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PhotoResponseDto> getMyPhotosByCursor(
+            Long userId, boolean favoriteOnly, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        return CursorPageResponseDto.from(
+            photoRepository.findSliceByUserIdBefore(
+                userId, favoriteOnly, position.createdAt(), position.id(), PageRequest.ofSize(size)),
+            photo -> new KeysetCursor(photo.getCreatedAt(), photo.getId()),
+            PhotoResponseDto::from);
+    }
+
     /**
      * 사진 부분 수정 (memo / favorite, null이 아닌 필드만 반영)
      */
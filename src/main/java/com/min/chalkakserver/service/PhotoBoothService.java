@@ -1,27 +1,50 @@
 package com.min.chalkakserver.service;
 
+import com.min.chalkakserver.config.cache.PhotoBoothTileCache;
+import com.min.chalkakserver.dto.CursorPageResponseDto;
+import com.min.chalkakserver.dto.FacetedPhotoBoothResponseDto;
+import com.min.chalkakserver.dto.NearestPhotoBoothResponseDto;
 import com.min.chalkakserver.dto.PagedResponseDto;
+import com.min.chalkakserver.dto.PhotoBoothClusterDto;
+import com.min.chalkakserver.dto.PhotoBoothFacetsDto;
 import com.min.chalkakserver.dto.PhotoBoothImageDto;
 import com.min.chalkakserver.dto.PhotoBoothRequestDto;
 import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.dto.PhotoBoothSuggestionDto;
 import com.min.chalkakserver.entity.PhotoBooth;
+import com.min.chalkakserver.exception.IndexNotReadyException;
 import com.min.chalkakserver.exception.InvalidLocationException;
 import com.min.chalkakserver.exception.PhotoBoothNotFoundException;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import com.min.chalkakserver.index.PhotoBoothChosungIndex;
+import com.min.chalkakserver.index.PhotoBoothClusterIndex;
+import com.min.chalkakserver.index.PhotoBoothFilterIndex;
+import com.min.chalkakserver.index.PhotoBoothFuzzyIndex;
+import com.min.chalkakserver.index.PhotoBoothPopularityIndex;
+import com.min.chalkakserver.index.PhotoBoothSpatialIndex;
+import com.min.chalkakserver.index.PhotoBoothSuggestIndex;
+import com.min.chalkakserver.index.PhotoBoothTextIndex;
 import com.min.chalkakserver.repository.PhotoBoothImageRepository;
 import com.min.chalkakserver.repository.PhotoBoothRepository;
+import com.min.chalkakserver.util.GeoUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import com.min.chalkakserver.dto.PhotoBoothReportDto;
@@ -31,6 +54,7 @@ import com.min.chalkakserver.entity.User;
 import com.min.chalkakserver.exception.AuthException;
 import com.min.chalkakserver.repository.PhotoBoothReportRepository;
 import com.min.chalkakserver.repository.UserRepository;
+import com.min.chalkakserver.util.KeysetCursor;
 
 @Slf4j
 @Service
@@ -38,10 +62,22 @@ import com.min.chalkakserver.repository.UserRepository;
 @RequiredArgsConstructor
 public class PhotoBoothService {
     
+    private static final double MAX_SEARCH_RADIUS_KM = 50.0;
+    
     private final PhotoBoothRepository photoBoothRepository;
     private final PhotoBoothImageRepository photoBoothImageRepository;
     private final PhotoBoothReportRepository photoBoothReportRepository;
     private final UserRepository userRepository;
+    private final PhotoBoothSpatialIndex photoBoothSpatialIndex;
+    private final PhotoBoothClusterIndex photoBoothClusterIndex;
+    private final PhotoBoothTextIndex photoBoothTextIndex;
+    private final PhotoBoothChosungIndex photoBoothChosungIndex;
+    private final PhotoBoothFuzzyIndex photoBoothFuzzyIndex;
+    private final PhotoBoothFilterIndex photoBoothFilterIndex;
+    private final PhotoBoothSuggestIndex photoBoothSuggestIndex;
+    private final PhotoBoothPopularityIndex photoBoothPopularityIndex;
+    private final PhotoBoothTileCache photoBoothTileCache;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 모든 네컷사진관 조회
     @Transactional(readOnly = true)
@@ -66,6 +102,16 @@ public class PhotoBoothService {
         return PagedResponseDto.from(dtoPage);
     }
     
+    // 모든 네컷사진관 조회 (커서 페이지네이션, 최신 등록순)
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PhotoBoothResponseDto> getAllPhotoBoothsByCursor(String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        return CursorPageResponseDto.from(
+                photoBoothRepository.findSliceBefore(position.createdAt(), position.id(), PageRequest.ofSize(size)),
+                photoBooth -> new KeysetCursor(photoBooth.getCreatedAt(), photoBooth.getId()),
+                PhotoBoothResponseDto::from);
+    }
+    
     // ID로 네컷사진관 조회
     @Transactional(readOnly = true)
     @Cacheable(value = "photoBooth", key = "#id", unless = "#result == null")
@@ -82,42 +128,117 @@ public class PhotoBoothService {
     }
     
     // 근처 네컷사진관 검색
-    @Transactional(readOnly = true)
-    @Cacheable(value = "nearbyPhotoBooths", keyGenerator = "locationKeyGenerator", unless = "#result == null || #result.isEmpty()")
+    // 인메모리 공간 인덱스가 준비되어 있으면 DB/Redis를 거치지 않고 바로 응답한다.
+    // 인덱스 적재 전에는 지오타일 캐시에서 반경을 덮는 타일을 모아 거리로 거른다.
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<PhotoBoothResponseDto> getNearbyPhotoBooths(double latitude, double longitude, double radius) {
-        log.info("근처 네컷사진관 검색 - 위도: {}, 경도: {}, 반경: {}km - DB에서 데이터 조회", latitude, longitude, radius);
-        
         // 위치 유효성 검증
         validateLocation(latitude, longitude, radius);
         
-        // Bounding Box 계산 (대략적인 범위 필터링)
-        double latRange = radius / 111.0; // 1도 = 약 111km
-        double lonRange = radius / (111.0 * Math.cos(Math.toRadians(latitude)));
+        if (photoBoothSpatialIndex.isReady()) {
+            log.debug("근처 네컷사진관 검색 - 위도: {}, 경도: {}, 반경: {}km - 인메모리 인덱스 조회", latitude, longitude, radius);
+            return photoBoothSpatialIndex.findWithinRadius(latitude, longitude, radius);
+        }
         
-        double minLat = latitude - latRange;
-        double maxLat = latitude + latRange;
-        double minLon = longitude - lonRange;
-        double maxLon = longitude + lonRange;
+        log.debug("근처 네컷사진관 검색 - 위도: {}, 경도: {}, 반경: {}km - 타일 캐시 조회", latitude, longitude, radius);
+        return photoBoothTileCache.findWithinRadius(latitude, longitude, radius);
+    }
+    
+    // 근처 네컷사진관 검색 + 브랜드/시리즈/태그별 개수
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public FacetedPhotoBoothResponseDto getNearbyPhotoBoothsWithFacets(double latitude, double longitude, double radius) {
+        List<PhotoBoothResponseDto> nearby = getNearbyPhotoBooths(latitude, longitude, radius);
+        return new FacetedPhotoBoothResponseDto(nearby, countFacets(nearby));
+    }
+    
+    // 가장 가까운 네컷사진관 k개 조회 (반경 제한 없음)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<NearestPhotoBoothResponseDto> getNearestPhotoBooths(double latitude, double longitude, int k) {
+        validateCoordinates(latitude, longitude);
         
-        // Spatial Index를 활용한 쿼리 실행
-        List<PhotoBooth> nearbyBooths = photoBoothRepository.findNearbyPhotoBooths(
-            latitude, longitude, radius, minLat, maxLat, minLon, maxLon
-        );
+        if (photoBoothSpatialIndex.isReady()) {
+            log.debug("가장 가까운 네컷사진관 검색 - 위도: {}, 경도: {}, k: {} - 인메모리 인덱스 조회", latitude, longitude, k);
+            return photoBoothSpatialIndex.findNearest(latitude, longitude, k)
+                    .stream()
+                    .map(neighbor -> NearestPhotoBoothResponseDto.of(neighbor.photoBooth(), neighbor.distanceKm()))
+                    .collect(Collectors.toList());
+        }
         
-        return nearbyBooths.stream()
-                .map(PhotoBoothResponseDto::from)
+        // 인덱스 적재 전에는 최대 반경으로 한 번만 조회한 뒤 앞에서 k개를 자른다
+        log.info("가장 가까운 네컷사진관 검색 - 위도: {}, 경도: {}, k: {} - DB에서 데이터 조회", latitude, longitude, k);
+        double[] box = GeoUtils.boundingBox(latitude, longitude, MAX_SEARCH_RADIUS_KM);
+        return photoBoothRepository.findNearbyPhotoBooths(
+                    latitude, longitude, MAX_SEARCH_RADIUS_KM, box[0], box[1], box[2], box[3])
+                .stream()
+                .limit(k)
+                .map(photoBooth -> NearestPhotoBoothResponseDto.of(
+                        PhotoBoothResponseDto.from(photoBooth),
+                        GeoUtils.distanceKm(latitude, longitude, photoBooth.getLatitude(), photoBooth.getLongitude())))
+                .collect(Collectors.toList());
+    }
+    
+    // 지도 화면 범위의 클러스터 조회
+    // bbox 형식: "서경,남위,동경,북위" (west,south,east,north)
+    // 인덱스 적재 전(기동 직후 잠깐)에는 503으로 응답한다. 축소된 지도의 bbox는 전국이라 DB로 대체하면 요청마다 전체를 읽게 된다.
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<PhotoBoothClusterDto> getPhotoBoothClusters(String bbox, int zoom) {
+        double[] bounds = parseBoundingBox(bbox);
+        
+        if (!photoBoothClusterIndex.isReady()) {
+            log.info("지도 클러스터 조회 - bbox: {}, zoom: {} - 인덱스 적재 전", bbox, zoom);
+            throw new IndexNotReadyException("지도 클러스터를 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        
+        return photoBoothClusterIndex.findClusters(bounds[0], bounds[1], bounds[2], bounds[3], zoom)
+                .stream()
+                .map(cluster -> PhotoBoothClusterDto.builder()
+                        .latitude(cluster.latitude())
+                        .longitude(cluster.longitude())
+                        .count(cluster.count())
+                        .photoBoothId(cluster.photoBooth() != null ? cluster.photoBooth().getId() : null)
+                        .name(cluster.photoBooth() != null ? cluster.photoBooth().getName() : null)
+                        .brand(cluster.photoBooth() != null ? cluster.photoBooth().getBrand() : null)
+                        .build())
+                .collect(Collectors.toList());
+    }
+    
+    // 조합 필터 조회 (브랜드/시리즈/태그/최소 평점, 위치가 있으면 반경까지)
+    // 필터 비트맵으로 조건을 한 번에 거르고, 위치가 있으면 근처 검색의 거리순 결과에서 조건에 맞는 것만 남긴다.
+    // 인덱스 적재 전에는 위치가 있으면 근처 결과를 하나씩 조건과 비교하고, 위치가 없으면(전체 대상) 503으로 응답한다.
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<PhotoBoothResponseDto> queryPhotoBooths(PhotoBoothFilterIndex.Criteria criteria,
+                                                        Double latitude, Double longitude, double radius) {
+        boolean hasLocation = latitude != null || longitude != null;
+        if (hasLocation) {
+            if (latitude == null || longitude == null) {
+                throw new InvalidLocationException("위도와 경도는 함께 입력해야 합니다.");
+            }
+            validateLocation(latitude, longitude, radius);
+        }
+        
+        if (!photoBoothFilterIndex.isReady()) {
+            if (!hasLocation) {
+                log.info("조합 필터 조회 - 인덱스 적재 전");
+                throw new IndexNotReadyException("필터 검색을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            log.info("조합 필터 조회 - 인덱스 적재 전, 근처 결과에서 조건 비교");
+            return getNearbyPhotoBooths(latitude, longitude, radius)
+                    .stream()
+                    .filter(criteria::matches)
+                    .collect(Collectors.toList());
+        }
+        
+        PhotoBoothFilterIndex.Matches matches = photoBoothFilterIndex.match(criteria);
+        if (!hasLocation) {
+            return matches.photoBooths();
+        }
+        return getNearbyPhotoBooths(latitude, longitude, radius)
+                .stream()
+                .filter(photoBooth -> matches.contains(photoBooth.getId()))
                 .collect(Collectors.toList());
     }
     
     // 네컷사진관 생성
-    @Caching(evict = {
-        @CacheEvict(value = "photoBooths", allEntries = true),
-        @CacheEvict(value = "nearbyPhotoBooths", allEntries = true),
-        @CacheEvict(value = "searchResults", allEntries = true),
-        @CacheEvict(value = "brandPhotoBooths", allEntries = true),
-        @CacheEvict(value = "brandSeriesPhotoBooths", allEntries = true),
-        @CacheEvict(value = "seriesPhotoBooths", allEntries = true)
-    })
     public PhotoBoothResponseDto createPhotoBooth(PhotoBoothRequestDto requestDto) {
         log.info("네컷사진관 생성 - 이름: {}", requestDto.getName());
         
@@ -127,24 +248,18 @@ public class PhotoBoothService {
         PhotoBooth savedPhotoBooth = photoBoothRepository.save(photoBooth);
         
         // Entity를 DTO로 변환하여 반환
-        return PhotoBoothResponseDto.from(savedPhotoBooth);
+        PhotoBoothResponseDto created = PhotoBoothResponseDto.from(savedPhotoBooth);
+        eventPublisher.publishEvent(PhotoBoothChangedEvent.created(created));
+        return created;
     }
     
     // 네컷사진관 수정
-    @Caching(evict = {
-        @CacheEvict(value = "photoBooths", allEntries = true),
-        @CacheEvict(value = "photoBooth", key = "#id"),
-        @CacheEvict(value = "nearbyPhotoBooths", allEntries = true),
-        @CacheEvict(value = "searchResults", allEntries = true),
-        @CacheEvict(value = "brandPhotoBooths", allEntries = true),
-        @CacheEvict(value = "brandSeriesPhotoBooths", allEntries = true),
-        @CacheEvict(value = "seriesPhotoBooths", allEntries = true)
-    })
     public PhotoBoothResponseDto updatePhotoBooth(Long id, PhotoBoothRequestDto requestDto) {
         log.info("네컷사진관 수정 - ID: {}", id);
         
         PhotoBooth photoBooth = photoBoothRepository.findById(id)
                 .orElseThrow(() -> new PhotoBoothNotFoundException(id));
+        PhotoBoothResponseDto before = PhotoBoothResponseDto.from(photoBooth);
         
         // update 메서드를 사용하여 엔티티 업데이트
         photoBooth.update(
@@ -161,32 +276,35 @@ public class PhotoBoothService {
             requestDto.getPriceInfo()
         );
         
-        PhotoBooth updatedPhotoBooth = photoBoothRepository.save(photoBooth);
-        return PhotoBoothResponseDto.from(updatedPhotoBooth);
+        // @PreUpdate가 updatedAt을 채운 뒤 변환해야 이벤트, 인덱스, 동기화 버전이 이번 수정 시각을 갖는다
+        PhotoBooth updatedPhotoBooth = photoBoothRepository.saveAndFlush(photoBooth);
+        PhotoBoothResponseDto updated = PhotoBoothResponseDto.from(updatedPhotoBooth);
+        eventPublisher.publishEvent(PhotoBoothChangedEvent.updated(before, updated));
+        return updated;
     }
     
     // 네컷사진관 삭제
-    @Caching(evict = {
-        @CacheEvict(value = "photoBooths", allEntries = true),
-        @CacheEvict(value = "photoBooth", key = "#id"),
-        @CacheEvict(value = "nearbyPhotoBooths", allEntries = true),
-        @CacheEvict(value = "searchResults", allEntries = true),
-        @CacheEvict(value = "brandPhotoBooths", allEntries = true),
-        @CacheEvict(value = "brandSeriesPhotoBooths", allEntries = true),
-        @CacheEvict(value = "seriesPhotoBooths", allEntries = true)
-    })
     public void deletePhotoBooth(Long id) {
         log.info("네컷사진관 삭제 - ID: {}", id);
-        if (!photoBoothRepository.existsById(id)) {
-            throw new PhotoBoothNotFoundException(id);
-        }
-        photoBoothRepository.deleteById(id);
+        PhotoBooth photoBooth = photoBoothRepository.findById(id)
+                .orElseThrow(() -> new PhotoBoothNotFoundException(id));
+        PhotoBoothResponseDto before = PhotoBoothResponseDto.from(photoBooth);
+        photoBoothRepository.delete(photoBooth);
+        eventPublisher.publishEvent(PhotoBoothChangedEvent.deleted(before));
     }
     
     // 키워드로 검색
-    @Transactional(readOnly = true)
-    @Cacheable(value = "searchResults", key = "#keyword", unless = "#result == null || #result.isEmpty()")
+    // n-gram 역색인이 준비되어 있으면 LIKE 스캔 없이 메모리에서 찾는다. (캐시는 DB 대체 경로만)
+    // 초성 검색어("ㅇㅅㄴㅋ")는 이름/브랜드의 초성 인덱스 결과도 함께 돌려준다.
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    @Cacheable(value = "searchResults", key = "#keyword",
+            condition = "!@photoBoothTextIndex.ready", unless = "#result == null || #result.isEmpty()")
     public List<PhotoBoothResponseDto> searchPhotoBooths(String keyword) {
+        if (photoBoothTextIndex.isReady()) {
+            log.debug("키워드로 검색 - 키워드: {} - 인메모리 인덱스 조회", keyword);
+            return searchIndexes(keyword);
+        }
+        
         log.info("키워드로 검색 - 키워드: {} - DB에서 데이터 조회", keyword);
         return photoBoothRepository.findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(keyword, keyword)
                 .stream()
@@ -195,11 +313,22 @@ public class PhotoBoothService {
     }
     
     // 키워드로 검색 (페이지네이션)
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PagedResponseDto<PhotoBoothResponseDto> searchPhotoBoothsPaged(String keyword, int page, int size) {
-        log.info("키워드로 검색 (페이지: {}, 사이즈: {}) - 키워드: {} - DB에서 데이터 조회", page, size, keyword);
-        
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        
+        if (photoBoothTextIndex.isReady()) {
+            log.debug("키워드로 검색 (페이지: {}, 사이즈: {}) - 키워드: {} - 인메모리 인덱스 조회", page, size, keyword);
+            List<PhotoBoothResponseDto> matches = searchIndexes(keyword);
+            matches.sort(Comparator.comparing(PhotoBoothResponseDto::getCreatedAt,
+                            Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(PhotoBoothResponseDto::getId, Comparator.reverseOrder()));
+            int from = (int) Math.min(pageable.getOffset(), matches.size());
+            int to = Math.min(from + size, matches.size());
+            return PagedResponseDto.from(new PageImpl<>(matches.subList(from, to), pageable, matches.size()));
+        }
+        
+        log.info("키워드로 검색 (페이지: {}, 사이즈: {}) - 키워드: {} - DB에서 데이터 조회", page, size, keyword);
         Page<PhotoBooth> photoBoothPage = photoBoothRepository
                 .findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(keyword, keyword, pageable);
         
@@ -207,6 +336,64 @@ public class PhotoBoothService {
         return PagedResponseDto.from(dtoPage);
     }
     
+    // 키워드로 검색 + 브랜드/시리즈/태그별 개수 (fuzzy면 오타 허용 검색 결과로 센다)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public FacetedPhotoBoothResponseDto searchPhotoBoothsWithFacets(String keyword, boolean fuzzy) {
+        List<PhotoBoothResponseDto> results = fuzzy ? fuzzySearchPhotoBooths(keyword) : searchPhotoBooths(keyword);
+        return new FacetedPhotoBoothResponseDto(results, countFacets(results));
+    }
+    
+    // 결과 목록의 facet 개수 - 필터 인덱스의 값별 비트맵과 결과의 교집합 크기로 센다
+    private PhotoBoothFacetsDto countFacets(List<PhotoBoothResponseDto> photoBooths) {
+        if (photoBoothFilterIndex.isReady()) {
+            return PhotoBoothFacetsDto.from(photoBoothFilterIndex.countFacets(
+                    photoBooths.stream().map(PhotoBoothResponseDto::getId).collect(Collectors.toList())));
+        }
+        return PhotoBoothFacetsDto.from(PhotoBoothFilterIndex.countFacets(photoBooths));
+    }
+    
+    // 오타 허용 검색 (단어별 편집 거리 1~2, 거리 합이 작은 순)
+    // 인덱스 적재 전에는 오타 허용 없이 일반 키워드 검색(LIKE)으로 대체한다.
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<PhotoBoothResponseDto> fuzzySearchPhotoBooths(String keyword) {
+        if (!photoBoothFuzzyIndex.isReady()) {
+            log.info("오타 허용 검색 - 키워드: {} - 인덱스 적재 전, DB 키워드 검색으로 대체", keyword);
+            return photoBoothRepository.findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(keyword, keyword)
+                    .stream()
+                    .map(PhotoBoothResponseDto::from)
+                    .collect(Collectors.toList());
+        }
+        
+        log.debug("오타 허용 검색 - 키워드: {} - 인메모리 인덱스 조회", keyword);
+        return photoBoothFuzzyIndex.search(keyword);
+    }
+    
+    // 키워드 역색인과 초성 인덱스 결과를 ID 오름차순으로 합친다
+    private List<PhotoBoothResponseDto> searchIndexes(String keyword) {
+        List<PhotoBoothResponseDto> matches = photoBoothTextIndex.search(keyword);
+        if (!PhotoBoothChosungIndex.isChosungQuery(keyword) || !photoBoothChosungIndex.isReady()) {
+            return matches;
+        }
+        Map<Long, PhotoBoothResponseDto> merged = new TreeMap<>();
+        matches.forEach(photoBooth -> merged.put(photoBooth.getId(), photoBooth));
+        photoBoothChosungIndex.search(keyword).forEach(photoBooth -> merged.putIfAbsent(photoBooth.getId(), photoBooth));
+        return new ArrayList<>(merged.values());
+    }
+    
+    // 검색어 자동완성
+    // 접두사 트라이가 적재되기 전(기동 직후 잠깐)에는 빈 목록을 돌려준다. 자동완성은 없어도 검색은 되므로 DB로 대체하지 않는다.
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<PhotoBoothSuggestionDto> suggest(String query, int limit) {
+        if (!photoBoothSuggestIndex.isReady()) {
+            log.debug("검색어 자동완성 - 검색어: {} - 인덱스 적재 전", query);
+            return List.of();
+        }
+        return photoBoothSuggestIndex.suggest(query, limit)
+                .stream()
+                .map(PhotoBoothSuggestionDto::from)
+                .collect(Collectors.toList());
+    }
+    
     // 브랜드로 검색
     @Transactional(readOnly = true)
     @Cacheable(value = "brandPhotoBooths", key = "#brand", unless = "#result == null || #result.isEmpty()")
@@ -254,28 +441,63 @@ public class PhotoBoothService {
     
     // 위치 유효성 검증 메서드
     private void validateLocation(double latitude, double longitude, double radius) {
+        validateCoordinates(latitude, longitude);
+        if (radius <= 0 || radius > MAX_SEARCH_RADIUS_KM) {
+            throw new InvalidLocationException("검색 반경은 0km 초과 50km 이하여야 합니다. 입력값: " + radius);
+        }
+    }
+    
+    private double[] parseBoundingBox(String bbox) {
+        String[] parts = bbox.split(",");
+        if (parts.length != 4) {
+            throw new InvalidLocationException("bbox는 '서경,남위,동경,북위' 형식이어야 합니다. 입력값: " + bbox);
+        }
+        double[] bounds = new double[4];
+        try {
+            for (int i = 0; i < 4; i++) {
+                bounds[i] = Double.parseDouble(parts[i].trim());
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidLocationException("bbox 좌표는 숫자여야 합니다. 입력값: " + bbox);
+        }
+        validateCoordinates(bounds[1], bounds[0]);
+        validateCoordinates(bounds[3], bounds[2]);
+        if (bounds[1] > bounds[3]) {
+            throw new InvalidLocationException("bbox의 남위는 북위보다 클 수 없습니다. 입력값: " + bbox);
+        }
+        return bounds;
+    }
+    
+    private void validateCoordinates(double latitude, double longitude) {
         if (latitude < -90 || latitude > 90) {
             throw new InvalidLocationException("위도는 -90도에서 90도 사이여야 합니다. 입력값: " + latitude);
         }
         if (longitude < -180 || longitude > 180) {
             throw new InvalidLocationException("경도는 -180도에서 180도 사이여야 합니다. 입력값: " + longitude);
         }
-        if (radius <= 0 || radius > 50) {
-            throw new InvalidLocationException("검색 반경은 0km 초과 50km 이하여야 합니다. 입력값: " + radius);
-        }
     }
 
     // 브랜드 목록 조회
-    @Transactional(readOnly = true)
+    // 필터 인덱스가 준비되어 있으면 브랜드 비트맵의 키로 바로 응답한다
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<String> getDistinctBrands() {
-        log.info("브랜드 목록 조회");
+        if (photoBoothFilterIndex.isReady()) {
+            log.debug("브랜드 목록 조회 - 인메모리 인덱스 조회");
+            return photoBoothFilterIndex.brands();
+        }
+        log.info("브랜드 목록 조회 - DB에서 데이터 조회");
         return photoBoothRepository.findDistinctBrands();
     }
 
     // 인기 네컷사진관 조회
-    @Transactional(readOnly = true)
+    // 인기 순위 인덱스가 준비되어 있으면 리뷰 집계 없이 유지 중인 순위 앞쪽을 바로 반환한다
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<PhotoBoothResponseDto> getPopularPhotoBooths(int limit) {
-        log.info("인기 네컷사진관 조회 - limit: {}", limit);
+        if (photoBoothPopularityIndex.isReady()) {
+            log.debug("인기 네컷사진관 조회 - 인메모리 순위 조회, limit: {}", limit);
+            return photoBoothPopularityIndex.top(limit);
+        }
+        log.info("인기 네컷사진관 조회 - DB 집계, limit: {}", limit);
         return photoBoothRepository.findPopularPhotoBooths(limit)
                 .stream()
                 .map(PhotoBoothResponseDto::from)
@@ -0,0 +1,124 @@
+package com.min.chalkakserver.service;
+
+import com.min.chalkakserver.config.cache.PhotoBoothCatalogSnapshot;
+import com.min.chalkakserver.dto.PhotoBoothChangesDto;
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.entity.PhotoBoothTombstone;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import com.min.chalkakserver.repository.PhotoBoothRepository;
+import com.min.chalkakserver.repository.PhotoBoothTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 네컷사진관 카탈로그 델타 동기화
+ *
+ * 카탈로그 버전은 DB에 커밋된 가장 늦은 변경 시각(PhotoBooth.updatedAt, tombstone의 deletedAt 중 최댓값, epoch millis)이다.
+ * 버전을 먼저 읽고 같은 트랜잭션에서 캐시를 거치지 않고 목록을 읽으므로, 응답 본문은 버전보다 오래되지 않는다.
+ * 수정 시각은 커밋보다 먼저 찍히므로, since보다 앞서 찍혔지만 그 뒤에 커밋된 변경을 놓치지 않도록
+ * 델타는 since보다 {@link #COMMIT_WINDOW} 앞에서부터 다시 읽는다. (클라이언트는 같은 변경을 다시 받아도 덮어쓰기만 한다)
+ * tombstone은 {@link #TOMBSTONE_RETENTION} 동안만 보관하므로 그보다 오래된 since(또는 since 없음)에는 전체 목록을 내려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PhotoBoothSyncService {
+
+    static final Duration COMMIT_WINDOW = Duration.ofMinutes(2);
+    public static final Duration TOMBSTONE_RETENTION = Duration.ofDays(30);
+
+    private final PhotoBoothRepository photoBoothRepository;
+    private final PhotoBoothTombstoneRepository tombstoneRepository;
+    private final PhotoBoothCatalogSnapshot catalogSnapshot;
+
+    // since 이후 변경된 사진관 조회
+    @Transactional(readOnly = true)
+    public PhotoBoothChangesDto getChanges(Long since) {
+        // 버전을 먼저 읽는다 - 이어서 읽는 목록은 이 버전까지의 변경을 모두 담는다
+        long version = currentVersion();
+
+        if (since == null || since < toVersion(LocalDateTime.now().minus(TOMBSTONE_RETENTION))) {
+            log.info("카탈로그 전체 동기화 - since: {}", since);
+            return PhotoBoothChangesDto.builder()
+                    .version(version)
+                    .full(true)
+                    .upserted(findAll())
+                    .deleted(List.of())
+                    .build();
+        }
+
+        LocalDateTime from = toDateTime(since).minus(COMMIT_WINDOW);
+        List<PhotoBoothResponseDto> upserted = photoBoothRepository.findUpdatedAfter(from)
+                .stream()
+                .map(PhotoBoothResponseDto::from)
+                .collect(Collectors.toList());
+        List<Long> deleted = tombstoneRepository.findPhotoBoothIdsDeletedAfter(from);
+        log.debug("카탈로그 델타 동기화 - since: {}, 변경: {}, 삭제: {}", since, upserted.size(), deleted.size());
+        return PhotoBoothChangesDto.builder()
+                // 버전이 뒤로 가지 않도록 받은 값보다 작으면 받은 값을 그대로 돌려준다
+                .version(Math.max(since, version))
+                .upserted(upserted)
+                .deleted(deleted)
+                .build();
+    }
+
+    // 카탈로그 바이너리 스냅샷 조회 (카탈로그 버전당 한 번만 인코딩)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PhotoBoothCatalogSnapshot.Snapshot getCatalogSnapshot() {
+        if (catalogSnapshot.isReady()) {
+            return catalogSnapshot.get();
+        }
+        log.info("카탈로그 스냅샷 조회 - 스냅샷 적재 전이므로 전체 목록으로 인코딩");
+        // 버전을 먼저 읽으므로 트랜잭션 밖이어도 목록이 버전보다 오래되지 않는다
+        long version = currentVersion();
+        return PhotoBoothCatalogSnapshot.encode(version, findAll());
+    }
+
+    /**
+     * 삭제 이벤트를 받아 같은 트랜잭션 안에서 tombstone을 남긴다. (삭제가 롤백되면 함께 롤백)
+     */
+    @EventListener
+    public void recordDeletion(PhotoBoothChangedEvent event) {
+        if (event.isDeleted() && !event.isRemote()) {
+            tombstoneRepository.save(new PhotoBoothTombstone(event.getPhotoBoothId()));
+        }
+    }
+
+    /**
+     * DB에 커밋된 가장 늦은 변경 시각 - 이 뒤에 읽는 목록은 이 버전까지의 변경을 모두 담는다. (변경이 없으면 0)
+     */
+    long currentVersion() {
+        LocalDateTime latestUpdate = photoBoothRepository.findLatestUpdatedAt();
+        LocalDateTime latestDeletion = tombstoneRepository.findLatestDeletedAt();
+        LocalDateTime latest = latestDeletion == null || (latestUpdate != null && latestUpdate.isAfter(latestDeletion))
+                ? latestUpdate : latestDeletion;
+        return latest != null ? toVersion(latest) : 0;
+    }
+
+    // 버전과 맞춰 읽어야 하므로 캐시된 전체 목록을 쓰지 않는다
+    private List<PhotoBoothResponseDto> findAll() {
+        return photoBoothRepository.findAll()
+                .stream()
+                .map(PhotoBoothResponseDto::from)
+                .collect(Collectors.toList());
+    }
+
+    public static long toVersion(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static LocalDateTime toDateTime(long version) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(version), ZoneId.systemDefault());
+    }
+}
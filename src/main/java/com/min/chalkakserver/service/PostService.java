@@ -1,5 +1,7 @@
 package com.min.chalkakserver.service;
 
+import com.min.chalkakserver.config.cache.ApproximateCountCache;
+import com.min.chalkakserver.dto.CursorPageResponseDto;
 import com.min.chalkakserver.dto.PagedResponseDto;
 import com.min.chalkakserver.dto.post.PostRequestDto;
 import com.min.chalkakserver.dto.post.PostResponseDto;
@@ -14,11 +16,14 @@ import com.min.chalkakserver.repository.PhotoBoothRepository;
 import com.min.chalkakserver.repository.PostLikeRepository;
 import com.min.chalkakserver.repository.PostRepository;
 import com.min.chalkakserver.repository.UserRepository;
+import com.min.chalkakserver.util.GeoUtils;
+import com.min.chalkakserver.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +40,7 @@ public class PostService {
     private final PostLikeRepository postLikeRepository;
     private final PhotoBoothRepository photoBoothRepository;
     private final UserRepository userRepository;
+    private final ApproximateCountCache approximateCountCache;
 
     @Transactional(readOnly = true)
     public PagedResponseDto<PostResponseDto> getFeed(Long currentUserId, int page, int size) {
@@ -44,6 +50,17 @@ public class PostService {
         return toPagedResponse(postPage, currentUser);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PostResponseDto> getFeedByCursor(Long currentUserId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Slice<Post> postSlice = postRepository.findFeedSliceBefore(
+            position.createdAt(), position.id(), PageRequest.ofSize(size));
+        User currentUser = currentUserId != null ? userRepository.findById(currentUserId).orElse(null) : null;
+        return CursorPageResponseDto.from(postSlice,
+            post -> new KeysetCursor(post.getCreatedAt(), post.getId()),
+            post -> toResponse(post, currentUser));
+    }
+
     @Transactional(readOnly = true)
     public PagedResponseDto<PostResponseDto> getPhotoBoothPosts(Long photoBoothId, Long currentUserId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -65,17 +82,12 @@ public class PostService {
     public PagedResponseDto<PostResponseDto> getNearbyPosts(
         double latitude, double longitude, double radiusKm,
         Long currentUserId, int page, int size) {
-        // Bounding box pre-filter for index use. 1 degree latitude ≈ 111 km.
-        double latDelta = radiusKm / 111.0;
-        double lonDelta = radiusKm / (111.0 * Math.cos(Math.toRadians(latitude)));
-        double minLat = latitude - latDelta;
-        double maxLat = latitude + latDelta;
-        double minLon = longitude - lonDelta;
-        double maxLon = longitude + lonDelta;
+        // Bounding box pre-filter for the spatial index on photo_booths.location.
+        double[] box = GeoUtils.boundingBox(latitude, longitude, radiusKm);
 
         Pageable pageable = PageRequest.of(page, size);
         Page<Post> postPage = postRepository.findNearbyPosts(
-            latitude, longitude, minLat, maxLat, minLon, maxLon, radiusKm, pageable);
+            latitude, longitude, box[0], box[1], box[2], box[3], radiusKm, pageable);
         User currentUser = currentUserId != null ? userRepository.findById(currentUserId).orElse(null) : null;
         return toPagedResponse(postPage, currentUser);
     }
@@ -89,6 +101,54 @@ public class PostService {
         return toPagedResponse(postPage, user);
     }
 
+    // Slice 모드 — COUNT 쿼리 없이 조회하고 전체 개수는 캐시된 근사치(인기/주변 피드는 확인된 개수)로 채운다
+
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PostResponseDto> getFeedSlice(Long currentUserId, int page, int size) {
+        Slice<Post> postSlice = postRepository.findSliceByOrderByCreatedAtDesc(PageRequest.of(page, size));
+        long total = approximateCountCache.get("posts", postRepository::count);
+        User currentUser = currentUserId != null ? userRepository.findById(currentUserId).orElse(null) : null;
+        return toSliceResponse(postSlice, total, currentUser);
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PostResponseDto> getPhotoBoothPostsSlice(Long photoBoothId, Long currentUserId, int page, int size) {
+        Slice<Post> postSlice = postRepository.findSliceByPhotoBoothIdOrderByCreatedAtDesc(
+            photoBoothId, PageRequest.of(page, size));
+        long total = approximateCountCache.get("posts:photoBooth:" + photoBoothId,
+            () -> postRepository.countByPhotoBoothId(photoBoothId));
+        User currentUser = currentUserId != null ? userRepository.findById(currentUserId).orElse(null) : null;
+        return toSliceResponse(postSlice, total, currentUser);
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PostResponseDto> getPopularPostsSlice(Long currentUserId, int page, int size) {
+        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
+        Slice<Post> postSlice = postRepository.findPopularSliceSince(weekAgo, PageRequest.of(page, size));
+        User currentUser = currentUserId != null ? userRepository.findById(currentUserId).orElse(null) : null;
+        return toSliceResponse(postSlice, null, currentUser);
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PostResponseDto> getNearbyPostsSlice(
+        double latitude, double longitude, double radiusKm,
+        Long currentUserId, int page, int size) {
+        double[] box = GeoUtils.boundingBox(latitude, longitude, radiusKm);
+        Slice<Post> postSlice = postRepository.findNearbyPostsSlice(
+            latitude, longitude, box[0], box[1], box[2], box[3], radiusKm, PageRequest.of(page, size));
+        User currentUser = currentUserId != null ? userRepository.findById(currentUserId).orElse(null) : null;
+        return toSliceResponse(postSlice, null, currentUser);
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PostResponseDto> getMyPostsSlice(Long userId, int page, int size) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new AuthException("User not found"));
+        Slice<Post> postSlice = postRepository.findSliceByUserOrderByCreatedAtDesc(user, PageRequest.of(page, size));
+        long total = approximateCountCache.get("posts:user:" + userId, () -> postRepository.countByUser(user));
+        return toSliceResponse(postSlice, total, user);
+    }
+
     @Transactional
     public PostResponseDto createPost(Long userId, PostRequestDto request) {
         User user = userRepository.findById(userId)
@@ -160,10 +220,7 @@ public class PostService {
 
     private PagedResponseDto<PostResponseDto> toPagedResponse(Page<Post> postPage, User currentUser) {
         List<PostResponseDto> content = postPage.getContent().stream()
-            .map(post -> {
-                boolean isLiked = currentUser != null && postLikeRepository.existsByPostAndUser(post, currentUser);
-                return PostResponseDto.from(post, isLiked);
-            })
+            .map(post -> toResponse(post, currentUser))
             .collect(Collectors.toList());
 
         return new PagedResponseDto<>(
@@ -178,4 +235,13 @@ public class PostService {
             postPage.hasPrevious()
         );
     }
+
+    private PagedResponseDto<PostResponseDto> toSliceResponse(Slice<Post> postSlice, Long approximateTotal, User currentUser) {
+        return PagedResponseDto.from(postSlice.map(post -> toResponse(post, currentUser)), approximateTotal);
+    }
+
+    private PostResponseDto toResponse(Post post, User currentUser) {
+        boolean isLiked = currentUser != null && postLikeRepository.existsByPostAndUser(post, currentUser);
+        return PostResponseDto.from(post, isLiked);
+    }
 }
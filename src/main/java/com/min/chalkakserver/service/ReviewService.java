@@ -1,6 +1,9 @@
 package com.min.chalkakserver.service;
 
+import com.min.chalkakserver.config.cache.ApproximateCountCache;
+import com.min.chalkakserver.dto.CursorPageResponseDto;
 import com.min.chalkakserver.dto.PagedResponseDto;
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
 import com.min.chalkakserver.dto.review.ReviewRequestDto;
 import com.min.chalkakserver.dto.review.ReviewResponseDto;
 import com.min.chalkakserver.dto.review.ReviewStatsDto;
@@ -11,18 +14,24 @@ import com.min.chalkakserver.exception.AuthException;
 import com.min.chalkakserver.exception.DuplicateReviewException;
 import com.min.chalkakserver.exception.PhotoBoothNotFoundException;
 import com.min.chalkakserver.exception.ReviewNotFoundException;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import com.min.chalkakserver.index.ReviewChangedEvent;
 import com.min.chalkakserver.repository.PhotoBoothRepository;
 import com.min.chalkakserver.repository.ReviewRepository;
 import com.min.chalkakserver.repository.UserRepository;
+import com.min.chalkakserver.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -35,6 +44,9 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final PhotoBoothRepository photoBoothRepository;
+    private final ApproximateCountCache approximateCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     /**
      * 리뷰 작성
@@ -61,6 +73,8 @@ public class ReviewService {
             .build();
 
         Review savedReview = reviewRepository.save(review);
+        applyReviewChange(photoBooth, savedReview.getRating(), 0);
+        eventPublisher.publishEvent(ReviewChangedEvent.created(photoBoothId, savedReview.getRating()));
         log.info("Review created: userId={}, photoBoothId={}, rating={}", 
             userId, photoBoothId, request.getRating());
 
@@ -80,7 +94,13 @@ public class ReviewService {
             throw new AuthException("리뷰를 수정할 권한이 없습니다.");
         }
 
+        Integer beforeRating = review.getRating();
         review.update(request.getRating(), request.getContent(), request.getImageUrl());
+        if (!beforeRating.equals(review.getRating())) {
+            applyReviewChange(review.getPhotoBooth(), review.getRating(), beforeRating);
+            eventPublisher.publishEvent(ReviewChangedEvent.updated(
+                review.getPhotoBooth().getId(), beforeRating, review.getRating()));
+        }
         log.info("Review updated: reviewId={}, userId={}", reviewId, userId);
 
         return ReviewResponseDto.from(review);
@@ -99,10 +119,74 @@ public class ReviewService {
             throw new AuthException("리뷰를 삭제할 권한이 없습니다.");
         }
 
-        reviewRepository.delete(review);
+        removeReview(review);
         log.info("Review deleted: reviewId={}, userId={}", reviewId, userId);
     }
 
+    /**
+     * 리뷰 삭제 (관리자) - 작성자 확인 없이 삭제하고 사진관 리뷰 집계를 갱신한다.
+     */
+    @Transactional
+    public void deleteReviewByAdmin(Long reviewId) {
+        Review review = reviewRepository.findById(reviewId)
+            .orElseThrow(() -> new ReviewNotFoundException(reviewId));
+
+        removeReview(review);
+        log.info("Review deleted by admin: reviewId={}", reviewId);
+    }
+
+    /**
+     * 사용자의 리뷰 모두 삭제 (회원 탈퇴, 관리자 사용자 삭제)
+     * 사용자는 사진관마다 리뷰를 하나만 남기므로(uk_user_photo_booth_review) 리뷰마다 그 사진관의 집계를 한 번씩 갱신한다.
+     */
+    @Transactional
+    public void deleteAllReviewsByUser(User user) {
+        List<Review> reviews = reviewRepository.findByUserWithPhotoBooth(user);
+        reviews.forEach(this::removeReview);
+        log.info("Reviews deleted: userId={}, count={}", user.getId(), reviews.size());
+    }
+
+    /**
+     * 사진관 리뷰 집계 보정 - 리뷰 테이블과 어긋난 사진관만 다시 맞추고, 맞춘 사진관의 수정 이벤트를 발행해
+     * 캐시, 인덱스, 타일, 미리 렌더링한 응답에도 반영한다. 보정한 사진관 ID를 반환한다.
+     */
+    @Transactional
+    public List<Long> reconcileReviewAggregates() {
+        List<Long> driftedIds = photoBoothRepository.findReviewAggregateDrift();
+        if (driftedIds.isEmpty()) {
+            return driftedIds;
+        }
+
+        List<PhotoBooth> photoBooths = photoBoothRepository.findAllById(driftedIds);
+        Map<Long, PhotoBoothResponseDto> before = photoBooths.stream()
+            .collect(Collectors.toMap(PhotoBooth::getId, PhotoBoothResponseDto::from));
+        photoBoothRepository.reconcileReviewAggregates(driftedIds, LocalDateTime.now());
+        for (PhotoBooth photoBooth : photoBooths) {
+            entityManager.refresh(photoBooth);
+            eventPublisher.publishEvent(PhotoBoothChangedEvent.updated(
+                before.get(photoBooth.getId()), PhotoBoothResponseDto.from(photoBooth)));
+        }
+        return driftedIds;
+    }
+
+    private void removeReview(Review review) {
+        reviewRepository.delete(review);
+        applyReviewChange(review.getPhotoBooth(), 0, review.getRating());
+        eventPublisher.publishEvent(ReviewChangedEvent.deleted(review.getPhotoBooth().getId(), review.getRating()));
+    }
+
+    /**
+     * 사진관 리뷰 집계 갱신
+     * 응답의 리뷰 수/평균 평점이 바뀌므로 사진관 수정 이벤트도 함께 발행해 캐시, 인덱스, 타일, 스냅샷, 다른 노드에 반영한다.
+     * 집계는 벌크 UPDATE로 바뀌어 영속성 컨텍스트를 거치지 않으므로 사진관을 다시 읽어 변경 후 상태를 만든다.
+     */
+    private void applyReviewChange(PhotoBooth photoBooth, int added, int removed) {
+        PhotoBoothResponseDto before = PhotoBoothResponseDto.from(photoBooth);
+        photoBoothRepository.applyReviewChange(photoBooth.getId(), added, removed, LocalDateTime.now());
+        entityManager.refresh(photoBooth);
+        eventPublisher.publishEvent(PhotoBoothChangedEvent.updated(before, PhotoBoothResponseDto.from(photoBooth)));
+    }
+
     /**
      * 포토부스 리뷰 목록 조회
      */
@@ -145,6 +229,21 @@ public class ReviewService {
         );
     }
 
+    /**
+     * 포토부스 리뷰 목록 조회 (Slice 모드, COUNT 쿼리 없음)
+     */
+    @Transactional(readOnly = true)
+    public PagedResponseDto<ReviewResponseDto> getPhotoBoothReviewsSlice(
+            Long photoBoothId, int page, int size) {
+        PhotoBooth photoBooth = photoBoothRepository.findById(photoBoothId)
+            .orElseThrow(() -> new PhotoBoothNotFoundException(photoBoothId));
+
+        Slice<Review> reviewSlice = reviewRepository.findSliceByPhotoBoothWithUser(
+            photoBooth, PageRequest.of(page, size));
+        // 사진관 행의 리뷰 집계가 곧 전체 개수이다
+        return PagedResponseDto.from(reviewSlice.map(ReviewResponseDto::from), (long) photoBooth.getReviewCount());
+    }
+
     /**
      * 내가 작성한 리뷰 목록 조회
      */
@@ -188,33 +287,18 @@ public class ReviewService {
 
     /**
      * 포토부스 리뷰 통계 조회
+     * 사진관 행에 유지 중인 리뷰 집계를 읽으므로 리뷰 수와 무관하게 한 번의 조회로 끝난다.
      */
     @Transactional(readOnly = true)
     public ReviewStatsDto getReviewStats(Long photoBoothId) {
         PhotoBooth photoBooth = photoBoothRepository.findById(photoBoothId)
             .orElseThrow(() -> new PhotoBoothNotFoundException(photoBoothId));
 
-        Double averageRating = reviewRepository.getAverageRatingByPhotoBooth(photoBooth);
-        long totalCount = reviewRepository.countByPhotoBooth(photoBooth);
-
-        // 별점 분포 조회
-        Map<Integer, Long> ratingDistribution = new HashMap<>();
-        for (int i = 1; i <= 5; i++) {
-            ratingDistribution.put(i, 0L);  // 기본값 0으로 초기화
-        }
-
-        List<Object[]> distribution = reviewRepository.getRatingDistribution(photoBooth);
-        for (Object[] row : distribution) {
-            Integer rating = (Integer) row[0];
-            Long count = (Long) row[1];
-            ratingDistribution.put(rating, count);
-        }
-
         return ReviewStatsDto.builder()
             .photoBoothId(photoBoothId)
-            .averageRating(averageRating != null ? Math.round(averageRating * 10) / 10.0 : 0.0)
-            .totalCount(totalCount)
-            .ratingDistribution(ratingDistribution)
+            .averageRating(photoBooth.getAverageRating())
+            .totalCount((long) photoBooth.getReviewCount())
+            .ratingDistribution(photoBooth.getRatingDistribution())
             .build();
     }
 
@@ -268,4 +352,27 @@ public class ReviewService {
             reviewPage.hasPrevious()
         );
     }
+
+    /**
+     * 최근 리뷰 목록 조회 (Slice 모드, COUNT 쿼리 없음, 공개)
+     */
+    @Transactional(readOnly = true)
+    public PagedResponseDto<ReviewResponseDto> getRecentReviewsSlice(int page, int size) {
+        Slice<Review> reviewSlice = reviewRepository.findRecentSliceWithUserAndPhotoBooth(PageRequest.of(page, size));
+        long total = approximateCountCache.get("reviews", reviewRepository::count);
+        return PagedResponseDto.from(reviewSlice.map(ReviewResponseDto::from), total);
+    }
+
+    /**
+     * 최근 리뷰 목록 조회 (커서 페이지네이션, 공개)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<ReviewResponseDto> getRecentReviewsByCursor(String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Slice<Review> reviewSlice = reviewRepository.findRecentSliceBefore(
+            position.createdAt(), position.id(), PageRequest.ofSize(size));
+        return CursorPageResponseDto.from(reviewSlice,
+            review -> new KeysetCursor(review.getCreatedAt(), review.getId()),
+            ReviewResponseDto::from);
+    }
 }
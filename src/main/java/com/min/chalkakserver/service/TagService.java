@@ -1,12 +1,15 @@
 package com.min.chalkakserver.service;
 
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
 import com.min.chalkakserver.entity.PhotoBooth;
 import com.min.chalkakserver.entity.Tag;
 import com.min.chalkakserver.exception.PhotoBoothNotFoundException;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
 import com.min.chalkakserver.repository.PhotoBoothRepository;
 import com.min.chalkakserver.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,7 @@ public class TagService {
 
     private final TagRepository tagRepository;
     private final PhotoBoothRepository photoBoothRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<Tag> getAllTags() {
@@ -48,6 +52,7 @@ public class TagService {
     public void setPhotoBoothTags(Long photoBoothId, Set<String> tagNames) {
         PhotoBooth photoBooth = photoBoothRepository.findById(photoBoothId)
                 .orElseThrow(() -> new PhotoBoothNotFoundException(photoBoothId));
+        PhotoBoothResponseDto before = PhotoBoothResponseDto.from(photoBooth);
 
         Set<Tag> existingTags = new HashSet<>(tagRepository.findByNameIn(tagNames));
         Set<String> existingNames = existingTags.stream().map(Tag::getName).collect(Collectors.toSet());
@@ -60,6 +65,7 @@ public class TagService {
         }
 
         photoBooth.updateTags(existingTags);
+        eventPublisher.publishEvent(PhotoBoothChangedEvent.updated(before, PhotoBoothResponseDto.from(photoBooth)));
         log.info("PhotoBooth tags updated: photoBoothId={}, tags={}", photoBoothId, tagNames);
     }
 }
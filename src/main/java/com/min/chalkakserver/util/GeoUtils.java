@@ -0,0 +1,85 @@
+package com.min.chalkakserver.util;
+
+/**
+ * 위경도 좌표 계산 유틸리티
+ */
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    // 위도 1도 = 약 111km
+    public static final double KM_PER_DEGREE = 111.0;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * Haversine 공식으로 두 좌표 사이의 거리(km)를 계산한다.
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 반경(km)에 해당하는 위도 범위(도)
+     */
+    public static double latitudeDelta(double radiusKm) {
+        return radiusKm / KM_PER_DEGREE;
+    }
+
+    /**
+     * 주어진 위도에서 반경(km)에 해당하는 경도 범위(도)
+     * 극지방에서는 cos 값이 0에 가까워지므로 180도로 제한한다.
+     */
+    public static double longitudeDelta(double latitude, double radiusKm) {
+        double cos = Math.cos(Math.toRadians(latitude));
+        if (cos < 1e-6) {
+            return 180.0;
+        }
+        return Math.min(180.0, radiusKm / (KM_PER_DEGREE * cos));
+    }
+
+    /**
+     * 반경(km)을 덮는 Bounding Box {minLat, maxLat, minLon, maxLon}
+     * MySQL 공간 함수는 범위를 벗어난 위경도를 거부하므로 유효 범위로 잘라낸다.
+     */
+    public static double[] boundingBox(double latitude, double longitude, double radiusKm) {
+        double latDelta = latitudeDelta(radiusKm);
+        double lonDelta = longitudeDelta(latitude, radiusKm);
+        return new double[] {
+                Math.max(-90.0, latitude - latDelta),
+                Math.min(90.0, latitude + latDelta),
+                Math.max(-180.0, longitude - lonDelta),
+                Math.min(180.0, longitude + lonDelta)
+        };
+    }
+
+    /**
+     * 경도를 Web Mercator 평면의 x 좌표([0, 1])로 투영한다.
+     */
+    public static double mercatorX(double longitude) {
+        return (longitude + 180.0) / 360.0;
+    }
+
+    /**
+     * 위도를 Web Mercator 평면의 y 좌표([0, 1], 북쪽이 0)로 투영한다.
+     */
+    public static double mercatorY(double latitude) {
+        double sin = Math.sin(Math.toRadians(latitude));
+        double y = 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+        return Math.max(0.0, Math.min(1.0, y));
+    }
+
+    public static double mercatorLongitude(double x) {
+        return x * 360.0 - 180.0;
+    }
+
+    public static double mercatorLatitude(double y) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y))));
+    }
+}
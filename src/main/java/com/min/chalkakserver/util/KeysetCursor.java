@@ -0,0 +1,44 @@
+package com.min.chalkakserver.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서
+ *
+ * (createdAt, id) 내림차순 목록에서 마지막으로 내려준 항목의 위치이다. 다음 페이지는 OFFSET 없이
+ * 이 위치보다 뒤에 있는 행만 인덱스 범위로 읽으므로 몇 번째 페이지든 비용이 같다.
+ * 클라이언트에는 내용을 알 수 없는 URL-safe Base64 문자열로만 내려준다.
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    // 첫 페이지 - 모든 행보다 앞에 있는 가상의 위치 (MySQL DATETIME 최댓값)
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final char SEPARATOR = '_';
+
+    /**
+     * 커서 문자열을 해석한다. 비어 있으면 첫 페이지, 형식이 잘못되면 IllegalArgumentException.
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String value = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
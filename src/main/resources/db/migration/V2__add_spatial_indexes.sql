@@ -1,15 +1,21 @@
--- Spatial Index 추가 (MySQL 5.7+)
--- 복합 인덱스로 위도/경도 검색 성능 최적화
-ALTER TABLE photo_booths ADD SPATIAL INDEX idx_spatial_location (POINT(longitude, latitude));
+-- 위치 공간 인덱스 (MySQL 8.0+)
+-- 함수식 POINT(longitude, latitude)에는 SPATIAL INDEX를 만들 수 없으므로
+-- SRID 4326 POINT 컬럼을 따로 두고, 트리거로 위도/경도와 항상 같은 값을 유지한다.
+-- (엔티티에는 매핑하지 않으며 네이티브 공간 쿼리에서만 사용한다)
+ALTER TABLE photo_booths ADD COLUMN location POINT NULL SRID 4326;
 
--- 또는 일반 인덱스 사용 (모든 MySQL 버전)
--- CREATE INDEX idx_lat_lon ON photo_booths (latitude, longitude);
+UPDATE photo_booths SET location = ST_SRID(POINT(longitude, latitude), 4326);
 
--- Bounding Box 검색을 위한 개별 인덱스
-CREATE INDEX idx_latitude ON photo_booths (latitude);
-CREATE INDEX idx_longitude ON photo_booths (longitude);
+-- SPATIAL INDEX는 NOT NULL + SRID가 지정된 컬럼에만 만들 수 있다
+ALTER TABLE photo_booths MODIFY COLUMN location POINT NOT NULL SRID 4326;
+ALTER TABLE photo_booths ADD SPATIAL INDEX idx_spatial_location (location);
 
--- 추가 인덱스
-CREATE INDEX idx_brand ON photo_booths (brand);
-CREATE INDEX idx_name ON photo_booths (name);
+-- 애플리케이션/SQL 스크립트 어느 경로로 들어온 변경이든 위치 컬럼을 맞춘다
+CREATE TRIGGER trg_photo_booths_location_insert BEFORE INSERT ON photo_booths
+    FOR EACH ROW SET NEW.location = ST_SRID(POINT(NEW.longitude, NEW.latitude), 4326);
+
+CREATE TRIGGER trg_photo_booths_location_update BEFORE UPDATE ON photo_booths
+    FOR EACH ROW SET NEW.location = ST_SRID(POINT(NEW.longitude, NEW.latitude), 4326);
+
+-- 추가 인덱스 (idx_brand, idx_name, idx_location은 엔티티 @Index로 생성된다)
 CREATE INDEX idx_created_at ON photo_booths (created_at);
@@ -0,0 +1,27 @@
+-- 사진관별 리뷰 집계 (리뷰 수, 평점 합계, 1~5점 분포)
+-- 리뷰 작성/수정/삭제 시 애플리케이션이 원자적 UPDATE로 갱신하고, 스케줄러가 매일 리뷰 테이블과 맞춘다.
+ALTER TABLE photo_booths
+    ADD COLUMN review_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_sum BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN rating1_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN rating2_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN rating3_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN rating4_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN rating5_count INT NOT NULL DEFAULT 0;
+
+-- 기존 리뷰로 초기값을 채운다
+UPDATE photo_booths pb
+JOIN (
+    SELECT photo_booth_id, COUNT(*) AS cnt, SUM(rating) AS total,
+           SUM(rating = 1) AS r1, SUM(rating = 2) AS r2, SUM(rating = 3) AS r3,
+           SUM(rating = 4) AS r4, SUM(rating = 5) AS r5
+    FROM reviews
+    GROUP BY photo_booth_id
+) r ON r.photo_booth_id = pb.id
+SET pb.review_count = r.cnt,
+    pb.rating_sum = r.total,
+    pb.rating1_count = r.r1,
+    pb.rating2_count = r.r2,
+    pb.rating3_count = r.r3,
+    pb.rating4_count = r.r4,
+    pb.rating5_count = r.r5;
@@ -76,6 +76,17 @@ class RateLimitConfigTest {
         assertThat(bucket.tryConsume(1)).isFalse();
     }
 
+    @Test
+    @DisplayName("내보내기 API용 버킷은 분당 2건 제한이고 일반 버킷과 별도이다")
+    void resolveExportBucket_LimitedTo2PerMinute() {
+        Bucket bucket = rateLimitConfig.resolveExportBucket("10.0.0.4");
+        assertThat(bucket).isNotSameAs(rateLimitConfig.resolveBucket("10.0.0.4"));
+        for (int i = 0; i < 2; i++) {
+            assertThat(bucket.tryConsume(1)).isTrue();
+        }
+        assertThat(bucket.tryConsume(1)).isFalse();
+    }
+
     @Test
     @DisplayName("인증 API용 버킷을 생성한다")
     void resolveAuthBucket_CreateAndReturn() {
@@ -122,6 +122,22 @@ class RateLimitInterceptorTest {
         verify(rateLimitConfig).resolveReportBucket("192.168.1.1");
     }
 
+    @Test
+    @DisplayName("내보내기 API /export - resolveExportBucket 사용")
+    void preHandle_exportApi_usesExportBucket() throws Exception {
+        // given
+        request.setRequestURI("/api/reviews/photo-booth/1/export");
+        Bucket bucket = buildAllowingBucket(1L);
+        given(rateLimitConfig.resolveExportBucket(anyString())).willReturn(bucket);
+
+        // when
+        boolean result = rateLimitInterceptor.preHandle(request, response, new Object());
+
+        // then
+        assertThat(result).isTrue();
+        verify(rateLimitConfig).resolveExportBucket("192.168.1.1");
+    }
+
     @Test
     @DisplayName("Rate limit 초과 → false 반환, 429 상태, Retry-After 헤더 설정")
     void preHandle_rateLimitExceeded_returnsFalseWith429() throws Exception {
@@ -0,0 +1,82 @@
+package com.min.chalkakserver.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpatialSchemaValidator 테스트")
+class SpatialSchemaValidatorTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private DatabaseMetaData metaData;
+
+    @InjectMocks
+    private SpatialSchemaValidator validator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.getMetaData()).willReturn(metaData);
+    }
+
+    @Test
+    @DisplayName("MySQL에 location 컬럼이 없으면 기동을 멈춘다")
+    void validate_MySqlWithoutLocationColumn_Throws() throws Exception {
+        given(metaData.getDatabaseProductName()).willReturn("MySQL");
+        given(connection.getCatalog()).willReturn("chalkak_db");
+        ResultSet columns = mock(ResultSet.class);
+        given(columns.next()).willReturn(false);
+        given(metaData.getColumns("chalkak_db", null, "photo_booths", "location")).willReturn(columns);
+
+        assertThatThrownBy(() -> validator.validate())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("V2__add_spatial_indexes.sql");
+    }
+
+    @Test
+    @DisplayName("MySQL에 location 컬럼과 공간 인덱스가 있으면 통과한다")
+    void validate_MySqlWithLocationColumn_Passes() throws Exception {
+        given(metaData.getDatabaseProductName()).willReturn("MySQL");
+        given(connection.getCatalog()).willReturn("chalkak_db");
+        ResultSet columns = mock(ResultSet.class);
+        given(columns.next()).willReturn(true);
+        given(metaData.getColumns("chalkak_db", null, "photo_booths", "location")).willReturn(columns);
+        ResultSet indexes = mock(ResultSet.class);
+        given(indexes.next()).willReturn(true);
+        given(indexes.getString("INDEX_NAME")).willReturn("idx_spatial_location");
+        given(metaData.getIndexInfo("chalkak_db", null, "photo_booths", false, true)).willReturn(indexes);
+
+        assertThatCode(() -> validator.validate()).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("MySQL이 아니면(테스트용 H2 등) 확인하지 않는다")
+    void validate_NotMySql_Skips() throws Exception {
+        given(metaData.getDatabaseProductName()).willReturn("H2");
+
+        assertThatCode(() -> validator.validate()).doesNotThrowAnyException();
+        verify(metaData, never()).getColumns(any(), any(), any(), any());
+    }
+}
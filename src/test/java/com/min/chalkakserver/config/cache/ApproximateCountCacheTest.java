@@ -0,0 +1,58 @@
+package com.min.chalkakserver.config.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ApproximateCountCache 테스트")
+class ApproximateCountCacheTest {
+
+    private ApproximateCountCache countCache;
+    private AtomicInteger counts;
+
+    @BeforeEach
+    void setUp() {
+        countCache = new ApproximateCountCache();
+        counts = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 키는 TTL 동안 다시 세지 않는다")
+    void get_ReusesCountWithinTtl() {
+        assertThat(countCache.get("posts", this::count)).isEqualTo(1L);
+        assertThat(countCache.get("posts", this::count)).isEqualTo(1L);
+        assertThat(countCache.get("reviews", this::count)).isEqualTo(2L);
+
+        assertThat(counts.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비우면 다음 요청에서 다시 센다")
+    void clear_RecountsOnNextRequest() {
+        countCache.get("posts", this::count);
+        countCache.clear();
+
+        assertThat(countCache.get("posts", this::count)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("항목 수 상한을 넘으면 저장하지 않고 매번 센다")
+    void get_OverCapacity_DoesNotStore() {
+        for (int i = 0; i < ApproximateCountCache.MAX_ENTRIES; i++) {
+            countCache.get("notifications:user:" + i, () -> 0L);
+        }
+
+        countCache.get("posts", this::count);
+        countCache.get("posts", this::count);
+
+        assertThat(counts.get()).isEqualTo(2);
+    }
+
+    private long count() {
+        return counts.incrementAndGet();
+    }
+}
@@ -0,0 +1,76 @@
+package com.min.chalkakserver.config.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheGenerations 테스트")
+class CacheGenerationsTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private CacheGenerations generations;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        generations = new CacheGenerations(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("세대는 한 번 읽은 뒤 로컬 값으로 접두사를 만든다")
+    void prefix_LoadsGenerationOnce() {
+        given(valueOperations.get("cache:generation:photoBooth")).willReturn("3");
+
+        assertThat(generations.prefix("photoBooth")).isEqualTo("photoBooth::v3::");
+        assertThat(generations.prefix("photoBooth")).isEqualTo("photoBooth::v3::");
+
+        verify(valueOperations, times(1)).get(anyString());
+    }
+
+    @Test
+    @DisplayName("캐시를 비우면 키를 지우지 않고 세대만 올린 뒤 다른 노드에 알린다")
+    void clear_AdvancesGeneration() {
+        given(valueOperations.increment("cache:generation:searchResults")).willReturn(1L);
+        ConcurrentMapCache delegate = new ConcurrentMapCache("searchResults");
+        delegate.put("강남", "결과");
+        Cache cache = new GenerationalCache(delegate, generations);
+
+        cache.clear();
+
+        assertThat(delegate.get("강남")).isNotNull();
+        assertThat(generations.prefix("searchResults")).isEqualTo("searchResults::v1::");
+        verify(redisTemplate).convertAndSend(CacheGenerations.GENERATION_CHANNEL, "searchResults");
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 세대 변경 알림을 받으면 Redis에서 다시 읽는다")
+    void onGenerationChanged_Reloads() {
+        given(valueOperations.get("cache:generation:photoBooth")).willReturn(null, "2");
+
+        assertThat(generations.current("photoBooth")).isZero();
+        generations.onGenerationChanged("photoBooth");
+
+        assertThat(generations.current("photoBooth")).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,89 @@
+package com.min.chalkakserver.config.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheKeyIndex 테스트")
+class CacheKeyIndexTest {
+
+    private static final String INDEX_KEY = "cache:keys:searchResults::v2::";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private CacheGenerations generations;
+    private CacheKeyIndex keyIndex;
+
+    @BeforeEach
+    void setUp() {
+        generations = new CacheGenerations(redisTemplate);
+        keyIndex = new CacheKeyIndex(redisTemplate, generations, Map.of("searchResults", Duration.ofMinutes(30)));
+    }
+
+    @Test
+    @DisplayName("색인 대상 캐시에 저장하면 현재 세대 색인에 키를 넣고 만료 시간을 늘린다")
+    void put_TrackedCache_AddsKeyToGenerationIndex() {
+        givenGeneration(2);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        GenerationalCache cache = new GenerationalCache(new ConcurrentMapCache("searchResults"), generations, keyIndex);
+
+        cache.put("강남", List.of());
+
+        verify(zSetOperations).add(eq(INDEX_KEY), eq("강남"), anyDouble());
+        verify(redisTemplate).expire(INDEX_KEY, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("키 목록을 읽을 때 보존 시간이 지난 키를 먼저 정리한다")
+    void keys_PrunesExpiredKeys() {
+        givenGeneration(2);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.range(INDEX_KEY, 0, -1)).willReturn(new LinkedHashSet<>(List.of("강남", "홍대")));
+
+        assertThat(keyIndex.keys("searchResults")).containsExactly("강남", "홍대");
+
+        verify(zSetOperations).removeRangeByScore(eq(INDEX_KEY), eq(0.0), anyDouble());
+    }
+
+    @Test
+    @DisplayName("색인하지 않는 캐시는 Redis를 건드리지 않고 키 목록도 주지 않는다")
+    void untrackedCache_Ignored() {
+        keyIndex.add("photoBooth", 1L);
+
+        assertThat(keyIndex.keys("photoBooth")).isNull();
+        verify(redisTemplate, never()).opsForZSet();
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    private void givenGeneration(long generation) {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("cache:generation:searchResults")).willReturn(String.valueOf(generation));
+    }
+}
@@ -0,0 +1,110 @@
+package com.min.chalkakserver.config.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import com.min.chalkakserver.index.ReviewChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogEventRelay 테스트")
+class CatalogEventRelayTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private CatalogEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new CatalogEventRelay(redisTemplate, objectMapper, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("커밋된 변경을 보내면 다른 노드는 변경 전/후 상태를 원격 이벤트로 다시 발행한다")
+    void onPhotoBoothChanged_DeliveredToOtherNode() {
+        PhotoBoothResponseDto before = booth("인생네컷 강남점");
+        PhotoBoothResponseDto after = booth("인생네컷 역삼점");
+        relay.onPhotoBoothChanged(PhotoBoothChangedEvent.updated(before, after));
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CatalogEventRelay.PHOTO_BOOTH_CHANNEL), message.capture());
+        CatalogEventRelay otherNode = new CatalogEventRelay(redisTemplate, objectMapper, eventPublisher);
+        otherNode.onPhotoBoothMessage(message.getValue());
+
+        ArgumentCaptor<PhotoBoothChangedEvent> received = ArgumentCaptor.forClass(PhotoBoothChangedEvent.class);
+        verify(eventPublisher).publishEvent(received.capture());
+        PhotoBoothChangedEvent event = received.getValue();
+        assertThat(event.isRemote()).isTrue();
+        assertThat(event.getPhotoBoothId()).isEqualTo(1L);
+        assertThat(event.getBefore().getName()).isEqualTo("인생네컷 강남점");
+        assertThat(event.getAfter().getName()).isEqualTo("인생네컷 역삼점");
+        assertThat(event.getAfter().getUpdatedAt()).isEqualTo(LocalDateTime.of(2024, 5, 1, 12, 0));
+    }
+
+    @Test
+    @DisplayName("자기 노드가 보낸 메시지와 전달받은 원격 이벤트는 다시 보내거나 발행하지 않는다")
+    void ownMessageAndRemoteEvent_Ignored() {
+        relay.onPhotoBoothChanged(PhotoBoothChangedEvent.deleted(booth("인생네컷 강남점")));
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CatalogEventRelay.PHOTO_BOOTH_CHANNEL), message.capture());
+
+        relay.onPhotoBoothMessage(message.getValue());
+        relay.onPhotoBoothChanged(PhotoBoothChangedEvent.remote(1L, booth("인생네컷 강남점"), null));
+
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(redisTemplate).convertAndSend(eq(CatalogEventRelay.PHOTO_BOOTH_CHANNEL), any(String.class));
+    }
+
+    @Test
+    @DisplayName("리뷰 변경도 다른 노드에 전달되어 인기 순위가 노드마다 같게 갱신된다")
+    void onReviewChanged_DeliveredToOtherNode() {
+        relay.onReviewChanged(ReviewChangedEvent.updated(1L, 5, 2));
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CatalogEventRelay.REVIEW_CHANNEL), message.capture());
+        relay.onReviewMessage(message.getValue());
+        verify(eventPublisher, never()).publishEvent(any());
+
+        new CatalogEventRelay(redisTemplate, objectMapper, eventPublisher).onReviewMessage(message.getValue());
+
+        ArgumentCaptor<ReviewChangedEvent> received = ArgumentCaptor.forClass(ReviewChangedEvent.class);
+        verify(eventPublisher).publishEvent(received.capture());
+        assertThat(received.getValue().isRemote()).isTrue();
+        assertThat(received.getValue().getPhotoBoothId()).isEqualTo(1L);
+        assertThat(received.getValue().getBeforeRating()).isEqualTo(5);
+        assertThat(received.getValue().getAfterRating()).isEqualTo(2);
+    }
+
+    private PhotoBoothResponseDto booth(String name) {
+        return PhotoBoothResponseDto.builder()
+                .id(1L)
+                .name(name)
+                .brand("인생네컷")
+                .latitude(37.5)
+                .longitude(127.0)
+                .updatedAt(LocalDateTime.of(2024, 5, 1, 12, 0))
+                .build();
+    }
+}
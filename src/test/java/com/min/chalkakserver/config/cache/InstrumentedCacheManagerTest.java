@@ -0,0 +1,87 @@
+package com.min.chalkakserver.config.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InstrumentedCacheManager 테스트")
+class InstrumentedCacheManagerTest {
+
+    private SimpleMeterRegistry registry;
+    private InstrumentedCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cacheManager = new InstrumentedCacheManager(new ConcurrentMapCacheManager("photoBooth"), registry,
+                value -> String.valueOf(value).length());
+    }
+
+    @Test
+    @DisplayName("실제 조회 결과로 적중/실패를 세고, 실패 후 저장까지를 적재 시간으로 기록한다")
+    void get_RecordsHitMissAndLoad() {
+        Cache cache = cacheManager.getCache("photoBooth");
+
+        assertThat(cache.get(1L)).isNull();
+        cache.put(1L, "강남점");
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.get(2L, () -> "홍대점")).isEqualTo("홍대점");
+        assertThat(cache.get(2L, () -> "다른 값")).isEqualTo("홍대점");
+
+        assertThat(registry.get("cache.gets").tags("cache", "photoBooth", "result", "hit").counter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("cache.gets").tags("cache", "photoBooth", "result", "miss").counter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("cache.load.duration").tag("cache", "photoBooth").timer().count()).isEqualTo(2L);
+        assertThat(registry.get("cache.puts").tag("cache", "photoBooth").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("실패 뒤 저장되지 않은 적재는 다음 연산에서 버려져, 나중에 같은 키를 저장해도 적재 시간으로 잡지 않는다")
+    void get_MissWithoutPut_DiscardsPendingLoad() {
+        Cache cache = cacheManager.getCache("photoBooth");
+        Cache other = new InstrumentedCacheManager(new ConcurrentMapCacheManager("photoBooths"), registry, null)
+                .getCache("photoBooths");
+
+        // unless로 저장되지 않았거나 예외가 난 경우 - put 없이 다른 연산이 이어진다
+        assertThat(cache.get(1L)).isNull();
+        other.evict("all");
+        cache.put(1L, "강남점");
+
+        assertThat(cache.get(2L)).isNull();
+        cache.put(3L, "홍대점");
+        cache.put(2L, "신촌점");
+
+        assertThat(registry.get("cache.load.duration").tag("cache", "photoBooth").timer().count()).isZero();
+        assertThat(registry.get("cache.puts").tag("cache", "photoBooth").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("키 삭제와 전체 비우기를 따로 센다")
+    void evictAndClear_Counted() {
+        Cache cache = cacheManager.getCache("photoBooth");
+        cache.put(1L, "강남점");
+
+        cache.evict(1L);
+        assertThat(cache.evictIfPresent(1L)).isFalse();
+        cache.clear();
+
+        CacheMetrics metrics = cacheManager.getMetrics("photoBooth");
+        assertThat(metrics.evictions()).isEqualTo(1L);
+        assertThat(metrics.snapshot()).containsEntry("clears", 1L);
+        assertThat(registry.get("cache.evictions").tag("cache", "photoBooth").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("아직 쓰지 않았거나 없는 캐시는 지표가 없다")
+    void getMetrics_BeforeFirstUse_ReturnsNull() {
+        assertThat(cacheManager.getMetrics("photoBooth")).isNull();
+        assertThat(cacheManager.getCache("missing")).isNull();
+        assertThat(registry.find("cache.gets").tag("cache", "missing").counter()).isNull();
+    }
+}
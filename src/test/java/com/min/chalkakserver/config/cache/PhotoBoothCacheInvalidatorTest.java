@@ -0,0 +1,169 @@
+package com.min.chalkakserver.config.cache;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PhotoBoothCacheInvalidator 테스트")
+class PhotoBoothCacheInvalidatorTest {
+
+    @Mock
+    private ObjectProvider<CacheKeyIndex> cacheKeyIndexProvider;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private PhotoBoothCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("photoBooths", "photoBooth", "brandPhotoBooths",
+                "seriesPhotoBooths", "brandSeriesPhotoBooths", "searchResults");
+        invalidator = new PhotoBoothCacheInvalidator(cacheManager, cacheKeyIndexProvider);
+
+        cache("photoBooths").put("getAllPhotoBooths", List.of());
+        cache("photoBooth").put(1L, "인생네컷 강남점");
+        cache("photoBooth").put(2L, "포토이즘 홍대점");
+        cache("brandPhotoBooths").put("인생", List.of());
+        cache("brandPhotoBooths").put("포토이즘", List.of());
+        cache("seriesPhotoBooths").put("기본", List.of());
+        cache("seriesPhotoBooths").put("박스", List.of());
+        cache("brandSeriesPhotoBooths").put("인생네컷_기본", List.of());
+        cache("brandSeriesPhotoBooths").put("인생네컷_박스", List.of());
+        cache("searchResults").put("강남", List.of());
+        cache("searchResults").put("역삼", List.of());
+        cache("searchResults").put("홍대", List.of());
+    }
+
+    @Test
+    @DisplayName("수정 시 변경 전/후 사진관이 결과에 들어가는 키만 삭제하고 나머지는 남긴다")
+    void onPhotoBoothChanged_Updated_EvictsAffectedKeysOnly() {
+        PhotoBoothResponseDto before = booth("인생네컷 강남점", "인생네컷", "기본", "서울 강남구");
+        PhotoBoothResponseDto after = booth("인생네컷 역삼점", "인생네컷", "기본", "서울 강남구 역삼동");
+
+        invalidator.onPhotoBoothChanged(PhotoBoothChangedEvent.updated(before, after));
+
+        assertThat(cache("photoBooths").get("getAllPhotoBooths")).isNull();
+        assertThat(cache("photoBooth").get(1L)).isNull();
+        assertThat(cache("photoBooth").get(2L)).isNotNull();
+        assertThat(keys("brandPhotoBooths")).containsExactly("포토이즘");
+        assertThat(keys("seriesPhotoBooths")).containsExactly("박스");
+        assertThat(keys("brandSeriesPhotoBooths")).containsExactly("인생네컷_박스");
+        assertThat(keys("searchResults")).containsExactly("홍대");
+    }
+
+    @Test
+    @DisplayName("생성/삭제 시 대소문자를 무시하고, 한쪽 상태만으로 영향받는 키를 찾는다")
+    void onPhotoBoothChanged_CreatedAndDeleted() {
+        cache("brandPhotoBooths").put("photo", List.of());
+
+        invalidator.onPhotoBoothChanged(PhotoBoothChangedEvent.created(
+                booth("PHOTOISM 홍대점", "Photoism", "박스", "서울 마포구")));
+
+        assertThat(keys("brandPhotoBooths")).containsExactlyInAnyOrder("인생", "포토이즘");
+        assertThat(keys("seriesPhotoBooths")).containsExactly("기본");
+        assertThat(keys("searchResults")).containsExactlyInAnyOrder("강남", "역삼");
+
+        invalidator.onPhotoBoothChanged(PhotoBoothChangedEvent.deleted(
+                booth("인생네컷 강남점", "인생네컷", "기본", "서울 강남구")));
+
+        assertThat(keys("brandPhotoBooths")).containsExactly("포토이즘");
+        assertThat(keys("brandSeriesPhotoBooths")).containsExactly("인생네컷_박스");
+        assertThat(keys("searchResults")).containsExactly("역삼");
+    }
+
+    @Test
+    @DisplayName("커밋 전에는 전체 목록과 해당 사진관 항목만 지우고, 키별 캐시는 커밋 후에 지운다")
+    void evictDirectEntries_BeforeCommit_EvictsSingleEntriesOnly() {
+        invalidator.evictDirectEntries(PhotoBoothChangedEvent.deleted(
+                booth("인생네컷 강남점", "인생네컷", "기본", "서울 강남구")));
+
+        assertThat(cache("photoBooths").get("getAllPhotoBooths")).isNull();
+        assertThat(cache("photoBooth").get(1L)).isNull();
+        assertThat(cache("photoBooth").get(2L)).isNotNull();
+        assertThat(keys("brandPhotoBooths")).containsExactlyInAnyOrder("인생", "포토이즘");
+        assertThat(keys("searchResults")).containsExactlyInAnyOrder("강남", "역삼", "홍대");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전달받은 변경은 그 노드가 이미 공유 캐시를 비웠으므로 무시한다")
+    void remoteEvent_Ignored() {
+        PhotoBoothChangedEvent event = PhotoBoothChangedEvent.remote(1L,
+                booth("인생네컷 강남점", "인생네컷", "기본", "서울 강남구"), null);
+
+        invalidator.evictDirectEntries(event);
+        invalidator.onPhotoBoothChanged(event);
+
+        assertThat(cache("photoBooths").get("getAllPhotoBooths")).isNotNull();
+        assertThat(cache("photoBooth").get(1L)).isNotNull();
+        assertThat(keys("brandPhotoBooths")).containsExactlyInAnyOrder("인생", "포토이즘");
+    }
+
+    @Test
+    @DisplayName("Redis 캐시는 키 공간을 SCAN하지 않고 키 색인에서 읽으며, 지운 키는 색인에서도 뺀다")
+    void onPhotoBoothChanged_RedisCache_UsesKeyIndex() {
+        Cache redisCache = mock(Cache.class);
+        given(redisCache.getNativeCache()).willReturn(new Object());
+        CacheManager redisCacheManager = mock(CacheManager.class);
+        given(redisCacheManager.getCache("brandPhotoBooths")).willReturn(redisCache);
+        CacheKeyIndex keyIndex = mock(CacheKeyIndex.class);
+        given(keyIndex.keys("brandPhotoBooths")).willReturn(List.of("인생", "포토이즘"));
+        given(cacheKeyIndexProvider.getIfAvailable()).willReturn(keyIndex);
+
+        new PhotoBoothCacheInvalidator(redisCacheManager, cacheKeyIndexProvider).onPhotoBoothChanged(
+                PhotoBoothChangedEvent.created(booth("인생네컷 강남점", "인생네컷", "기본", "서울 강남구")));
+
+        verify(redisCache).evict("인생");
+        verify(redisCache, never()).evict("포토이즘");
+        verify(keyIndex).remove("brandPhotoBooths", List.of("인생"));
+    }
+
+    @Test
+    @DisplayName("키 색인을 읽지 못하면 그 캐시만 전체 비운다")
+    void onPhotoBoothChanged_KeyIndexUnavailable_ClearsCache() {
+        Cache redisCache = mock(Cache.class);
+        given(redisCache.getNativeCache()).willReturn(new Object());
+        CacheManager redisCacheManager = mock(CacheManager.class);
+        given(redisCacheManager.getCache("searchResults")).willReturn(redisCache);
+
+        new PhotoBoothCacheInvalidator(redisCacheManager, cacheKeyIndexProvider).onPhotoBoothChanged(
+                PhotoBoothChangedEvent.created(booth("인생네컷 강남점", "인생네컷", "기본", "서울 강남구")));
+
+        verify(redisCache).clear();
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private List<Object> keys(String name) {
+        return List.copyOf(((Map<?, ?>) cache(name).getNativeCache()).keySet());
+    }
+
+    private PhotoBoothResponseDto booth(String name, String brand, String series, String address) {
+        return PhotoBoothResponseDto.builder()
+                .id(1L)
+                .name(name)
+                .brand(brand)
+                .series(series)
+                .address(address)
+                .build();
+    }
+}
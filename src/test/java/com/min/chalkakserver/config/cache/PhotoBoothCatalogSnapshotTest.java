@@ -0,0 +1,202 @@
+package com.min.chalkakserver.config.cache;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.service.PhotoBoothSyncService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PhotoBoothCatalogSnapshot 테스트")
+class PhotoBoothCatalogSnapshotTest {
+
+    private PhotoBoothCatalogSnapshot catalogSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        catalogSnapshot = new PhotoBoothCatalogSnapshot();
+        catalogSnapshot.rebuild(List.of(
+                booth(2L, "인생네컷 홍대점", "인생네컷", null, List.of("24시간")),
+                booth(1L, "인생네컷 강남점", "인생네컷", "시그니처", List.of("24시간", "주차")),
+                booth(3L, "포토이즘 성수점", "포토이즘", null, List.of())
+        ));
+    }
+
+    @Test
+    @DisplayName("브랜드/시리즈/태그는 많이 쓰인 순서의 사전 인덱스로 인코딩된다")
+    void encode_DictionaryEncodesFacets() {
+        Catalog catalog = decode(catalogSnapshot.get().body());
+
+        // 0번은 빈 문자열, 2회 사용된 값(이름순)이 먼저, 1회 사용된 값이 다음
+        assertThat(catalog.strings).containsExactly("", "24시간", "인생네컷", "시그니처", "주차", "포토이즘");
+        assertThat(catalog.ids).containsExactly(1L, 2L, 3L);
+        assertThat(catalog.names.get(0)).isEqualTo("인생네컷 강남점");
+        assertThat(catalog.brands).containsExactly(2L, 2L, 5L);
+        // 시리즈가 없으면 필드 자체가 생략된다
+        assertThat(catalog.series).containsExactly(3L, 0L, 0L);
+        assertThat(catalog.tags.get(0)).containsExactly(1L, 4L);
+        assertThat(catalog.latitudes.get(0)).isEqualTo(37.5);
+        assertThat(catalog.version).isEqualTo(catalogSnapshot.get().version());
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 같은 스냅샷을 재사용하고, 변경되면 다시 만든다")
+    void get_ReusesUntilChanged() {
+        PhotoBoothCatalogSnapshot.Snapshot first = catalogSnapshot.get();
+        assertThat(catalogSnapshot.get()).isSameAs(first);
+
+        catalogSnapshot.remove(3L);
+        PhotoBoothCatalogSnapshot.Snapshot second = catalogSnapshot.get();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.etag()).isNotEqualTo(first.etag());
+        assertThat(decode(second.body()).ids).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("버전은 담긴 사진관의 가장 늦은 수정 시각이고, 삭제를 반영하면 그 뒤로 올라간다")
+    void get_VersionFollowsContents() {
+        LocalDateTime updatedAt = LocalDateTime.now().minusHours(1);
+        catalogSnapshot.upsert(PhotoBoothResponseDto.builder().id(4L).name("하루필름 연남점").updatedAt(updatedAt).build());
+        long updatedVersion = catalogSnapshot.get().version();
+
+        catalogSnapshot.remove(4L);
+
+        assertThat(updatedVersion).isEqualTo(PhotoBoothSyncService.toVersion(updatedAt));
+        assertThat(catalogSnapshot.get().version()).isGreaterThan(updatedVersion);
+    }
+
+    @Test
+    @DisplayName("ETag는 버전과 무관하게 내용으로 정해진다")
+    void encode_EtagIgnoresVersion() {
+        List<PhotoBoothResponseDto> photoBooths = List.of(booth(1L, "하루필름 연남점", "하루필름", null, List.of()));
+
+        assertThat(PhotoBoothCatalogSnapshot.encode(100L, photoBooths).etag())
+                .isEqualTo(PhotoBoothCatalogSnapshot.encode(200L, photoBooths).etag());
+    }
+
+    private PhotoBoothResponseDto booth(Long id, String name, String brand, String series, List<String> tags) {
+        return PhotoBoothResponseDto.builder()
+                .id(id)
+                .name(name)
+                .brand(brand)
+                .series(series)
+                .latitude(37.5)
+                .longitude(127.0)
+                .tags(tags)
+                .build();
+    }
+
+    // 테스트에 필요한 필드만 읽는 protobuf 디코더
+    private static Catalog decode(byte[] bytes) {
+        Catalog catalog = new Catalog();
+        Reader reader = new Reader(bytes);
+        while (reader.hasMore()) {
+            long tag = reader.varint();
+            int field = (int) (tag >>> 3);
+            if (field == 1) {
+                catalog.version = reader.varint();
+            } else if (field == 2) {
+                catalog.strings.add(new String(reader.bytes(), StandardCharsets.UTF_8));
+            } else {
+                decodeBooth(new Reader(reader.bytes()), catalog);
+            }
+        }
+        return catalog;
+    }
+
+    private static void decodeBooth(Reader reader, Catalog catalog) {
+        long brand = 0;
+        long series = 0;
+        List<Long> tags = new ArrayList<>();
+        while (reader.hasMore()) {
+            long tag = reader.varint();
+            int field = (int) (tag >>> 3);
+            int wireType = (int) (tag & 7);
+            if (wireType == 0) {
+                long value = reader.varint();
+                if (field == 1) {
+                    catalog.ids.add(value);
+                } else if (field == 3) {
+                    brand = value;
+                } else if (field == 4) {
+                    series = value;
+                }
+            } else if (wireType == 1) {
+                double value = reader.fixed64();
+                if (field == 7) {
+                    catalog.latitudes.add(value);
+                }
+            } else {
+                byte[] value = reader.bytes();
+                if (field == 2) {
+                    catalog.names.add(new String(value, StandardCharsets.UTF_8));
+                } else if (field == 13) {
+                    Reader packed = new Reader(value);
+                    while (packed.hasMore()) {
+                        tags.add(packed.varint());
+                    }
+                }
+            }
+        }
+        catalog.brands.add(brand);
+        catalog.series.add(series);
+        catalog.tags.add(tags);
+    }
+
+    private static final class Catalog {
+        long version;
+        final List<String> strings = new ArrayList<>();
+        final List<Long> ids = new ArrayList<>();
+        final List<String> names = new ArrayList<>();
+        final List<Long> brands = new ArrayList<>();
+        final List<Long> series = new ArrayList<>();
+        final List<Double> latitudes = new ArrayList<>();
+        final List<List<Long>> tags = new ArrayList<>();
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        boolean hasMore() {
+            return position < bytes.length;
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        double fixed64() {
+            long bits = 0;
+            for (int i = 0; i < 8; i++) {
+                bits |= (long) (bytes[position++] & 0xFF) << (8 * i);
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        byte[] bytes() {
+            int length = (int) varint();
+            byte[] value = java.util.Arrays.copyOfRange(bytes, position, position + length);
+            position += length;
+            return value;
+        }
+    }
+}
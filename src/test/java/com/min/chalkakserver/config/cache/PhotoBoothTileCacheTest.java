@@ -0,0 +1,143 @@
+package com.min.chalkakserver.config.cache;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.entity.PhotoBooth;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import com.min.chalkakserver.repository.PhotoBoothRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PhotoBoothTileCache 테스트")
+class PhotoBoothTileCacheTest {
+
+    @Mock
+    private PhotoBoothRepository photoBoothRepository;
+
+    private PhotoBoothTileCache tileCache;
+    private PhotoBooth gangnam;
+    private PhotoBooth yeoksam;
+    private PhotoBooth hongdae;
+
+    @BeforeEach
+    void setUp() {
+        tileCache = new PhotoBoothTileCache(new ConcurrentMapCacheManager(), photoBoothRepository);
+        gangnam = photoBooth(1L, "강남점", 37.5012, 127.0396);
+        yeoksam = photoBooth(2L, "역삼점", 37.4979, 127.0276);
+        hongdae = photoBooth(3L, "홍대점", 37.5565, 126.9239);
+        lenient().when(photoBoothRepository.findByLatitudeBetweenAndLongitudeBetween(
+                anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(List.of(gangnam, yeoksam, hongdae));
+    }
+
+    @Test
+    @DisplayName("반경에 맞춰 타일 한 변이 반경 이상인 줌 레벨을 고른다")
+    void tileZoom_MatchesRadius() {
+        assertThat(PhotoBoothTileCache.tileZoom(37.5, 0.5)).isEqualTo(15);
+        assertThat(PhotoBoothTileCache.tileZoom(37.5, 3.0)).isEqualTo(13);
+        assertThat(PhotoBoothTileCache.tileZoom(37.5, 50.0)).isEqualTo(9);
+        assertThat(PhotoBoothTileCache.tileZoom(89.9, 50.0)).isEqualTo(PhotoBoothTileCache.MIN_TILE_ZOOM);
+    }
+
+    @Test
+    @DisplayName("반경 이내의 사진관만 거리순으로 반환한다")
+    void findWithinRadius_FiltersByExactDistance() {
+        List<PhotoBoothResponseDto> near = tileCache.findWithinRadius(37.5012, 127.0396, 0.5);
+        List<PhotoBoothResponseDto> wider = tileCache.findWithinRadius(37.5012, 127.0396, 2.0);
+
+        assertThat(near).extracting(PhotoBoothResponseDto::getId).containsExactly(1L);
+        assertThat(wider).extracting(PhotoBoothResponseDto::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("가까운 위치의 요청은 같은 타일을 공유하여 DB를 다시 조회하지 않는다")
+    void findWithinRadius_NearbyRequestsShareTiles() {
+        tileCache.findWithinRadius(37.5012, 127.0396, 1.0);
+        // 약 150m 떨어진 위치
+        List<PhotoBoothResponseDto> result = tileCache.findWithinRadius(37.5025, 127.0400, 1.0);
+
+        assertThat(result).extracting(PhotoBoothResponseDto::getId).containsExactly(1L);
+        verify(photoBoothRepository, times(1)).findByLatitudeBetweenAndLongitudeBetween(
+                anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("사진관이 바뀌면 해당 좌표의 타일만 비운다")
+    void onPhotoBoothChanged_EvictsTouchedTilesOnly() {
+        tileCache.findWithinRadius(37.5012, 127.0396, 1.0);
+        tileCache.findWithinRadius(37.5565, 126.9239, 1.0);
+
+        PhotoBoothResponseDto before = PhotoBoothResponseDto.from(gangnam);
+        tileCache.onPhotoBoothChanged(PhotoBoothChangedEvent.updated(before, before));
+
+        tileCache.findWithinRadius(37.5012, 127.0396, 1.0);
+        tileCache.findWithinRadius(37.5565, 126.9239, 1.0);
+
+        // 최초 적재 2회 + 비워진 강남 타일 재조회 1회
+        verify(photoBoothRepository, times(3)).findByLatitudeBetweenAndLongitudeBetween(
+                anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("리뷰로 평점이 바뀌면(사진관 수정 이벤트) 그 타일을 다시 읽어 새 평점을 내려준다")
+    void onPhotoBoothChanged_ReviewUpdate_RefreshesRating() {
+        PhotoBoothResponseDto before = PhotoBoothResponseDto.from(gangnam);
+        assertThat(tileCache.findWithinRadius(37.5012, 127.0396, 0.5))
+                .extracting(PhotoBoothResponseDto::getAverageRating).containsExactly(0.0);
+
+        setField(gangnam, "reviewCount", 1);
+        setField(gangnam, "ratingSum", 5L);
+        tileCache.onPhotoBoothChanged(PhotoBoothChangedEvent.updated(before, PhotoBoothResponseDto.from(gangnam)));
+
+        assertThat(tileCache.findWithinRadius(37.5012, 127.0396, 0.5))
+                .extracting(PhotoBoothResponseDto::getAverageRating).containsExactly(5.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 온 변경은 그 노드가 공유 캐시를 비웠으므로 다시 비우지 않는다")
+    void onPhotoBoothChanged_Remote_Ignored() {
+        tileCache.findWithinRadius(37.5012, 127.0396, 1.0);
+
+        PhotoBoothResponseDto before = PhotoBoothResponseDto.from(gangnam);
+        tileCache.onPhotoBoothChanged(PhotoBoothChangedEvent.remote(1L, before, before));
+        tileCache.findWithinRadius(37.5012, 127.0396, 1.0);
+
+        verify(photoBoothRepository, times(1)).findByLatitudeBetweenAndLongitudeBetween(
+                anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    private PhotoBooth photoBooth(Long id, String name, double latitude, double longitude) {
+        PhotoBooth photoBooth = PhotoBooth.builder()
+                .name(name)
+                .brand("인생네컷")
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+        setField(photoBooth, "id", id);
+        return photoBooth;
+    }
+
+    private void setField(PhotoBooth photoBooth, String name, Object value) {
+        try {
+            Field field = PhotoBooth.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(photoBooth, value);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("테스트용 PhotoBooth " + name + " 설정에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.min.chalkakserver.config.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import com.min.chalkakserver.index.ReviewChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PrerenderedResponseCache 테스트")
+class PrerenderedResponseCacheTest {
+
+    private static final Duration MAX_AGE = Duration.ofHours(1);
+
+    @Mock
+    private ObjectProvider<CacheGenerations> cacheGenerationsProvider;
+
+    @Mock
+    private CacheGenerations cacheGenerations;
+
+    private PrerenderedResponseCache responseCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        given(cacheGenerationsProvider.getIfAvailable()).willReturn(cacheGenerations);
+        responseCache = new PrerenderedResponseCache(new ObjectMapper().findAndRegisterModules(), cacheGenerationsProvider);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("한 번 직렬화한 결과를 변경 전까지 재사용한다")
+    void get_ReusesRenderedBytes() {
+        PrerenderedResponseCache.Rendered first = responseCache.get("all", MAX_AGE, this::load);
+        PrerenderedResponseCache.Rendered second = responseCache.get("all", MAX_AGE, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(new String(first.identity(), StandardCharsets.UTF_8)).contains("\"name\":\"인생네컷 강남점\"");
+    }
+
+    @Test
+    @DisplayName("gzip 바이트는 원본 JSON을 압축한 것이다")
+    void get_GzipMatchesIdentity() throws IOException {
+        PrerenderedResponseCache.Rendered rendered = responseCache.get("all", MAX_AGE, this::load);
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(rendered.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(rendered.identity());
+        }
+    }
+
+    @Test
+    @DisplayName("사진관 변경 이벤트가 오면 모두 비운다")
+    void onPhotoBoothChanged_ClearsEntries() {
+        responseCache.get("all", MAX_AGE, this::load);
+
+        responseCache.onPhotoBoothChanged(PhotoBoothChangedEvent.deleted(booth()));
+        responseCache.get("all", MAX_AGE, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("리뷰 변경 이벤트가 오면 인기 목록만 비운다")
+    void onReviewChanged_EvictsPopularEntriesOnly() {
+        PrerenderedResponseCache.Rendered all = responseCache.get("all", MAX_AGE, this::load);
+        responseCache.get("popular:20", MAX_AGE, this::load);
+
+        responseCache.onReviewChanged(ReviewChangedEvent.created(1L, 5));
+
+        assertThat(responseCache.get("all", MAX_AGE, this::load)).isSameAs(all);
+        responseCache.get("popular:20", MAX_AGE, this::load);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("렌더링 도중 비워지면 그 결과는 저장하지 않는다")
+    void get_DoesNotStoreRenderStartedBeforeClear() {
+        responseCache.get("all", MAX_AGE, () -> {
+            responseCache.clear();
+            return load();
+        });
+        responseCache.get("all", MAX_AGE, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경으로 카탈로그 버전이 바뀌면 이벤트 없이도 다시 만든다")
+    void get_RerendersWhenCatalogVersionChanges() {
+        PrerenderedResponseCache.Rendered first = responseCache.get("all", MAX_AGE, this::load);
+
+        given(cacheGenerations.current("photoBooths")).willReturn(1L);
+        PrerenderedResponseCache.Rendered second = responseCache.get("all", MAX_AGE, this::load);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.catalogVersion()).isEqualTo(1L);
+        assertThat(responseCache.get("all", MAX_AGE, this::load)).isSameAs(second);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("브랜드 항목이 가득 차도 전체/인기 목록은 저장한다")
+    void get_BrandEntriesFull_StillStoresFixedKeys() {
+        for (int i = 0; i < PrerenderedResponseCache.MAX_BRAND_ENTRIES; i++) {
+            responseCache.get(PrerenderedResponseCache.BRAND_PREFIX + i, MAX_AGE, this::load);
+        }
+
+        responseCache.get(PrerenderedResponseCache.BRAND_PREFIX + "넘침", MAX_AGE, this::load);
+        responseCache.get(PrerenderedResponseCache.BRAND_PREFIX + "넘침", MAX_AGE, this::load);
+        PrerenderedResponseCache.Rendered all = responseCache.get("all", MAX_AGE, this::load);
+
+        assertThat(responseCache.get("all", MAX_AGE, this::load)).isSameAs(all);
+        assertThat(loads.get()).isEqualTo(PrerenderedResponseCache.MAX_BRAND_ENTRIES + 3);
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지나면 다시 만든다")
+    void get_RerendersAfterMaxAge() {
+        responseCache.get("popular:20", Duration.ZERO, this::load);
+        responseCache.get("popular:20", Duration.ZERO, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 헤더에 따라 gzip, 원본, 304로 응답한다")
+    void toResponse_NegotiatesEncoding() {
+        PrerenderedResponseCache.Rendered rendered = responseCache.get("all", MAX_AGE, this::load);
+
+        ResponseEntity<byte[]> gzip = rendered.toResponse("gzip, deflate, br", null);
+        ResponseEntity<byte[]> identity = rendered.toResponse(null, null);
+        ResponseEntity<byte[]> notModified = rendered.toResponse("gzip", rendered.etag());
+
+        assertThat(gzip.getHeaders().getFirst("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gzip.getBody()).isEqualTo(rendered.gzip());
+        assertThat(identity.getHeaders().getFirst("Content-Encoding")).isNull();
+        assertThat(identity.getBody()).isEqualTo(rendered.identity());
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("If-None-Match는 목록, 약한 비교(W/), *를 받는다")
+    void toResponse_IfNoneMatchListAndWeakTags() {
+        PrerenderedResponseCache.Rendered rendered = responseCache.get("all", MAX_AGE, this::load);
+
+        assertThat(rendered.toResponse(null, "\"other\", W/" + rendered.etag()).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(rendered.toResponse(null, "*").getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(rendered.toResponse(null, "\"other\"").getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("q=0으로 거부한 gzip은 쓰지 않는다")
+    void toResponse_HonorsGzipQuality() {
+        PrerenderedResponseCache.Rendered rendered = responseCache.get("all", MAX_AGE, this::load);
+
+        assertThat(contentEncoding(rendered.toResponse("gzip;q=0, deflate", null))).isNull();
+        assertThat(contentEncoding(rendered.toResponse("br, gzip; q=0.5", null))).isEqualTo("gzip");
+        assertThat(contentEncoding(rendered.toResponse("*", null))).isEqualTo("gzip");
+        assertThat(contentEncoding(rendered.toResponse("*;q=1, gzip;q=0", null))).isNull();
+        assertThat(contentEncoding(rendered.toResponse("identity", null))).isNull();
+    }
+
+    private String contentEncoding(ResponseEntity<byte[]> response) {
+        return response.getHeaders().getFirst("Content-Encoding");
+    }
+
+    private List<PhotoBoothResponseDto> load() {
+        loads.incrementAndGet();
+        return List.of(booth());
+    }
+
+    private PhotoBoothResponseDto booth() {
+        return PhotoBoothResponseDto.builder().id(1L).name("인생네컷 강남점").build();
+    }
+}
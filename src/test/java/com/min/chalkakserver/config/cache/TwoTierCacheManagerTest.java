@@ -0,0 +1,96 @@
+package com.min.chalkakserver.config.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TwoTierCacheManager 테스트")
+class TwoTierCacheManagerTest {
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private List<String> published;
+    private TwoTierCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager("photoBooth", "searchResults");
+        published = new ArrayList<>();
+        cacheManager = new TwoTierCacheManager(remoteCacheManager,
+                Map.of("photoBooth", new TwoTierCacheManager.NearCacheSpec(100, Duration.ofMinutes(10))),
+                published::add);
+    }
+
+    @Test
+    @DisplayName("L2에서 읽은 값은 L1에 채워 다음 조회는 L2를 거치지 않는다")
+    void get_FillsLocalFromRemote() {
+        remote().put(1L, "강남점");
+        Cache cache = cacheManager.getCache("photoBooth");
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("강남점");
+        remote().evict(1L);
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("강남점");
+        assertThat(cache.get(2L, () -> "홍대점")).isEqualTo("홍대점");
+        assertThat(remote().get(2L, String.class)).isEqualTo("홍대점");
+    }
+
+    @Test
+    @DisplayName("실패 후 채우기(put)는 알리지 않고, 삭제/비우기만 다른 노드에 무효화 메시지를 보낸다")
+    void putAndEvict_PublishInvalidation() {
+        Cache cache = cacheManager.getCache("photoBooth");
+
+        cache.put(1L, "강남점");
+        assertThat(remote().get(1L, String.class)).isEqualTo("강남점");
+        assertThat(published).isEmpty();
+
+        cache.evict(1L);
+        cache.clear();
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(remote().get(1L)).isNull();
+        assertThat(published).hasSize(2);
+        assertThat(published.get(0)).endsWith("|E|photoBooth|1");
+        assertThat(published.get(1)).endsWith("|C|photoBooth");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 L1만 비우고, 자기 노드 메시지는 무시한다")
+    void onInvalidation_EvictsLocalOnly() {
+        Cache cache = cacheManager.getCache("photoBooth");
+        cache.put(1L, "강남점");
+        cache.evict(2L);
+        String ownMessage = published.get(0).replace("|2", "|1");
+        remote().put(1L, "강남역점");
+
+        cacheManager.onInvalidation(ownMessage);
+        assertThat(cache.get(1L, String.class)).isEqualTo("강남점");
+
+        cacheManager.onInvalidation("other-node|E|photoBooth|1");
+        assertThat(cache.get(1L, String.class)).isEqualTo("강남역점");
+
+        remote().put(1L, "신촌점");
+        cacheManager.onInvalidation("other-node|C|photoBooth");
+        assertThat(cache.get(1L, String.class)).isEqualTo("신촌점");
+    }
+
+    @Test
+    @DisplayName("L1 설정이 없는 캐시는 Redis 캐시를 그대로 반환한다")
+    void getCache_WithoutNearCache_ReturnsRemote() {
+        assertThat(cacheManager.getCache("searchResults")).isSameAs(remoteCacheManager.getCache("searchResults"));
+        assertThat(cacheManager.getCache("photoBooth")).isInstanceOf(TwoTierCache.class);
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder("photoBooth", "searchResults");
+    }
+
+    private Cache remote() {
+        return remoteCacheManager.getCache("photoBooth");
+    }
+}
@@ -3,12 +3,16 @@ package com.min.chalkakserver.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.min.chalkakserver.config.RateLimitConfig;
 import com.min.chalkakserver.config.WebMvcConfig;
+import com.min.chalkakserver.config.cache.PrerenderedResponseCache;
 import com.min.chalkakserver.dto.PhotoBoothReportDto;
 import com.min.chalkakserver.exception.PhotoBoothNotFoundException;
 import com.min.chalkakserver.security.jwt.JwtAuthenticationFilter;
 import com.min.chalkakserver.service.EmailService;
+import com.min.chalkakserver.service.ExportService;
 import com.min.chalkakserver.service.PhotoBoothImageService;
 import com.min.chalkakserver.service.PhotoBoothService;
+import com.min.chalkakserver.service.PhotoBoothSyncService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -16,6 +20,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -32,11 +37,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         )
 )
 @AutoConfigureMockMvc(addFilters = false)
+@Import(PrerenderedResponseCache.class)
 class PhotoBoothControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private PrerenderedResponseCache prerenderedResponseCache;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -46,6 +55,9 @@ class PhotoBoothControllerTest {
     @MockBean
     private PhotoBoothImageService photoBoothImageService;
 
+    @MockBean
+    private PhotoBoothSyncService photoBoothSyncService;
+
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -55,6 +67,15 @@ class PhotoBoothControllerTest {
     @MockBean
     private EmailService emailService;
 
+    @MockBean
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        // 직렬화 결과 캐시는 테스트 컨텍스트와 함께 재사용되므로 테스트마다 비운다
+        prerenderedResponseCache.clear();
+    }
+
     @Test
     void getPhotoBoothById_NotFound_ShouldReturn404() throws Exception {
         // Given
@@ -146,6 +167,17 @@ class PhotoBoothControllerTest {
                 .andExpect(jsonPath("$").isArray());
     }
 
+    @Test
+    void searchPhotoBooths_Fuzzy_ShouldReturn200() throws Exception {
+        when(photoBoothService.fuzzySearchPhotoBooths("포토이슴")).thenReturn(java.util.List.of());
+
+        mockMvc.perform(get("/api/photo-booths/search")
+                        .param("keyword", "포토이슴")
+                        .param("fuzzy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+    }
+
     @Test
     void searchPhotoBoothsPaged_ShouldReturn200() throws Exception {
         com.min.chalkakserver.dto.PagedResponseDto<com.min.chalkakserver.dto.PhotoBoothResponseDto> pagedResponse =
@@ -160,6 +192,87 @@ class PhotoBoothControllerTest {
                 .andExpect(jsonPath("$.content").isArray());
     }
 
+    @Test
+    void queryPhotoBooths_ShouldReturn200() throws Exception {
+        when(photoBoothService.queryPhotoBooths(
+                new com.min.chalkakserver.index.PhotoBoothFilterIndex.Criteria(
+                        java.util.List.of("인생네컷"), null, java.util.List.of("24시간", "주차"), 4.0),
+                37.5, 127.0, 3.0))
+                .thenReturn(java.util.List.of());
+
+        mockMvc.perform(get("/api/photo-booths/query")
+                        .param("brand", "인생네컷")
+                        .param("tag", "24시간", "주차")
+                        .param("minRating", "4.0")
+                        .param("latitude", "37.5")
+                        .param("longitude", "127.0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+    }
+
+    @Test
+    void searchPhotoBooths_WithFacets_ShouldReturn200() throws Exception {
+        when(photoBoothService.searchPhotoBoothsWithFacets("인생네컷", false)).thenReturn(
+                new com.min.chalkakserver.dto.FacetedPhotoBoothResponseDto(java.util.List.of(),
+                        new com.min.chalkakserver.dto.PhotoBoothFacetsDto(
+                                java.util.List.of(), java.util.List.of(), java.util.List.of())));
+
+        mockMvc.perform(get("/api/photo-booths/search")
+                        .param("keyword", "인생네컷")
+                        .param("facets", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.photoBooths").isArray())
+                .andExpect(jsonPath("$.facets.brands").isArray());
+    }
+
+    @Test
+    void searchPhotoBooths_FuzzyWithFacets_ShouldReturn200() throws Exception {
+        when(photoBoothService.searchPhotoBoothsWithFacets("포토이슴", true)).thenReturn(
+                new com.min.chalkakserver.dto.FacetedPhotoBoothResponseDto(java.util.List.of(),
+                        new com.min.chalkakserver.dto.PhotoBoothFacetsDto(
+                                java.util.List.of(), java.util.List.of(), java.util.List.of())));
+
+        mockMvc.perform(get("/api/photo-booths/search")
+                        .param("keyword", "포토이슴")
+                        .param("fuzzy", "true")
+                        .param("facets", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.photoBooths").isArray());
+    }
+
+    @Test
+    void getPhotoBoothChanges_ShouldReturn200() throws Exception {
+        when(photoBoothSyncService.getChanges(1700000000000L)).thenReturn(
+                com.min.chalkakserver.dto.PhotoBoothChangesDto.builder()
+                        .version(1700000100000L)
+                        .upserted(java.util.List.of())
+                        .deleted(java.util.List.of(3L))
+                        .build());
+
+        mockMvc.perform(get("/api/photo-booths/changes").param("since", "1700000000000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1700000100000L))
+                .andExpect(jsonPath("$.full").value(false))
+                .andExpect(jsonPath("$.deleted[0]").value(3));
+    }
+
+    @Test
+    void getCatalogSnapshot_ShouldReturnProtobufWithEtag() throws Exception {
+        when(photoBoothSyncService.getCatalogSnapshot()).thenReturn(
+                new com.min.chalkakserver.config.cache.PhotoBoothCatalogSnapshot.Snapshot(
+                        1700000000000L, new byte[] {8, 1}, "\"abc\""));
+
+        mockMvc.perform(get("/api/photo-booths/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-protobuf"))
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(header().string("X-Catalog-Version", "1700000000000"))
+                .andExpect(content().bytes(new byte[] {8, 1}));
+
+        mockMvc.perform(get("/api/photo-booths/snapshot").header("If-None-Match", "\"abc\""))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void getPhotoBoothsByBrand_ShouldReturn200() throws Exception {
         when(photoBoothService.getPhotoBoothsByBrand("인생네컷")).thenReturn(java.util.List.of());
@@ -169,6 +282,31 @@ class PhotoBoothControllerTest {
                 .andExpect(jsonPath("$").isArray());
     }
 
+    @Test
+    void getPopularPhotoBooths_AcceptsGzip_ShouldReturnCompressedBody() throws Exception {
+        when(photoBoothService.getPopularPhotoBooths(20)).thenReturn(java.util.List.of(
+                com.min.chalkakserver.dto.PhotoBoothResponseDto.builder().id(1L).name("인생네컷 강남점").build()));
+
+        byte[] body = mockMvc.perform(get("/api/photo-booths/popular").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (java.util.zip.GZIPInputStream gzip = new java.util.zip.GZIPInputStream(new java.io.ByteArrayInputStream(body))) {
+            org.assertj.core.api.Assertions.assertThat(new String(gzip.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8))
+                    .contains("인생네컷 강남점");
+        }
+
+        String etag = mockMvc.perform(get("/api/photo-booths/popular"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/photo-booths/popular").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        // 두 번째 요청부터는 직렬화해 둔 바이트를 그대로 쓴다
+        org.mockito.Mockito.verify(photoBoothService, org.mockito.Mockito.times(1)).getPopularPhotoBooths(20);
+    }
+
     @Test
     void getPhotoBoothsByBrandPaged_ShouldReturn200() throws Exception {
         com.min.chalkakserver.dto.PagedResponseDto<com.min.chalkakserver.dto.PhotoBoothResponseDto> pagedResponse =
@@ -227,4 +365,10 @@ class PhotoBoothControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("제보가 접수되었습니다. 감사합니다!"));
     }
+
+    @Test
+    void exportPhotoBooths_UnsupportedFormat_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/photo-booths/export").param("format", "csv"))
+                .andExpect(status().isBadRequest());
+    }
 }
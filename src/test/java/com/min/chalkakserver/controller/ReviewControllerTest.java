@@ -9,6 +9,7 @@ import com.min.chalkakserver.entity.User;
 import com.min.chalkakserver.exception.GlobalExceptionHandler;
 import com.min.chalkakserver.exception.ReviewNotFoundException;
 import com.min.chalkakserver.security.CustomUserDetails;
+import com.min.chalkakserver.service.ExportService;
 import com.min.chalkakserver.service.ReviewService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -49,6 +51,9 @@ class ReviewControllerTest {
     @Mock
     private ReviewService reviewService;
 
+    @Mock
+    private ExportService exportService;
+
     @InjectMocks
     private ReviewController reviewController;
 
@@ -180,6 +185,38 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
 
+    @Test
+    void exportPhotoBoothReviews_Ndjson_ShouldStreamLines() throws Exception {
+        given(exportService.exportPhotoBoothReviews(eq(10L), eq(ExportService.Format.NDJSON)))
+                .willReturn(out -> out.write("{\"id\":1}\n{\"id\":2}\n".getBytes()));
+
+        MvcResult result = mockMvc.perform(get("/api/reviews/photo-booth/{photoBoothId}/export", 10L)
+                        .param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    void getRecentReviews_Slice_ShouldUseCountFreeMode() throws Exception {
+        PagedResponseDto<ReviewResponseDto> sliceResponse = PagedResponseDto.from(
+                new org.springframework.data.domain.SliceImpl<>(List.of(sampleReview), PageRequest.of(0, 20), true), 100L);
+
+        given(reviewService.getRecentReviewsSlice(eq(0), eq(20))).willReturn(sliceResponse);
+
+        mockMvc.perform(get("/api/reviews/recent").param("slice", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.approximate").value(true));
+
+        verify(reviewService, never()).getRecentReviews(anyInt(), anyInt());
+    }
+
     @Test
     void getReviewStats_ShouldReturnStats() throws Exception {
         ReviewStatsDto stats = ReviewStatsDto.builder()
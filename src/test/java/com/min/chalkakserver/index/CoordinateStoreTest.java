@@ -0,0 +1,83 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.util.GeoUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("CoordinateStore 테스트")
+class CoordinateStoreTest {
+
+    private CoordinateStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new CoordinateStore();
+        store.put(1L, 37.4979, 127.0276);  // 강남
+        store.put(2L, 37.5006, 127.0364);  // 역삼
+        store.put(3L, 37.5565, 126.9239);  // 홍대
+        store.put(4L, 35.1577, 129.0594);  // 부산 서면
+    }
+
+    @Test
+    @DisplayName("반경 이내의 좌표만 찾는다")
+    void findWithinRadius_Success() {
+        assertThat(ids(store.findWithinRadius(37.4990, 127.0300, 2.0))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(store.findWithinRadius(37.5, 127.0, 50.0))).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("거리는 Haversine 공식과 같은 값을 낸다")
+    void distanceKm_MatchesHaversine() {
+        int position = store.findWithinRadius(35.1577, 129.0594, 0.1)[0];
+
+        assertThat(store.distanceKm(position, 37.5565, 126.9239))
+                .isCloseTo(GeoUtils.distanceKm(37.5565, 126.9239, 35.1577, 129.0594), within(1e-6));
+    }
+
+    @Test
+    @DisplayName("삭제와 좌표 수정 후에도 남은 좌표를 정확히 찾는다")
+    void removeAndPut_KeepsPositionsConsistent() {
+        store.remove(1L);
+        store.put(2L, 35.1580, 129.0600);
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(ids(store.findWithinRadius(37.4990, 127.0300, 2.0))).isEmpty();
+        assertThat(ids(store.findWithinRadius(35.1577, 129.0594, 1.0))).containsExactlyInAnyOrder(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("가장 가까운 k개를 거리순으로 반환한다")
+    void findNearest_SortedByDistance() {
+        assertThat(ids(store.findNearest(37.5565, 126.9239, 2))).containsExactly(3L, 1L);
+        assertThat(ids(store.findNearest(37.4979, 127.0276, 10))).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("대량 좌표에서도 전수 Haversine 계산과 같은 결과를 낸다")
+    void findWithinRadius_MatchesBruteForce() {
+        Random random = new Random(42);
+        CoordinateStore large = new CoordinateStore();
+        double[][] points = new double[10_000][];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new double[] {37.0 + random.nextDouble(), 126.5 + random.nextDouble()};
+            large.put(i, points[i][0], points[i][1]);
+        }
+
+        long expected = Arrays.stream(points)
+                .filter(point -> GeoUtils.distanceKm(37.5, 127.0, point[0], point[1]) <= 3.0)
+                .count();
+
+        assertThat(large.findWithinRadius(37.5, 127.0, 3.0)).hasSize((int) expected);
+    }
+
+    private Long[] ids(int[] positions) {
+        return Arrays.stream(positions).mapToObj(store::idAt).toArray(Long[]::new);
+    }
+}
@@ -0,0 +1,76 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PhotoBoothChosungIndex 테스트")
+class PhotoBoothChosungIndexTest {
+
+    private PhotoBoothChosungIndex chosungIndex;
+
+    @BeforeEach
+    void setUp() {
+        chosungIndex = new PhotoBoothChosungIndex();
+        chosungIndex.rebuild(List.of(
+                booth(1L, "인생네컷 강남역점", "인생네컷"),
+                booth(2L, "포토이즘 홍대점", "포토이즘"),
+                booth(3L, "셀픽스 2호점", "셀픽스")
+        ));
+    }
+
+    @Test
+    @DisplayName("한글 음절을 초성으로 바꾸고 나머지 문자는 그대로 둔다")
+    void toChosung_ProjectsSyllables() {
+        assertThat(PhotoBoothChosungIndex.toChosung("인생네컷")).isEqualTo("ㅇㅅㄴㅋ");
+        assertThat(PhotoBoothChosungIndex.toChosung("셀픽스2호점")).isEqualTo("ㅅㅍㅅ2ㅎㅈ");
+    }
+
+    @Test
+    @DisplayName("초성이 있고 완성된 음절이 없는 검색어만 초성 검색어로 본다")
+    void isChosungQuery_Success() {
+        assertThat(PhotoBoothChosungIndex.isChosungQuery("ㅇㅅㄴㅋ")).isTrue();
+        assertThat(PhotoBoothChosungIndex.isChosungQuery("ㅅㅍㅅ 2")).isTrue();
+        assertThat(PhotoBoothChosungIndex.isChosungQuery("인생ㄴㅋ")).isFalse();
+        assertThat(PhotoBoothChosungIndex.isChosungQuery("photo")).isFalse();
+    }
+
+    @Test
+    @DisplayName("초성으로 이름과 브랜드의 접두사와 중간 부분을 찾는다")
+    void search_MatchesPrefixAndSubstring() {
+        assertThat(ids("ㅇㅅㄴㅋ")).containsExactly(1L);
+        assertThat(ids("ㄱㄴㅇ")).containsExactly(1L);
+        assertThat(ids("ㅎㄷ")).containsExactly(2L);
+        assertThat(ids("ㅅㅍㅅ 2")).containsExactly(3L);
+        assertThat(ids("ㅌㅇ")).containsExactly(2L);
+        assertThat(ids("ㅋㅋㅋ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 사진관이 바로 반영된다")
+    void upsertAndRemove_UpdatesPostings() {
+        chosungIndex.upsert(booth(2L, "포토이즘 신촌점", "포토이즘"));
+        chosungIndex.remove(1L);
+
+        assertThat(ids("ㅎㄷ")).isEmpty();
+        assertThat(ids("ㅅㅊ")).containsExactly(2L);
+        assertThat(ids("ㅇㅅㄴㅋ")).isEmpty();
+    }
+
+    private List<Long> ids(String keyword) {
+        return chosungIndex.search(keyword).stream().map(PhotoBoothResponseDto::getId).toList();
+    }
+
+    private PhotoBoothResponseDto booth(Long id, String name, String brand) {
+        return PhotoBoothResponseDto.builder()
+                .id(id)
+                .name(name)
+                .brand(brand)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PhotoBoothClusterIndex 테스트")
+class PhotoBoothClusterIndexTest {
+
+    // 서울 전체를 덮는 화면 범위
+    private static final double WEST = 126.7;
+    private static final double SOUTH = 37.4;
+    private static final double EAST = 127.2;
+    private static final double NORTH = 37.7;
+
+    private PhotoBoothClusterIndex clusterIndex;
+
+    @BeforeEach
+    void setUp() {
+        clusterIndex = new PhotoBoothClusterIndex();
+        clusterIndex.rebuild(List.of(
+                booth(1L, "강남역점", 37.4979, 127.0276),
+                booth(2L, "역삼점", 37.5006, 127.0364),
+                booth(3L, "홍대점", 37.5565, 126.9239),
+                booth(4L, "부산 서면점", 35.1577, 129.0594)
+        ));
+    }
+
+    @Test
+    @DisplayName("축소된 화면에서는 가까운 사진관을 하나의 클러스터로 묶는다")
+    void findClusters_LowZoom_Grouped() {
+        List<PhotoBoothClusterIndex.ClusterView> result = clusterIndex.findClusters(WEST, SOUTH, EAST, NORTH, 9);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).count()).isEqualTo(3);
+        assertThat(result.get(0).photoBooth()).isNull();
+    }
+
+    @Test
+    @DisplayName("확대된 화면에서는 개별 사진관을 반환한다")
+    void findClusters_HighZoom_Singles() {
+        List<PhotoBoothClusterIndex.ClusterView> result = clusterIndex.findClusters(WEST, SOUTH, EAST, NORTH, 17);
+
+        assertThat(result).extracting(view -> view.photoBooth().getId()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(result).allMatch(view -> view.count() == 1);
+    }
+
+    @Test
+    @DisplayName("사진관 변경이 모든 줌 레벨의 클러스터에 반영된다")
+    void upsertAndRemove_UpdatesClusters() {
+        clusterIndex.remove(3L);
+        clusterIndex.upsert(booth(1L, "강남역점(이전)", 35.1580, 129.0600));
+
+        List<PhotoBoothClusterIndex.ClusterView> seoul = clusterIndex.findClusters(WEST, SOUTH, EAST, NORTH, 9);
+        assertThat(seoul).hasSize(1);
+        assertThat(seoul.get(0).photoBooth().getId()).isEqualTo(2L);
+
+        List<PhotoBoothClusterIndex.ClusterView> busan = clusterIndex.findClusters(128.9, 35.0, 129.2, 35.3, 9);
+        assertThat(busan).hasSize(1);
+        assertThat(busan.get(0).count()).isEqualTo(2);
+    }
+
+    private PhotoBoothResponseDto booth(Long id, String name, double latitude, double longitude) {
+        return PhotoBoothResponseDto.builder()
+                .id(id)
+                .name(name)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
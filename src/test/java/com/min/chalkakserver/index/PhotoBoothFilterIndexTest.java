@@ -0,0 +1,141 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PhotoBoothFilterIndex 테스트")
+class PhotoBoothFilterIndexTest {
+
+    private PhotoBoothFilterIndex filterIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 평균 평점: 1번 4.6, 2번 3.2, 3번 4.0 (4번은 리뷰 없음)
+        filterIndex = new PhotoBoothFilterIndex();
+        filterIndex.rebuild(List.of(
+                booth(1L, "인생네컷", "시그니처", List.of("24시간", "주차"), 5, 4.6),
+                booth(2L, "인생네컷", null, List.of("24시간"), 3, 3.2),
+                booth(3L, "포토이즘", "박스", List.of("주차"), 1, 4.0),
+                booth(4L, "하루필름", null, List.of(), 0, 0.0)
+        ));
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 전체를 ID순으로 반환한다")
+    void match_NoCriteria() {
+        assertThat(ids(new PhotoBoothFilterIndex.Criteria(null, null, null, null))).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("같은 항목의 값은 OR, 항목끼리는 AND로 조합한다")
+    void match_CombinesFacets() {
+        assertThat(ids(new PhotoBoothFilterIndex.Criteria(List.of("인생네컷", "포토이즘"), null, null, null)))
+                .containsExactly(1L, 2L, 3L);
+        assertThat(ids(new PhotoBoothFilterIndex.Criteria(List.of("인생 네컷"), List.of("시그니처"), null, null)))
+                .containsExactly(1L);
+        // 태그는 모두 포함해야 한다
+        assertThat(ids(new PhotoBoothFilterIndex.Criteria(null, null, List.of("24시간", "주차"), null)))
+                .containsExactly(1L);
+        assertThat(ids(new PhotoBoothFilterIndex.Criteria(List.of("없는브랜드"), null, null, null))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최소 평균 평점으로 거른다 (소수 기준 포함)")
+    void match_MinRating() {
+        assertThat(ids(new PhotoBoothFilterIndex.Criteria(null, null, null, 4.0))).containsExactly(1L, 3L);
+        assertThat(ids(new PhotoBoothFilterIndex.Criteria(null, null, null, 4.5))).containsExactly(1L);
+        assertThat(ids(new PhotoBoothFilterIndex.Criteria(null, null, List.of("주차"), 3.0))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("리뷰로 평균 평점이 바뀐 사진관이 upsert되면 평점 구간이 바로 옮겨진다")
+    void upsert_RatingChanged_MovesBuckets() {
+        // 2번 3.2 → 4.7, 3번 마지막 리뷰 삭제
+        filterIndex.upsert(booth(2L, "인생네컷", null, List.of("24시간"), 4, 4.7));
+        filterIndex.upsert(booth(3L, "포토이즘", "박스", List.of("주차"), 0, 0.0));
+
+        assertThat(ids(new PhotoBoothFilterIndex.Criteria(null, null, null, 4.0))).containsExactly(1L, 2L);
+        assertThat(ids(new PhotoBoothFilterIndex.Criteria(null, null, null, 4.65))).containsExactly(2L);
+        assertThat(ids(new PhotoBoothFilterIndex.Criteria(null, null, null, 1.0))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 사진관이 바로 반영되고 빈 슬롯은 재사용된다")
+    void upsertAndRemove_UpdatesBitmaps() {
+        filterIndex.remove(2L);
+        filterIndex.upsert(booth(5L, "인생네컷", null, List.of("주차"), 0, 0.0));
+        filterIndex.upsert(booth(3L, "포토이즘", "박스", List.of(), 1, 4.0));
+
+        assertThat(ids(new PhotoBoothFilterIndex.Criteria(List.of("인생네컷"), null, null, null))).containsExactly(1L, 5L);
+        assertThat(ids(new PhotoBoothFilterIndex.Criteria(null, null, List.of("주차"), null))).containsExactly(1L, 5L);
+        assertThat(filterIndex.match(new PhotoBoothFilterIndex.Criteria(null, null, null, null)).contains(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("결과 ID 집합의 브랜드/시리즈/태그별 개수를 많은 순으로 센다")
+    void countFacets_CountsResultBitmaps() {
+        PhotoBoothFilterIndex.FacetCounts counts = filterIndex.countFacets(List.of(1L, 2L, 3L, 99L));
+
+        assertThat(counts.brands()).containsExactly(
+                new PhotoBoothFilterIndex.FacetCount("인생네컷", 2),
+                new PhotoBoothFilterIndex.FacetCount("포토이즘", 1));
+        assertThat(counts.series()).containsExactly(
+                new PhotoBoothFilterIndex.FacetCount("박스", 1),
+                new PhotoBoothFilterIndex.FacetCount("시그니처", 1));
+        assertThat(counts.tags()).containsExactly(
+                new PhotoBoothFilterIndex.FacetCount("24시간", 2),
+                new PhotoBoothFilterIndex.FacetCount("주차", 2));
+        // 인덱스 없이 센 결과와 같다
+        List<PhotoBoothResponseDto> firstThree = filterIndex.match(new PhotoBoothFilterIndex.Criteria(null, null, null, null))
+                .photoBooths().subList(0, 3);
+        assertThat(PhotoBoothFilterIndex.countFacets(firstThree)).isEqualTo(counts);
+    }
+
+    @Test
+    @DisplayName("인덱스 없이 사진관 하나씩 비교한 결과가 비트맵 결과와 같다")
+    void criteriaMatches_SameAsBitmaps() {
+        List<PhotoBoothResponseDto> all = filterIndex.match(new PhotoBoothFilterIndex.Criteria(null, null, null, null))
+                .photoBooths();
+        List<PhotoBoothFilterIndex.Criteria> criteriaList = List.of(
+                new PhotoBoothFilterIndex.Criteria(List.of("인생 네컷"), List.of("시그니처"), null, null),
+                new PhotoBoothFilterIndex.Criteria(List.of("인생네컷", "포토이즘"), null, null, null),
+                new PhotoBoothFilterIndex.Criteria(null, null, List.of("24시간", "주차"), null),
+                new PhotoBoothFilterIndex.Criteria(null, null, List.of("주차"), 3.0),
+                new PhotoBoothFilterIndex.Criteria(null, null, null, 4.5),
+                new PhotoBoothFilterIndex.Criteria(List.of("없는브랜드"), null, null, null));
+
+        for (PhotoBoothFilterIndex.Criteria criteria : criteriaList) {
+            assertThat(all.stream().filter(criteria::matches).map(PhotoBoothResponseDto::getId).toList())
+                    .isEqualTo(ids(criteria));
+        }
+    }
+
+    @Test
+    @DisplayName("브랜드 목록을 이름순으로 반환한다")
+    void brands_ReturnsSortedLabels() {
+        assertThat(filterIndex.brands()).containsExactly("인생네컷", "포토이즘", "하루필름");
+    }
+
+    private List<Long> ids(PhotoBoothFilterIndex.Criteria criteria) {
+        return filterIndex.match(criteria).photoBooths().stream().map(PhotoBoothResponseDto::getId).toList();
+    }
+
+    private PhotoBoothResponseDto booth(Long id, String brand, String series, List<String> tags,
+                                        int reviewCount, double averageRating) {
+        return PhotoBoothResponseDto.builder()
+                .id(id)
+                .name(brand + " " + id + "호점")
+                .brand(brand)
+                .series(series)
+                .tags(tags)
+                .reviewCount(reviewCount)
+                .averageRating(averageRating)
+                .build();
+    }
+}
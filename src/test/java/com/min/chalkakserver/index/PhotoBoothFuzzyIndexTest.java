@@ -0,0 +1,101 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PhotoBoothFuzzyIndex 테스트")
+class PhotoBoothFuzzyIndexTest {
+
+    private PhotoBoothFuzzyIndex fuzzyIndex;
+
+    @BeforeEach
+    void setUp() {
+        fuzzyIndex = new PhotoBoothFuzzyIndex();
+        fuzzyIndex.rebuild(List.of(
+                booth(1L, "인생네컷 강남역점", "인생네컷"),
+                booth(2L, "포토이즘 홍대점", "포토이즘"),
+                booth(3L, "Photoism Signature", "포토시그니처"),
+                booth(4L, "포토이즘 강남점", "포토이즘")
+        ));
+    }
+
+    @Test
+    @DisplayName("편집 거리 이내의 오타를 허용한다")
+    void search_ToleratesTypos() {
+        assertThat(ids("포토이슴")).containsExactly(2L, 4L);
+        assertThat(ids("인쌩네컷")).containsExactly(1L);
+        assertThat(ids("photoisn")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("모든 검색어 단어를 만족하는 사진관을 거리 합이 작은 순으로 반환한다")
+    void search_RanksByDistance() {
+        assertThat(ids("포토이슴 홍대")).containsExactly(2L);
+        // 강남점(거리 0) → 강남역점(거리 1)
+        assertThat(ids("강남점")).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("짧은 검색어는 오타를 허용하지 않는다")
+    void search_ShortQueryRequiresExactToken() {
+        assertThat(PhotoBoothFuzzyIndex.maxDistance("점")).isZero();
+        assertThat(PhotoBoothFuzzyIndex.maxDistance("포토이즘")).isEqualTo(1);
+        assertThat(PhotoBoothFuzzyIndex.maxDistance("signature")).isEqualTo(2);
+        assertThat(ids("점")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 사진관이 바로 반영된다")
+    void upsertAndRemove_UpdatesTrie() {
+        fuzzyIndex.upsert(booth(2L, "포토이즘 신촌점", "포토이즘"));
+        fuzzyIndex.remove(4L);
+
+        assertThat(ids("홍대점")).isEmpty();
+        assertThat(ids("신천점")).containsExactly(2L);
+        assertThat(ids("포토이슴")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("트라이 노드가 방문 상한보다 많아도 길이 하한으로 가지를 쳐 가까운 토큰을 찾는다")
+    void search_CatalogLargerThanVisitLimit() {
+        // 첫 글자가 모두 다른 4글자 이름 6,000개 - 노드 수가 방문 상한의 몇 배이다
+        List<PhotoBoothResponseDto> photoBooths = new ArrayList<>();
+        for (int i = 0; i < 6_000; i++) {
+            photoBooths.add(booth(100L + i, syllable(i) + syllable(i * 7) + syllable(i * 13) + syllable(i * 31), null));
+        }
+        photoBooths.add(booth(1L, "포토이즘 홍대점", "포토이즘"));
+        photoBooths.add(booth(2L, "포토이즘 강남점", "포토이즘"));
+        fuzzyIndex.rebuild(photoBooths);
+        assertThat(photoBooths.size() * 4).isGreaterThan(PhotoBoothFuzzyIndex.MAX_VISITS);
+
+        assertThat(ids("포토이슴")).containsExactly(1L, 2L);
+        assertThat(ids("포토이슴 홍대")).containsExactly(1L);
+        // 대량 카탈로그 쪽 토큰의 오타도 찾는다
+        String target = syllable(4_321) + syllable(4_321 * 7) + syllable(4_321 * 13) + "쀍";
+        assertThat(ids(target)).contains(100L + 4_321);
+    }
+
+    // 가, 각, 갂, ... 순서의 한글 음절
+    private static String syllable(int index) {
+        return String.valueOf((char) ('가' + index % 11_172));
+    }
+
+    private List<Long> ids(String keyword) {
+        return fuzzyIndex.search(keyword).stream().map(PhotoBoothResponseDto::getId).toList();
+    }
+
+    private PhotoBoothResponseDto booth(Long id, String name, String brand) {
+        return PhotoBoothResponseDto.builder()
+                .id(id)
+                .name(name)
+                .brand(brand)
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.entity.PhotoBooth;
+import com.min.chalkakserver.repository.PhotoBoothRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PhotoBoothIndexSynchronizer 테스트")
+class PhotoBoothIndexSynchronizerTest {
+
+    @Mock
+    private PhotoBoothRepository photoBoothRepository;
+
+    private RecordingIndex index;
+    private PhotoBoothIndexSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        index = new RecordingIndex();
+        synchronizer = new PhotoBoothIndexSynchronizer(photoBoothRepository, List.of(index));
+    }
+
+    @Test
+    @DisplayName("스냅샷을 읽은 뒤 커밋된 삭제는 재적재에 덮이지 않는다")
+    void rebuildAll_DeleteCommittedDuringRead_NotResurrected() {
+        PhotoBooth gangnam = photoBooth(1L, "강남점");
+        PhotoBooth hongdae = photoBooth(2L, "홍대점");
+        given(photoBoothRepository.findAll()).willAnswer(invocation -> {
+            // 스냅샷을 읽은 사이 홍대점 삭제가 커밋된다
+            synchronizer.onPhotoBoothChanged(PhotoBoothChangedEvent.deleted(PhotoBoothResponseDto.from(hongdae)));
+            return List.of(gangnam, hongdae);
+        });
+
+        synchronizer.rebuildAll();
+
+        assertThat(index.photoBooths.keySet()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 읽은 뒤 커밋된 수정은 재적재 후 최신 값으로 남는다")
+    void rebuildAll_UpdateCommittedDuringRead_Kept() {
+        PhotoBooth gangnam = photoBooth(1L, "강남점");
+        PhotoBoothResponseDto renamed = PhotoBoothResponseDto.builder().id(1L).name("강남역점").build();
+        given(photoBoothRepository.findAll()).willAnswer(invocation -> {
+            synchronizer.onPhotoBoothChanged(PhotoBoothChangedEvent.updated(PhotoBoothResponseDto.from(gangnam), renamed));
+            return List.of(gangnam);
+        });
+
+        synchronizer.rebuildAll();
+        synchronizer.onPhotoBoothChanged(PhotoBoothChangedEvent.created(
+                PhotoBoothResponseDto.builder().id(2L).name("홍대점").build()));
+
+        assertThat(index.photoBooths.get(1L).getName()).isEqualTo("강남역점");
+        assertThat(index.photoBooths.keySet()).containsExactly(1L, 2L);
+    }
+
+    private PhotoBooth photoBooth(Long id, String name) {
+        PhotoBooth photoBooth = PhotoBooth.builder().name(name).brand("인생네컷").latitude(37.5).longitude(127.0).build();
+        try {
+            Field idField = PhotoBooth.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(photoBooth, id);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("테스트용 PhotoBooth ID 설정에 실패했습니다.", e);
+        }
+        return photoBooth;
+    }
+
+    private static class RecordingIndex implements PhotoBoothIndex {
+
+        private final Map<Long, PhotoBoothResponseDto> photoBooths = new TreeMap<>();
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void rebuild(Collection<PhotoBoothResponseDto> photoBooths) {
+            this.photoBooths.clear();
+            photoBooths.forEach(photoBooth -> this.photoBooths.put(photoBooth.getId(), photoBooth));
+        }
+
+        @Override
+        public void upsert(PhotoBoothResponseDto photoBooth) {
+            photoBooths.put(photoBooth.getId(), photoBooth);
+        }
+
+        @Override
+        public void remove(Long photoBoothId) {
+            photoBooths.remove(photoBoothId);
+        }
+    }
+}
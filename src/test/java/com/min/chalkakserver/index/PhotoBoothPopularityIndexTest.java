@@ -0,0 +1,88 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PhotoBoothPopularityIndex 테스트")
+class PhotoBoothPopularityIndexTest {
+
+    private PhotoBoothPopularityIndex popularityIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 리뷰 16개, 평점 합계 60 → 전체 평균 3.75
+        // 점수: 1번 (18.75 + 45) / 15 = 4.25, 2번 (18.75 + 5) / 6 ≈ 3.96, 4번 (18.75 + 10) / 10 = 2.875
+        popularityIndex = new PhotoBoothPopularityIndex();
+        popularityIndex.rebuild(List.of(booth(1L, 10, 4.5), booth(2L, 1, 5.0), booth(3L, 0, 0.0), booth(4L, 5, 2.0)));
+    }
+
+    @Test
+    @DisplayName("리뷰가 적은 사진관은 전체 평균 쪽으로 당겨진 점수로 정렬하고, 리뷰 없는 사진관은 빠진다")
+    void top_RankedByBayesianScore() {
+        assertThat(ids(10)).containsExactly(1L, 2L, 4L);
+        assertThat(ids(2)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("리뷰 집계가 바뀐 사진관이 들어오면 그 사진관 순위에만 바로 반영된다")
+    void upsert_ReviewAggregatesChanged_Reranks() {
+        // 2번: 5점 리뷰 3개 추가 → (18.75 + 20) / 9 ≈ 4.31
+        popularityIndex.upsert(booth(2L, 4, 5.0));
+        assertThat(ids(10)).containsExactly(2L, 1L, 4L);
+
+        // 2번: 5점 → 1점 수정 → (18.75 + 16) / 9 ≈ 3.86
+        popularityIndex.upsert(booth(2L, 4, 4.0));
+        assertThat(ids(10)).containsExactly(1L, 2L, 4L);
+
+        // 3번: 첫 리뷰 → 순위에 들어온다
+        popularityIndex.upsert(booth(3L, 1, 3.0));
+        assertThat(ids(10)).contains(3L);
+
+        // 3번: 마지막 리뷰 삭제 → 순위에서 빠진다
+        popularityIndex.upsert(booth(3L, 0, 0.0));
+        assertThat(ids(10)).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("재적재 스냅샷에 이미 들어간 리뷰 변경이 이벤트로 다시 와도 두 번 세지 않는다")
+    void upsert_AfterRebuildWithSameChange_NotCountedTwice() {
+        // 2번의 5점 리뷰 3개가 스냅샷에 이미 반영된 상태로 재적재된다
+        popularityIndex.rebuild(List.of(booth(1L, 10, 4.5), booth(2L, 4, 5.0), booth(4L, 5, 2.0)));
+        List<Long> afterRebuild = ids(10);
+
+        // 같은 변경의 커밋 후 이벤트가 재적재 뒤에 도착한다
+        popularityIndex.upsert(booth(2L, 4, 5.0));
+
+        assertThat(ids(10)).isEqualTo(afterRebuild);
+        assertThat(ids(10)).containsExactly(2L, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("삭제된 사진관은 빠지고, 수정된 사진관은 최신 정보로 응답한다")
+    void upsertAndRemove_UpdatesRanking() {
+        popularityIndex.remove(1L);
+        popularityIndex.upsert(PhotoBoothResponseDto.builder().id(2L).name("이름 변경").reviewCount(1).averageRating(5.0).build());
+
+        assertThat(ids(10)).containsExactly(2L, 4L);
+        assertThat(popularityIndex.top(1).get(0).getName()).isEqualTo("이름 변경");
+    }
+
+    private List<Long> ids(int limit) {
+        return popularityIndex.top(limit).stream().map(PhotoBoothResponseDto::getId).toList();
+    }
+
+    private PhotoBoothResponseDto booth(Long id, int reviewCount, double averageRating) {
+        return PhotoBoothResponseDto.builder()
+                .id(id)
+                .name("사진관 " + id)
+                .reviewCount(reviewCount)
+                .averageRating(averageRating)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PhotoBoothSpatialIndex 테스트")
+class PhotoBoothSpatialIndexTest {
+
+    private PhotoBoothSpatialIndex spatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        spatialIndex = new PhotoBoothSpatialIndex();
+        spatialIndex.rebuild(List.of(
+                booth(1L, "강남역점", 37.4979, 127.0276),
+                booth(2L, "역삼점", 37.5006, 127.0364),
+                booth(3L, "홍대점", 37.5565, 126.9239),
+                booth(4L, "부산 서면점", 35.1577, 129.0594)
+        ));
+    }
+
+    @Test
+    @DisplayName("적재 전에는 준비되지 않은 상태이다")
+    void isReady_BeforeRebuild_False() {
+        assertThat(new PhotoBoothSpatialIndex().isReady()).isFalse();
+        assertThat(spatialIndex.isReady()).isTrue();
+        assertThat(spatialIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("반경 이내의 사진관을 거리순으로 반환한다")
+    void findWithinRadius_SortedByDistance() {
+        List<PhotoBoothResponseDto> result = spatialIndex.findWithinRadius(37.4990, 127.0300, 2.0);
+
+        assertThat(result).extracting(PhotoBoothResponseDto::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("넓은 반경에서도 범위 밖 사진관은 제외한다")
+    void findWithinRadius_LargeRadius() {
+        List<PhotoBoothResponseDto> result = spatialIndex.findWithinRadius(37.5, 127.0, 50.0);
+
+        assertThat(result).extracting(PhotoBoothResponseDto::getId).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("수정된 좌표로 이동한 사진관을 새 위치에서 찾는다")
+    void upsert_MovesToNewCell() {
+        spatialIndex.upsert(booth(1L, "강남역점(이전)", 35.1580, 129.0600));
+
+        assertThat(spatialIndex.findWithinRadius(37.4979, 127.0276, 0.5)).isEmpty();
+        assertThat(spatialIndex.findWithinRadius(35.1577, 129.0594, 1.0))
+                .extracting(PhotoBoothResponseDto::getId)
+                .containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 사진관은 검색되지 않는다")
+    void remove_Success() {
+        spatialIndex.remove(3L);
+
+        assertThat(spatialIndex.findWithinRadius(37.5565, 126.9239, 1.0)).isEmpty();
+        assertThat(spatialIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("반경과 관계없이 가장 가까운 k개를 거리와 함께 반환한다")
+    void findNearest_ReturnsKClosest() {
+        List<PhotoBoothSpatialIndex.Neighbor> result = spatialIndex.findNearest(37.5565, 126.9239, 2);
+
+        assertThat(result).extracting(neighbor -> neighbor.photoBooth().getId()).containsExactly(3L, 1L);
+        assertThat(result.get(0).distanceKm()).isZero();
+        assertThat(result.get(1).distanceKm()).isGreaterThan(10.0);
+    }
+
+    @Test
+    @DisplayName("먼 지역에서도 가장 가까운 사진관을 찾는다")
+    void findNearest_SparseArea() {
+        // 제주 - 가장 가까운 사진관은 수백 km 떨어진 부산
+        List<PhotoBoothSpatialIndex.Neighbor> result = spatialIndex.findNearest(33.4996, 126.5312, 1);
+
+        assertThat(result).extracting(neighbor -> neighbor.photoBooth().getId()).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("k가 전체 사진관 수보다 크면 전체를 거리순으로 반환한다")
+    void findNearest_KLargerThanSize() {
+        List<PhotoBoothSpatialIndex.Neighbor> result = spatialIndex.findNearest(37.4979, 127.0276, 10);
+
+        assertThat(result).extracting(neighbor -> neighbor.photoBooth().getId()).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    private PhotoBoothResponseDto booth(Long id, String name, double latitude, double longitude) {
+        return PhotoBoothResponseDto.builder()
+                .id(id)
+                .name(name)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PhotoBoothSuggestIndex 테스트")
+class PhotoBoothSuggestIndexTest {
+
+    private PhotoBoothSuggestIndex suggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 리뷰 수: 1번 3개, 2번 10개
+        suggestIndex = new PhotoBoothSuggestIndex();
+        suggestIndex.rebuild(List.of(
+                booth(1L, "인생네컷 강남역점", "인생네컷", null, List.of("24시간"), 3),
+                booth(2L, "인생네컷 홍대점", "인생네컷", "시그니처", List.of("24시간", "주차"), 10),
+                booth(3L, "포토이즘 강남점", "포토이즘", null, List.of(), 0)
+        ));
+    }
+
+    @Test
+    @DisplayName("접두사로 시작하는 후보를 브랜드 먼저, 이름은 리뷰 수 순으로 반환한다")
+    void suggest_RankedByPopularity() {
+        // 브랜드 > 홍대점(리뷰 10) > 강남역점(리뷰 3)
+        assertThat(texts("인생")).containsExactly("인생네컷", "인생네컷 홍대점", "인생네컷 강남역점");
+        assertThat(suggestIndex.suggest("인생", 1)).extracting(PhotoBoothSuggestIndex.Suggestion::type)
+                .containsExactly(PhotoBoothSuggestIndex.Type.BRAND);
+    }
+
+    @Test
+    @DisplayName("이름 중간 단어와 태그, 시리즈로도 찾는다")
+    void suggest_MatchesWordsTagsAndSeries() {
+        assertThat(texts("강남")).containsExactly("인생네컷 강남역점", "포토이즘 강남점");
+        assertThat(texts("24")).containsExactly("24시간");
+        assertThat(suggestIndex.suggest("24", 10).get(0).score()).isEqualTo(2);
+        assertThat(texts("시그")).containsExactly("시그니처");
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백을 무시하고, 없는 접두사는 빈 목록을 반환한다")
+    void suggest_NormalizesPrefix() {
+        assertThat(texts("인생 네컷 홍")).containsExactly("인생네컷 홍대점");
+        assertThat(texts("없는")).isEmpty();
+        assertThat(texts(" ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리뷰 수가 바뀐 사진관이 upsert되면 이름 후보 순위가 바로 바뀐다")
+    void upsert_ReviewCountChanged_Reranks() {
+        // 강남역점 리뷰 3 → 12
+        suggestIndex.upsert(booth(1L, "인생네컷 강남역점", "인생네컷", null, List.of("24시간"), 12));
+
+        assertThat(texts("인생")).containsExactly("인생네컷", "인생네컷 강남역점", "인생네컷 홍대점");
+        assertThat(suggestIndex.suggest("인생네컷 강남", 1).get(0).score()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 사진관이 바로 반영된다")
+    void upsertAndRemove_RebuildsTrie() {
+        suggestIndex.upsert(booth(3L, "포토이즘 신촌점", "포토이즘", null, List.of(), 0));
+        suggestIndex.remove(1L);
+
+        assertThat(texts("강남")).isEmpty();
+        assertThat(texts("신촌")).containsExactly("포토이즘 신촌점");
+        assertThat(suggestIndex.suggest("인생네컷", 1).get(0).score()).isEqualTo(1);
+    }
+
+    private List<String> texts(String prefix) {
+        return suggestIndex.suggest(prefix, 10).stream().map(PhotoBoothSuggestIndex.Suggestion::text).toList();
+    }
+
+    private PhotoBoothResponseDto booth(Long id, String name, String brand, String series, List<String> tags,
+                                        int reviewCount) {
+        return PhotoBoothResponseDto.builder()
+                .id(id)
+                .name(name)
+                .brand(brand)
+                .series(series)
+                .tags(tags)
+                .reviewCount(reviewCount)
+                .build();
+    }
+}
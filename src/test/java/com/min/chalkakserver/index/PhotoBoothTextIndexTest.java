@@ -0,0 +1,78 @@
+package com.min.chalkakserver.index;
+
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PhotoBoothTextIndex 테스트")
+class PhotoBoothTextIndexTest {
+
+    private PhotoBoothTextIndex textIndex;
+
+    @BeforeEach
+    void setUp() {
+        textIndex = new PhotoBoothTextIndex();
+        textIndex.rebuild(List.of(
+                booth(1L, "인생네컷 강남역점", "인생네컷", null, "서울 강남구 역삼동"),
+                booth(2L, "포토이즘 홍대점", "포토이즘", "박스", "서울 마포구 서교동"),
+                booth(3L, "Photo Signature 강남", "포토시그니처", null, "서울 강남구 논현동")
+        ));
+    }
+
+    @Test
+    @DisplayName("이름, 주소, 브랜드, 시리즈에서 키워드를 찾는다")
+    void search_MatchesAllFields() {
+        assertThat(ids("강남")).containsExactly(1L, 3L);
+        assertThat(ids("서교동")).containsExactly(2L);
+        assertThat(ids("포토시그니처")).containsExactly(3L);
+        assertThat(ids("박스")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백을 무시하고 찾는다")
+    void search_IgnoresCaseAndWhitespace() {
+        assertThat(ids("SIGNATURE")).containsExactly(3L);
+        assertThat(ids("강남 역")).containsExactly(1L);
+        assertThat(ids("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("n-gram이 모두 있어도 연속된 문자열이 아니면 제외한다")
+    void search_VerifiesSubstring() {
+        // "강남역"(이름)과 "남역삼"(주소) trigram은 모두 있지만 "강남역삼"이 이어지는 필드는 없다
+        textIndex.upsert(booth(4L, "강남역", null, null, "남역삼거리"));
+
+        assertThat(ids("강남역")).containsExactly(1L, 4L);
+        assertThat(ids("강남역삼")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 사진관이 바로 반영된다")
+    void upsertAndRemove_UpdatesPostings() {
+        textIndex.upsert(booth(2L, "포토이즘 신촌점", "포토이즘", null, "서울 서대문구"));
+        textIndex.remove(1L);
+
+        assertThat(ids("홍대")).isEmpty();
+        assertThat(ids("신촌")).containsExactly(2L);
+        assertThat(ids("강남")).containsExactly(3L);
+    }
+
+    private List<Long> ids(String keyword) {
+        return textIndex.search(keyword).stream().map(PhotoBoothResponseDto::getId).toList();
+    }
+
+    private PhotoBoothResponseDto booth(Long id, String name, String brand, String series, String address) {
+        return PhotoBoothResponseDto.builder()
+                .id(id)
+                .name(name)
+                .brand(brand)
+                .series(series)
+                .address(address)
+                .build();
+    }
+}
@@ -1,13 +1,17 @@
 package com.min.chalkakserver.scheduler;
 
 import com.min.chalkakserver.config.RateLimitConfig;
+import com.min.chalkakserver.repository.PhotoBoothTombstoneRepository;
 import com.min.chalkakserver.repository.RefreshTokenRepository;
+import com.min.chalkakserver.service.ReviewService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -21,6 +25,12 @@ class TokenCleanupSchedulerTest {
     @Mock
     private RateLimitConfig rateLimitConfig;
 
+    @Mock
+    private PhotoBoothTombstoneRepository photoBoothTombstoneRepository;
+
+    @Mock
+    private ReviewService reviewService;
+
     @InjectMocks
     private TokenCleanupScheduler scheduler;
 
@@ -74,6 +84,52 @@ class TokenCleanupSchedulerTest {
         verify(refreshTokenRepository, times(1)).deleteUsedTokensOlderThan(any());
     }
 
+    // ==================== cleanupPhotoBoothTombstones ====================
+
+    @Test
+    void cleanupPhotoBoothTombstones_Success_ShouldCallRepository() {
+        // When
+        scheduler.cleanupPhotoBoothTombstones();
+
+        // Then
+        verify(photoBoothTombstoneRepository, times(1)).deleteAllDeletedBefore(any());
+    }
+
+    @Test
+    void cleanupPhotoBoothTombstones_RepositoryThrows_ShouldNotPropagateException() {
+        // Given
+        doThrow(new RuntimeException("DB connection failed"))
+                .when(photoBoothTombstoneRepository).deleteAllDeletedBefore(any());
+
+        // When & Then
+        assertDoesNotThrow(() -> scheduler.cleanupPhotoBoothTombstones());
+    }
+
+    // ==================== reconcileReviewAggregates ====================
+
+    @Test
+    void reconcileReviewAggregates_Success_ShouldCallService() {
+        // Given
+        when(reviewService.reconcileReviewAggregates()).thenReturn(List.of(1L, 2L));
+
+        // When
+        scheduler.reconcileReviewAggregates();
+
+        // Then
+        verify(reviewService, times(1)).reconcileReviewAggregates();
+    }
+
+    @Test
+    void reconcileReviewAggregates_ServiceThrows_ShouldNotPropagateException() {
+        // Given
+        doThrow(new RuntimeException("DB connection failed"))
+                .when(reviewService).reconcileReviewAggregates();
+
+        // When & Then
+        assertDoesNotThrow(() -> scheduler.reconcileReviewAggregates());
+        verify(reviewService, times(1)).reconcileReviewAggregates();
+    }
+
     // ==================== cleanupRateLimitBuckets ====================
 
     @Test
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -53,6 +54,12 @@ class AdminServiceTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReviewService reviewService;
+
     @InjectMocks
     private AdminService adminService;
 
@@ -159,6 +166,7 @@ class AdminServiceTest {
         // then
         assertThat(result).isNotNull();
         then(photoBoothRepository).should().findById(1L);
+        then(photoBoothRepository).should().saveAndFlush(photoBooth);
     }
 
     @Test
@@ -351,7 +359,7 @@ class AdminServiceTest {
 
         // then
         then(refreshTokenRepository).should().deleteAllByUser(user);
-        then(reviewRepository).should().deleteAllByUser(user);
+        then(reviewService).should().deleteAllReviewsByUser(user);
         then(favoriteRepository).should().deleteAllByUser(user);
         then(userRepository).should().delete(user);
     }
@@ -370,23 +378,21 @@ class AdminServiceTest {
     // ==================== deleteReview ====================
 
     @Test
-    @DisplayName("존재하는 리뷰를 삭제하면 정상적으로 삭제된다")
+    @DisplayName("리뷰 삭제는 사진관 리뷰 집계를 갱신하는 ReviewService에 맡긴다")
     void deleteReview_success() {
-        // given
-        given(reviewRepository.existsById(1L)).willReturn(true);
-
         // when
         adminService.deleteReview(1L);
 
         // then
-        then(reviewRepository).should().deleteById(1L);
+        then(reviewService).should().deleteReviewByAdmin(1L);
+        then(reviewRepository).should(never()).deleteById(any());
     }
 
     @Test
     @DisplayName("존재하지 않는 리뷰를 삭제하면 ReviewNotFoundException이 발생한다")
     void deleteReview_notFound() {
         // given
-        given(reviewRepository.existsById(999L)).willReturn(false);
+        willThrow(new ReviewNotFoundException(999L)).given(reviewService).deleteReviewByAdmin(999L);
 
         // when & then
         assertThatThrownBy(() -> adminService.deleteReview(999L))
@@ -44,6 +44,7 @@ class AuthServiceTest {
     @Mock private FavoriteRepository favoriteRepository;
     @Mock private CongestionReportRepository congestionReportRepository;
     @Mock private PhotoBoothReportRepository photoBoothReportRepository;
+    @Mock private ReviewService reviewService;
     @Mock private JwtTokenProvider jwtTokenProvider;
     @Mock private SocialAuthService socialAuthService;
     @Mock private PasswordEncoder passwordEncoder;
@@ -364,10 +365,10 @@ class AuthServiceTest {
             authService.deleteAccount(1L);
 
             // then - 순서 검증
-            var inOrder = inOrder(reviewRepository, favoriteRepository,
+            var inOrder = inOrder(reviewService, favoriteRepository,
                     congestionReportRepository, photoBoothReportRepository,
                     refreshTokenRepository, userRepository);
-            inOrder.verify(reviewRepository).deleteAllByUser(testUser);
+            inOrder.verify(reviewService).deleteAllReviewsByUser(testUser);
             inOrder.verify(favoriteRepository).deleteAllByUser(testUser);
             inOrder.verify(congestionReportRepository).deleteAllByUser(testUser);
             inOrder.verify(photoBoothReportRepository).deleteAllByUser(testUser);
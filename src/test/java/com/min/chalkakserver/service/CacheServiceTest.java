@@ -1,5 +1,7 @@
 package com.min.chalkakserver.service;
 
+import com.min.chalkakserver.config.cache.InstrumentedCacheManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,12 +10,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -90,37 +97,44 @@ class CacheServiceTest {
     }
 
     @Test
-    @DisplayName("캐시 통계를 조회한다")
+    @DisplayName("캐시 통계는 SCAN으로 키를 세고 TTL은 파이프라인으로 조회한다")
+    @SuppressWarnings("unchecked")
     void getCacheStatistics_Success() {
         // given
         Cache cache = mock(Cache.class);
         given(cacheManager.getCacheNames()).willReturn(Arrays.asList("photoBooths"));
         given(cacheManager.getCache("photoBooths")).willReturn(cache);
 
-        Set<String> keys = Set.of("photoBooths::key1", "photoBooths::key2");
-        given(redisTemplate.keys("photoBooths::*")).willReturn(keys);
-        given(redisTemplate.getExpire("photoBooths::key1", TimeUnit.SECONDS)).willReturn(3600L);
-        given(redisTemplate.getExpire("photoBooths::key2", TimeUnit.SECONDS)).willReturn(1800L);
+        Cursor<String> cursor = mock(Cursor.class);
+        given(cursor.hasNext()).willReturn(true, true, false);
+        given(cursor.next()).willReturn("photoBooths::key1", "photoBooths::key2");
+        given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of(3600L, 1800L));
 
         // when
         Map<String, Object> stats = cacheService.getCacheStatistics();
 
         // then
         assertThat(stats).containsKey("photoBooths");
-        @SuppressWarnings("unchecked")
         Map<String, Object> cacheStats = (Map<String, Object>) stats.get("photoBooths");
         assertThat(cacheStats.get("name")).isEqualTo("photoBooths");
-        assertThat(cacheStats.get("size")).isEqualTo(2);
+        assertThat(cacheStats.get("size")).isEqualTo(2L);
+        assertThat(cacheStats.get("sizeExact")).isEqualTo(true);
+        Map<String, Object> ttlInfo = (Map<String, Object>) cacheStats.get("ttlInfo");
+        assertThat(ttlInfo.get("minSeconds")).isEqualTo(1800L);
+        assertThat(ttlInfo.get("maxSeconds")).isEqualTo(3600L);
+        verify(redisTemplate, never()).keys(anyString());
+        verify(redisTemplate, never()).getExpire(anyString(), any(TimeUnit.class));
     }
 
     @Test
-    @DisplayName("캐시 통계 조회 시 키가 없으면 null keys를 처리한다")
-    void getCacheStatistics_NullKeys() {
+    @DisplayName("캐시 통계 조회 시 Redis 조회에 실패하면 키 통계 없이 응답한다")
+    void getCacheStatistics_RedisFailure() {
         // given
         Cache cache = mock(Cache.class);
         given(cacheManager.getCacheNames()).willReturn(Arrays.asList("photoBooths"));
         given(cacheManager.getCache("photoBooths")).willReturn(cache);
-        given(redisTemplate.keys("photoBooths::*")).willReturn(null);
+        given(redisTemplate.scan(any(ScanOptions.class))).willThrow(new RuntimeException("연결 실패"));
 
         // when
         Map<String, Object> stats = cacheService.getCacheStatistics();
@@ -132,6 +146,32 @@ class CacheServiceTest {
         assertThat(cacheStats).doesNotContainKey("size");
     }
 
+    @Test
+    @DisplayName("캐시 통계에 프로세스 내 적중/실패 카운터가 포함된다")
+    void getCacheStatistics_HitMissCounters() {
+        // given
+        InstrumentedCacheManager instrumented = new InstrumentedCacheManager(
+                new ConcurrentMapCacheManager("photoBooth"), new SimpleMeterRegistry(), null);
+        Cache cache = instrumented.getCache("photoBooth");
+        cache.get(1L);
+        cache.put(1L, "강남점");
+        cache.get(1L);
+        cache.get(1L);
+        ReflectionTestUtils.setField(cacheService, "cacheManager", instrumented);
+        ReflectionTestUtils.setField(cacheService, "redisTemplate", null);
+
+        // when
+        Map<String, Object> stats = cacheService.getCacheStatistics();
+
+        // then
+        @SuppressWarnings("unchecked")
+        Map<String, Object> cacheStats = (Map<String, Object>) stats.get("photoBooth");
+        assertThat(cacheStats.get("hits")).isEqualTo(2L);
+        assertThat(cacheStats.get("misses")).isEqualTo(1L);
+        assertThat(cacheStats.get("loads")).isEqualTo(1L);
+        assertThat(cacheStats).doesNotContainKey("size");
+    }
+
     @Test
     @DisplayName("캐시 통계 조회 시 캐시가 null이면 빈 통계를 넣는다")
     void getCacheStatistics_NullCache() {
@@ -0,0 +1,211 @@
+package com.min.chalkakserver.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.min.chalkakserver.entity.PhotoBooth;
+import com.min.chalkakserver.entity.Post;
+import com.min.chalkakserver.entity.User;
+import com.min.chalkakserver.exception.PhotoBoothNotFoundException;
+import com.min.chalkakserver.repository.PhotoBoothRepository;
+import com.min.chalkakserver.repository.PostLikeRepository;
+import com.min.chalkakserver.repository.PostRepository;
+import com.min.chalkakserver.repository.ReviewRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportService 테스트")
+class ExportServiceTest {
+
+    @Mock
+    private PhotoBoothRepository photoBoothRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostLikeRepository postLikeRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportService(photoBoothRepository, reviewRepository, postRepository,
+                postLikeRepository, entityManager, objectMapper, transactionManager);
+    }
+
+    @Test
+    @DisplayName("사진관 내보내기는 태그 조인 행을 사진관별로 묶어 JSON 배열로 쓴다")
+    void exportPhotoBooths_Json_GroupsTagRows() throws Exception {
+        PhotoBooth gangnam = photoBooth(1L, "인생네컷 강남점");
+        PhotoBooth hongdae = photoBooth(2L, "인생네컷 홍대점");
+        given(photoBoothRepository.streamAllWithTagNames()).willReturn(Stream.of(
+                new Object[]{gangnam, "24시간"},
+                new Object[]{gangnam, "주차"},
+                new Object[]{hongdae, null}
+        ));
+
+        JsonNode result = objectMapper.readTree(run(exportService.exportPhotoBooths(ExportService.Format.JSON)));
+
+        assertThat(result.isArray()).isTrue();
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.get(0).get("name").asText()).isEqualTo("인생네컷 강남점");
+        assertThat(result.get(0).get("tags").toString()).isEqualTo("[\"24시간\",\"주차\"]");
+        assertThat(result.get(1).get("tags").size()).isZero();
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄에 게시물 하나를 쓰고, 좋아요 여부는 한 번에 읽은 ID로 채운다")
+    void exportPosts_Ndjson_WritesOneLinePerPost() throws Exception {
+        User user = user();
+        given(postLikeRepository.findPostIdsByUserId(1L)).willReturn(Set.of(20L));
+        given(postRepository.streamAllWithUserAndPhotoBooth()).willReturn(Stream.of(
+                post(20L, user),
+                post(10L, user)
+        ));
+
+        String[] lines = run(exportService.exportPosts(1L, ExportService.Format.NDJSON)).split("\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(20L);
+        assertThat(objectMapper.readTree(lines[0]).get("liked").asBoolean()).isTrue();
+        assertThat(objectMapper.readTree(lines[1]).get("liked").asBoolean()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비로그인 내보내기는 좋아요를 조회하지 않는다")
+    void exportPosts_Anonymous_SkipsLikeLookup() throws Exception {
+        given(postRepository.streamAllWithUserAndPhotoBooth()).willReturn(Stream.empty());
+
+        assertThat(run(exportService.exportPosts(null, ExportService.Format.JSON))).isEqualTo("[]");
+        verify(postLikeRepository, never()).findPostIdsByUserId(any());
+    }
+
+    @Test
+    @DisplayName("일정 건수마다 영속성 컨텍스트를 비운다")
+    void exportPosts_ClearsPersistenceContextPeriodically() throws Exception {
+        User user = user();
+        List<Post> posts = new ArrayList<>();
+        IntStream.range(0, ExportService.FLUSH_INTERVAL * 2 + 1).forEach(i -> posts.add(post((long) i, user)));
+        given(postRepository.streamAllWithUserAndPhotoBooth()).willReturn(posts.stream());
+
+        JsonNode result = objectMapper.readTree(run(exportService.exportPosts(null, ExportService.Format.JSON)));
+
+        assertThat(result.size()).isEqualTo(posts.size());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("스트리밍 중 실패하면 닫는 ']'를 쓰지 않아 잘린 응답이 정상 JSON으로 보이지 않는다")
+    void exportPosts_FailureMidStream_LeavesArrayOpen() {
+        User user = user();
+        Stream<Post> failing = Stream.concat(Stream.of(post(1L, user)),
+                Stream.<Post>generate(() -> {
+                    throw new IllegalStateException("DB 연결 끊김");
+                }).limit(1));
+        given(postRepository.streamAllWithUserAndPhotoBooth()).willReturn(failing);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> exportService.exportPosts(null, ExportService.Format.JSON).writeTo(out))
+                .isInstanceOf(IllegalStateException.class);
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(body).startsWith("[{");
+        assertThat(body).doesNotEndWith("]");
+    }
+
+    @Test
+    @DisplayName("없는 사진관의 리뷰 내보내기는 스트리밍 전에 예외가 발생한다")
+    void exportPhotoBoothReviews_NotFound_ThrowsException() {
+        given(photoBoothRepository.existsById(999L)).willReturn(false);
+
+        assertThatThrownBy(() -> exportService.exportPhotoBoothReviews(999L, ExportService.Format.JSON))
+                .isInstanceOf(PhotoBoothNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식은 IllegalArgumentException")
+    void formatOf_Unsupported_ThrowsException() {
+        assertThat(ExportService.Format.of("NDJSON")).isEqualTo(ExportService.Format.NDJSON);
+        assertThatThrownBy(() -> ExportService.Format.of("csv"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String run(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private PhotoBooth photoBooth(Long id, String name) {
+        PhotoBooth photoBooth = PhotoBooth.builder()
+                .name(name)
+                .brand("인생네컷")
+                .latitude(37.5)
+                .longitude(127.0)
+                .build();
+        setEntityId(photoBooth, id);
+        return photoBooth;
+    }
+
+    private User user() {
+        User user = User.builder()
+                .email("test@test.com")
+                .nickname("tester")
+                .provider(User.AuthProvider.EMAIL)
+                .providerId("test@test.com")
+                .role(User.Role.USER)
+                .build();
+        setEntityId(user, 1L);
+        return user;
+    }
+
+    private Post post(Long id, User user) {
+        Post post = Post.builder()
+                .user(user)
+                .imageUrl("https://example.com/" + id + ".jpg")
+                .build();
+        setEntityId(post, id);
+        return post;
+    }
+
+    private void setEntityId(Object entity, Long id) {
+        try {
+            Field idField = entity.getClass().getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(entity, id);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -1,10 +1,21 @@
 package com.min.chalkakserver.service;
 
+import com.min.chalkakserver.config.cache.PhotoBoothTileCache;
 import com.min.chalkakserver.dto.PagedResponseDto;
 import com.min.chalkakserver.dto.PhotoBoothResponseDto;
 import com.min.chalkakserver.entity.PhotoBooth;
+import com.min.chalkakserver.exception.IndexNotReadyException;
 import com.min.chalkakserver.exception.InvalidLocationException;
 import com.min.chalkakserver.exception.PhotoBoothNotFoundException;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import com.min.chalkakserver.index.PhotoBoothChosungIndex;
+import com.min.chalkakserver.index.PhotoBoothClusterIndex;
+import com.min.chalkakserver.index.PhotoBoothFilterIndex;
+import com.min.chalkakserver.index.PhotoBoothFuzzyIndex;
+import com.min.chalkakserver.index.PhotoBoothPopularityIndex;
+import com.min.chalkakserver.index.PhotoBoothSpatialIndex;
+import com.min.chalkakserver.index.PhotoBoothSuggestIndex;
+import com.min.chalkakserver.index.PhotoBoothTextIndex;
 import com.min.chalkakserver.repository.PhotoBoothImageRepository;
 import com.min.chalkakserver.repository.PhotoBoothReportRepository;
 import com.min.chalkakserver.repository.PhotoBoothRepository;
@@ -17,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -44,6 +56,26 @@ class PhotoBoothServiceTest {
     private PhotoBoothReportRepository photoBoothReportRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private PhotoBoothSpatialIndex photoBoothSpatialIndex;
+    @Mock
+    private PhotoBoothClusterIndex photoBoothClusterIndex;
+    @Mock
+    private PhotoBoothTextIndex photoBoothTextIndex;
+    @Mock
+    private PhotoBoothChosungIndex photoBoothChosungIndex;
+    @Mock
+    private PhotoBoothFuzzyIndex photoBoothFuzzyIndex;
+    @Mock
+    private PhotoBoothFilterIndex photoBoothFilterIndex;
+    @Mock
+    private PhotoBoothSuggestIndex photoBoothSuggestIndex;
+    @Mock
+    private PhotoBoothPopularityIndex photoBoothPopularityIndex;
+    @Mock
+    private PhotoBoothTileCache photoBoothTileCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private PhotoBoothService photoBoothService;
@@ -179,10 +211,8 @@ class PhotoBoothServiceTest {
             double longitude = 127.0396;
             double radius = 3.0;
 
-            given(photoBoothRepository.findNearbyPhotoBooths(
-                    eq(latitude), eq(longitude), eq(radius),
-                    anyDouble(), anyDouble(), anyDouble(), anyDouble()))
-                    .willReturn(Arrays.asList(testPhotoBooth));
+            given(photoBoothTileCache.findWithinRadius(latitude, longitude, radius))
+                    .willReturn(List.of(PhotoBoothResponseDto.from(testPhotoBooth)));
 
             // when
             List<PhotoBoothResponseDto> result = 
@@ -193,6 +223,48 @@ class PhotoBoothServiceTest {
             assertThat(result.get(0).getName()).isEqualTo("테스트 사진관");
         }
 
+        @Test
+        @DisplayName("공간 인덱스가 준비되어 있으면 DB를 조회하지 않는다")
+        void getNearbyPhotoBooths_UsesSpatialIndex() {
+            // given
+            double latitude = 37.5012;
+            double longitude = 127.0396;
+            double radius = 3.0;
+            PhotoBoothResponseDto indexed = PhotoBoothResponseDto.from(testPhotoBooth);
+
+            given(photoBoothSpatialIndex.isReady()).willReturn(true);
+            given(photoBoothSpatialIndex.findWithinRadius(latitude, longitude, radius))
+                    .willReturn(List.of(indexed));
+
+            // when
+            List<PhotoBoothResponseDto> result =
+                    photoBoothService.getNearbyPhotoBooths(latitude, longitude, radius);
+
+            // then
+            assertThat(result).containsExactly(indexed);
+            org.mockito.Mockito.verify(photoBoothTileCache, org.mockito.Mockito.never())
+                    .findWithinRadius(anyDouble(), anyDouble(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("가장 가까운 네컷사진관을 거리와 함께 조회한다")
+        void getNearestPhotoBooths_Success() {
+            // given
+            PhotoBoothResponseDto indexed = PhotoBoothResponseDto.from(testPhotoBooth);
+            given(photoBoothSpatialIndex.isReady()).willReturn(true);
+            given(photoBoothSpatialIndex.findNearest(37.5, 127.0, 1))
+                    .willReturn(List.of(new PhotoBoothSpatialIndex.Neighbor(indexed, 3.52147)));
+
+            // when
+            List<com.min.chalkakserver.dto.NearestPhotoBoothResponseDto> result =
+                    photoBoothService.getNearestPhotoBooths(37.5, 127.0, 1);
+
+            // then
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getPhotoBooth().getName()).isEqualTo("테스트 사진관");
+            assertThat(result.get(0).getDistance()).isEqualTo(3.521);
+        }
+
         @Test
         @DisplayName("유효하지 않은 위도로 검색하면 예외가 발생한다")
         void getNearbyPhotoBooths_InvalidLatitude() {
@@ -274,6 +346,58 @@ class PhotoBoothServiceTest {
             assertThat(result.get(0).getAddress()).contains("강남");
         }
 
+        @Test
+        @DisplayName("검색 인덱스가 준비되어 있으면 DB를 조회하지 않는다")
+        void searchPhotoBooths_UsesTextIndex() {
+            // given
+            PhotoBoothResponseDto indexed = PhotoBoothResponseDto.from(testPhotoBooth);
+            given(photoBoothTextIndex.isReady()).willReturn(true);
+            given(photoBoothTextIndex.search("강남")).willReturn(new java.util.ArrayList<>(List.of(indexed)));
+
+            // when
+            List<PhotoBoothResponseDto> result = photoBoothService.searchPhotoBooths("강남");
+            PagedResponseDto<PhotoBoothResponseDto> paged = photoBoothService.searchPhotoBoothsPaged("강남", 0, 20);
+
+            // then
+            assertThat(result).containsExactly(indexed);
+            assertThat(paged.getContent()).containsExactly(indexed);
+            assertThat(paged.getTotalElements()).isEqualTo(1);
+            org.mockito.Mockito.verify(photoBoothRepository, org.mockito.Mockito.never())
+                    .findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("초성 검색어는 초성 인덱스 결과를 함께 반환한다")
+        void searchPhotoBooths_MergesChosungIndex() {
+            // given
+            PhotoBoothResponseDto indexed = PhotoBoothResponseDto.from(testPhotoBooth);
+            given(photoBoothTextIndex.isReady()).willReturn(true);
+            given(photoBoothTextIndex.search("ㅇㅅㄴㅋ")).willReturn(new java.util.ArrayList<>());
+            given(photoBoothChosungIndex.isReady()).willReturn(true);
+            given(photoBoothChosungIndex.search("ㅇㅅㄴㅋ")).willReturn(List.of(indexed));
+
+            // when
+            List<PhotoBoothResponseDto> result = photoBoothService.searchPhotoBooths("ㅇㅅㄴㅋ");
+
+            // then
+            assertThat(result).containsExactly(indexed);
+        }
+
+        @Test
+        @DisplayName("필터 인덱스가 준비되어 있으면 브랜드 목록을 DB 없이 반환한다")
+        void getDistinctBrands_UsesFilterIndex() {
+            // given
+            given(photoBoothFilterIndex.isReady()).willReturn(true);
+            given(photoBoothFilterIndex.brands()).willReturn(List.of("인생네컷", "포토이즘"));
+
+            // when
+            List<String> result = photoBoothService.getDistinctBrands();
+
+            // then
+            assertThat(result).containsExactly("인생네컷", "포토이즘");
+            org.mockito.Mockito.verify(photoBoothRepository, org.mockito.Mockito.never()).findDistinctBrands();
+        }
+
         @Test
         @DisplayName("브랜드로 네컷사진관을 검색한다")
         void getPhotoBoothsByBrand_Success() {
@@ -377,6 +501,7 @@ class PhotoBoothServiceTest {
             assertThat(result.getId()).isEqualTo(10L);
             assertThat(result.getName()).isEqualTo("새 사진관");
             assertThat(result.getBrand()).isEqualTo("인생네컷");
+            org.mockito.Mockito.verify(eventPublisher).publishEvent(any(PhotoBoothChangedEvent.class));
         }
     }
 
@@ -396,13 +521,14 @@ class PhotoBoothServiceTest {
                     .longitude(127.03)
                     .build();
             given(photoBoothRepository.findById(1L)).willReturn(Optional.of(testPhotoBooth));
-            given(photoBoothRepository.save(any(PhotoBooth.class))).willReturn(testPhotoBooth);
+            given(photoBoothRepository.saveAndFlush(any(PhotoBooth.class))).willReturn(testPhotoBooth);
 
             // when
             PhotoBoothResponseDto result = photoBoothService.updatePhotoBooth(1L, requestDto);
 
             // then
             assertThat(result).isNotNull();
+            org.mockito.Mockito.verify(photoBoothRepository).saveAndFlush(testPhotoBooth);
         }
 
         @Test
@@ -431,20 +557,21 @@ class PhotoBoothServiceTest {
         @DisplayName("네컷사진관을 정상적으로 삭제한다")
         void deletePhotoBooth_Success() {
             // given
-            given(photoBoothRepository.existsById(1L)).willReturn(true);
+            given(photoBoothRepository.findById(1L)).willReturn(Optional.of(testPhotoBooth));
 
             // when
             photoBoothService.deletePhotoBooth(1L);
 
             // then
-            org.mockito.Mockito.verify(photoBoothRepository).deleteById(1L);
+            org.mockito.Mockito.verify(photoBoothRepository).delete(testPhotoBooth);
+            org.mockito.Mockito.verify(eventPublisher).publishEvent(any(PhotoBoothChangedEvent.class));
         }
 
         @Test
         @DisplayName("존재하지 않는 네컷사진관 삭제 시 예외가 발생한다")
         void deletePhotoBooth_NotFound() {
             // given
-            given(photoBoothRepository.existsById(999L)).willReturn(false);
+            given(photoBoothRepository.findById(999L)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> photoBoothService.deletePhotoBooth(999L))
@@ -501,6 +628,69 @@ class PhotoBoothServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("인덱스 적재 전 조회 테스트")
+    class IndexNotReadyTest {
+
+        @Test
+        @DisplayName("클러스터 인덱스 적재 전에는 전체를 읽지 않고 503 예외를 던진다")
+        void getPhotoBoothClusters_IndexNotReady_Throws() {
+            // given
+            given(photoBoothClusterIndex.isReady()).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> photoBoothService.getPhotoBoothClusters("126.9,37.4,127.1,37.6", 12))
+                    .isInstanceOf(IndexNotReadyException.class);
+            org.mockito.Mockito.verify(photoBoothRepository, org.mockito.Mockito.never()).findAll();
+        }
+
+        @Test
+        @DisplayName("필터 인덱스 적재 전 위치 조건이 있으면 근처 결과에서 조건에 맞는 것만 남긴다")
+        void queryPhotoBooths_IndexNotReady_FiltersNearby() {
+            // given
+            given(photoBoothFilterIndex.isReady()).willReturn(false);
+            given(photoBoothTileCache.findWithinRadius(37.5, 127.0, 3.0)).willReturn(List.of(
+                    PhotoBoothResponseDto.from(testPhotoBooth), PhotoBoothResponseDto.from(testPhotoBooth2)));
+            PhotoBoothFilterIndex.Criteria criteria = new PhotoBoothFilterIndex.Criteria(List.of("하루필름"), null, null, null);
+
+            // when
+            List<PhotoBoothResponseDto> result = photoBoothService.queryPhotoBooths(criteria, 37.5, 127.0, 3.0);
+
+            // then
+            assertThat(result).extracting(PhotoBoothResponseDto::getId).containsExactly(2L);
+            org.mockito.Mockito.verify(photoBoothRepository, org.mockito.Mockito.never()).findAll();
+        }
+
+        @Test
+        @DisplayName("필터 인덱스 적재 전 위치 조건이 없으면 전체를 읽지 않고 503 예외를 던진다")
+        void queryPhotoBooths_IndexNotReadyWithoutLocation_Throws() {
+            // given
+            given(photoBoothFilterIndex.isReady()).willReturn(false);
+            PhotoBoothFilterIndex.Criteria criteria = new PhotoBoothFilterIndex.Criteria(List.of("하루필름"), null, null, null);
+
+            // when & then
+            assertThatThrownBy(() -> photoBoothService.queryPhotoBooths(criteria, null, null, 3.0))
+                    .isInstanceOf(IndexNotReadyException.class);
+            org.mockito.Mockito.verify(photoBoothRepository, org.mockito.Mockito.never()).findAll();
+        }
+
+        @Test
+        @DisplayName("오타 허용 인덱스 적재 전에는 DB 키워드 검색 결과를 반환한다")
+        void fuzzySearchPhotoBooths_IndexNotReady_FallsBackToKeywordSearch() {
+            // given
+            given(photoBoothFuzzyIndex.isReady()).willReturn(false);
+            given(photoBoothRepository.findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase("강남", "강남"))
+                    .willReturn(List.of(testPhotoBooth));
+
+            // when
+            List<PhotoBoothResponseDto> result = photoBoothService.fuzzySearchPhotoBooths("강남");
+
+            // then
+            assertThat(result).extracting(PhotoBoothResponseDto::getId).containsExactly(1L);
+            org.mockito.Mockito.verify(photoBoothRepository, org.mockito.Mockito.never()).findAll();
+        }
+    }
+
     private void setEntityId(PhotoBooth photoBooth, Long id) {
         try {
             Field idField = PhotoBooth.class.getDeclaredField("id");
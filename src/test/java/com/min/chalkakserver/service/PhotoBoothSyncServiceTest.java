@@ -0,0 +1,185 @@
+package com.min.chalkakserver.service;
+
+import com.min.chalkakserver.config.cache.PhotoBoothCatalogSnapshot;
+import com.min.chalkakserver.dto.PhotoBoothChangesDto;
+import com.min.chalkakserver.dto.PhotoBoothResponseDto;
+import com.min.chalkakserver.entity.PhotoBooth;
+import com.min.chalkakserver.entity.PhotoBoothTombstone;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import com.min.chalkakserver.repository.PhotoBoothRepository;
+import com.min.chalkakserver.repository.PhotoBoothTombstoneRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PhotoBoothSyncService 테스트")
+class PhotoBoothSyncServiceTest {
+
+    @Mock
+    private PhotoBoothRepository photoBoothRepository;
+
+    @Mock
+    private PhotoBoothTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private PhotoBoothCatalogSnapshot catalogSnapshot;
+
+    @InjectMocks
+    private PhotoBoothSyncService photoBoothSyncService;
+
+    @Test
+    @DisplayName("since가 없으면 전체 목록을 DB에서 바로 읽고, 가장 늦은 변경 시각을 버전으로 내려준다")
+    void getChanges_NoSince_ReturnsFullCatalog() {
+        // given
+        LocalDateTime latestUpdate = LocalDateTime.now().minusMinutes(10);
+        given(photoBoothRepository.findLatestUpdatedAt()).willReturn(latestUpdate);
+        given(tombstoneRepository.findLatestDeletedAt()).willReturn(latestUpdate.minusMinutes(1));
+        given(photoBoothRepository.findAll()).willReturn(List.of(
+                PhotoBooth.builder().name("인생네컷 강남점").latitude(37.5).longitude(127.0).build()));
+
+        // when
+        PhotoBoothChangesDto result = photoBoothSyncService.getChanges(null);
+
+        // then
+        assertThat(result.isFull()).isTrue();
+        assertThat(result.getUpserted()).extracting(PhotoBoothResponseDto::getName).containsExactly("인생네컷 강남점");
+        assertThat(result.getDeleted()).isEmpty();
+        assertThat(result.getVersion()).isEqualTo(PhotoBoothSyncService.toVersion(latestUpdate));
+    }
+
+    @Test
+    @DisplayName("tombstone 보관 기간보다 오래된 since는 전체 동기화로 처리한다")
+    void getChanges_ExpiredSince_ReturnsFullCatalog() {
+        // given
+        long since = PhotoBoothSyncService.toVersion(
+                LocalDateTime.now().minus(PhotoBoothSyncService.TOMBSTONE_RETENTION).minusDays(1));
+        given(photoBoothRepository.findAll()).willReturn(List.of());
+
+        // when
+        PhotoBoothChangesDto result = photoBoothSyncService.getChanges(since);
+
+        // then
+        assertThat(result.isFull()).isTrue();
+        assertThat(result.getVersion()).isZero();
+        verify(tombstoneRepository, never()).findPhotoBoothIdsDeletedAfter(any());
+    }
+
+    @Test
+    @DisplayName("늦게 커밋된 변경까지 받도록 since보다 조금 앞에서부터의 변경/삭제분을 내려주고 새 버전을 반환한다")
+    void getChanges_ReturnsDelta() {
+        // given
+        LocalDateTime sinceTime = LocalDateTime.now().minusHours(1);
+        long since = PhotoBoothSyncService.toVersion(sinceTime);
+        PhotoBooth updated = PhotoBooth.builder()
+                .name("포토이즘 홍대점")
+                .brand("포토이즘")
+                .latitude(37.55)
+                .longitude(126.92)
+                .build();
+        LocalDateTime from = PhotoBoothSyncService.toDateTime(since).minus(PhotoBoothSyncService.COMMIT_WINDOW);
+        given(photoBoothRepository.findLatestUpdatedAt()).willReturn(sinceTime.plusMinutes(30));
+        given(photoBoothRepository.findUpdatedAfter(eq(from))).willReturn(List.of(updated));
+        given(tombstoneRepository.findPhotoBoothIdsDeletedAfter(eq(from))).willReturn(List.of(7L));
+
+        // when
+        PhotoBoothChangesDto result = photoBoothSyncService.getChanges(since);
+
+        // then
+        assertThat(result.isFull()).isFalse();
+        assertThat(result.getUpserted()).extracting(PhotoBoothResponseDto::getName).containsExactly("포토이즘 홍대점");
+        assertThat(result.getDeleted()).containsExactly(7L);
+        assertThat(result.getVersion()).isEqualTo(PhotoBoothSyncService.toVersion(sinceTime.plusMinutes(30)));
+    }
+
+    @Test
+    @DisplayName("새로 커밋된 변경이 없으면 같은 버전을 돌려주되, since 직전에 찍혀 늦게 커밋된 변경은 내려준다")
+    void getChanges_UpToDate_ReturnsSameVersion() {
+        // given
+        LocalDateTime sinceTime = LocalDateTime.now().minusSeconds(10);
+        long since = PhotoBoothSyncService.toVersion(sinceTime);
+        PhotoBooth lateCommit = PhotoBooth.builder()
+                .name("하루필름 성수점")
+                .latitude(37.54)
+                .longitude(127.05)
+                .build();
+        given(photoBoothRepository.findLatestUpdatedAt()).willReturn(sinceTime.minusSeconds(20));
+        given(photoBoothRepository.findUpdatedAfter(any())).willReturn(List.of(lateCommit));
+        given(tombstoneRepository.findPhotoBoothIdsDeletedAfter(any())).willReturn(List.of());
+
+        // when
+        PhotoBoothChangesDto result = photoBoothSyncService.getChanges(since);
+
+        // then
+        assertThat(result.getVersion()).isEqualTo(since);
+        assertThat(result.getUpserted()).extracting(PhotoBoothResponseDto::getName).containsExactly("하루필름 성수점");
+        assertThat(result.getDeleted()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 준비되어 있으면 미리 만든 바이트를 그대로 반환한다")
+    void getCatalogSnapshot_UsesPrebuiltSnapshot() {
+        // given
+        PhotoBoothCatalogSnapshot.Snapshot prebuilt = new PhotoBoothCatalogSnapshot.Snapshot(1L, new byte[] {8, 1}, "\"etag\"");
+        given(catalogSnapshot.isReady()).willReturn(true);
+        given(catalogSnapshot.get()).willReturn(prebuilt);
+
+        // when
+        PhotoBoothCatalogSnapshot.Snapshot result = photoBoothSyncService.getCatalogSnapshot();
+
+        // then
+        assertThat(result).isSameAs(prebuilt);
+        verify(photoBoothRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("스냅샷 적재 전에는 전체 목록으로 바로 인코딩한다")
+    void getCatalogSnapshot_NotReady_EncodesAllPhotoBooths() {
+        // given
+        LocalDateTime latestDeletion = LocalDateTime.now().minusMinutes(5);
+        given(catalogSnapshot.isReady()).willReturn(false);
+        given(tombstoneRepository.findLatestDeletedAt()).willReturn(latestDeletion);
+        given(photoBoothRepository.findAll()).willReturn(List.of(
+                PhotoBooth.builder().name("인생네컷 강남점").latitude(37.5).longitude(127.0).build()));
+
+        // when
+        PhotoBoothCatalogSnapshot.Snapshot result = photoBoothSyncService.getCatalogSnapshot();
+
+        // then
+        assertThat(result.version()).isEqualTo(PhotoBoothSyncService.toVersion(latestDeletion));
+        assertThat(result.body()).isNotEmpty();
+        assertThat(result.etag()).startsWith("\"");
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트에만 tombstone을 남긴다")
+    void recordDeletion_SavesTombstoneOnDelete() {
+        // given
+        PhotoBoothResponseDto booth = PhotoBoothResponseDto.builder().id(5L).name("하루필름 성수점").build();
+
+        // when
+        photoBoothSyncService.recordDeletion(PhotoBoothChangedEvent.updated(booth, booth));
+        photoBoothSyncService.recordDeletion(PhotoBoothChangedEvent.deleted(booth));
+        // 다른 노드의 삭제는 그 노드가 이미 tombstone을 남겼다
+        photoBoothSyncService.recordDeletion(PhotoBoothChangedEvent.remote(5L, booth, null));
+
+        // then
+        ArgumentCaptor<PhotoBoothTombstone> captor = ArgumentCaptor.forClass(PhotoBoothTombstone.class);
+        verify(tombstoneRepository).save(captor.capture());
+        assertThat(captor.getValue().getPhotoBoothId()).isEqualTo(5L);
+    }
+}
@@ -10,19 +10,24 @@ import com.min.chalkakserver.exception.AuthException;
 import com.min.chalkakserver.exception.DuplicateReviewException;
 import com.min.chalkakserver.exception.PhotoBoothNotFoundException;
 import com.min.chalkakserver.exception.ReviewNotFoundException;
+import com.min.chalkakserver.index.PhotoBoothChangedEvent;
+import com.min.chalkakserver.index.ReviewChangedEvent;
 import com.min.chalkakserver.repository.PhotoBoothRepository;
 import com.min.chalkakserver.repository.ReviewRepository;
 import com.min.chalkakserver.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -31,8 +36,12 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ReviewService 테스트")
@@ -44,6 +53,12 @@ class ReviewServiceTest {
     private UserRepository userRepository;
     @Mock
     private PhotoBoothRepository photoBoothRepository;
+    @Mock
+    private com.min.chalkakserver.config.cache.ApproximateCountCache approximateCountCache;
+    @Mock
+    private org.springframework.context.ApplicationEventPublisher eventPublisher;
+    @Mock
+    private EntityManager entityManager;
 
     @InjectMocks
     private ReviewService reviewService;
@@ -107,6 +122,10 @@ class ReviewServiceTest {
             assertThat(result.getRating()).isEqualTo(4);
             assertThat(result.getContent()).isEqualTo("좋아요!");
             verify(reviewRepository).save(any(Review.class));
+            verify(photoBoothRepository).applyReviewChange(eq(1L), eq(4), eq(0), any(LocalDateTime.class));
+            verify(entityManager).refresh(photoBooth);
+            verify(eventPublisher).publishEvent(any(PhotoBoothChangedEvent.class));
+            verify(eventPublisher).publishEvent(any(ReviewChangedEvent.class));
         }
 
         @Test
@@ -183,6 +202,13 @@ class ReviewServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getRating()).isEqualTo(5);
             assertThat(result.getContent()).isEqualTo("아주 좋아요!");
+            verify(photoBoothRepository).applyReviewChange(eq(1L), eq(5), eq(4), any(LocalDateTime.class));
+            verify(eventPublisher).publishEvent(ArgumentMatchers.<Object>argThat(
+                    event -> event instanceof ReviewChangedEvent changed
+                            && changed.getBeforeRating() == 4 && changed.getAfterRating() == 5));
+            verify(eventPublisher).publishEvent(ArgumentMatchers.<Object>argThat(
+                    event -> event instanceof PhotoBoothChangedEvent changed
+                            && changed.getPhotoBoothId().equals(1L) && !changed.isDeleted()));
         }
 
         @Test
@@ -236,6 +262,9 @@ class ReviewServiceTest {
 
             // then
             verify(reviewRepository).delete(review);
+            verify(photoBoothRepository).applyReviewChange(eq(1L), eq(0), eq(4), any(LocalDateTime.class));
+            verify(eventPublisher).publishEvent(any(ReviewChangedEvent.class));
+            verify(eventPublisher).publishEvent(any(PhotoBoothChangedEvent.class));
         }
 
         @Test
@@ -260,6 +289,92 @@ class ReviewServiceTest {
             assertThatThrownBy(() -> reviewService.deleteReview(1L, 999L))
                     .isInstanceOf(ReviewNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("관리자 삭제도 사진관 리뷰 집계를 갱신하고 이벤트를 발행한다")
+        void deleteReviewByAdmin_UpdatesAggregates() {
+            // given
+            given(reviewRepository.findById(1L)).willReturn(Optional.of(review));
+
+            // when
+            reviewService.deleteReviewByAdmin(1L);
+
+            // then
+            verify(reviewRepository).delete(review);
+            verify(photoBoothRepository).applyReviewChange(eq(1L), eq(0), eq(4), any(LocalDateTime.class));
+            verify(eventPublisher).publishEvent(any(ReviewChangedEvent.class));
+            verify(eventPublisher).publishEvent(any(PhotoBoothChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("관리자 삭제 시 리뷰를 찾을 수 없으면 ReviewNotFoundException 발생")
+        void deleteReviewByAdmin_NotFound() {
+            // given
+            given(reviewRepository.findById(999L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> reviewService.deleteReviewByAdmin(999L))
+                    .isInstanceOf(ReviewNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("사용자의 리뷰를 모두 지우면 리뷰가 있던 사진관마다 집계를 갱신한다")
+        void deleteAllReviewsByUser_UpdatesEachPhotoBooth() {
+            // given
+            PhotoBooth other = PhotoBooth.builder().name("다른 사진관").latitude(37.6).longitude(127.1).build();
+            setEntityId(other, 2L);
+            Review otherReview = Review.builder().user(user).photoBooth(other).rating(2).content("별로").build();
+            setEntityId(otherReview, 2L);
+            given(reviewRepository.findByUserWithPhotoBooth(user)).willReturn(List.of(review, otherReview));
+
+            // when
+            reviewService.deleteAllReviewsByUser(user);
+
+            // then
+            verify(reviewRepository).delete(review);
+            verify(reviewRepository).delete(otherReview);
+            verify(photoBoothRepository).applyReviewChange(eq(1L), eq(0), eq(4), any(LocalDateTime.class));
+            verify(photoBoothRepository).applyReviewChange(eq(2L), eq(0), eq(2), any(LocalDateTime.class));
+            verify(eventPublisher, times(2)).publishEvent(any(ReviewChangedEvent.class));
+            verify(eventPublisher, times(2)).publishEvent(any(PhotoBoothChangedEvent.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("리뷰 집계 보정 테스트")
+    class ReconcileReviewAggregatesTest {
+
+        @Test
+        @DisplayName("어긋난 사진관만 보정하고 사진관마다 수정 이벤트를 발행한다")
+        void reconcileReviewAggregates_PublishesCorrectedPhotoBooths() {
+            // given
+            given(photoBoothRepository.findReviewAggregateDrift()).willReturn(List.of(1L));
+            given(photoBoothRepository.findAllById(List.of(1L))).willReturn(List.of(photoBooth));
+
+            // when
+            List<Long> corrected = reviewService.reconcileReviewAggregates();
+
+            // then
+            assertThat(corrected).containsExactly(1L);
+            verify(photoBoothRepository).reconcileReviewAggregates(eq(List.of(1L)), any(LocalDateTime.class));
+            verify(entityManager).refresh(photoBooth);
+            verify(eventPublisher).publishEvent(any(PhotoBoothChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("어긋난 사진관이 없으면 갱신하지 않는다")
+        void reconcileReviewAggregates_Consistent_NoUpdate() {
+            // given
+            given(photoBoothRepository.findReviewAggregateDrift()).willReturn(List.of());
+
+            // when
+            List<Long> corrected = reviewService.reconcileReviewAggregates();
+
+            // then
+            assertThat(corrected).isEmpty();
+            verify(photoBoothRepository, never()).reconcileReviewAggregates(any(), any());
+            verifyNoInteractions(eventPublisher);
+        }
     }
 
     @Nested
@@ -338,18 +453,15 @@ class ReviewServiceTest {
     class GetReviewStatsTest {
 
         @Test
-        @DisplayName("리뷰가 있을 때 평균 평점과 분포를 반환한다")
+        @DisplayName("리뷰가 있을 때 사진관 행의 집계로 평균 평점과 분포를 반환한다")
         void getReviewStats_WithReviews() {
-            // given
-            List<Object[]> distribution = Arrays.asList(
-                    new Object[]{5, 3L},
-                    new Object[]{4, 2L},
-                    new Object[]{3, 1L}
-            );
+            // given - 5점 3개, 4점 2개, 3점 1개
+            org.springframework.test.util.ReflectionTestUtils.setField(photoBooth, "reviewCount", 6);
+            org.springframework.test.util.ReflectionTestUtils.setField(photoBooth, "ratingSum", 26L);
+            org.springframework.test.util.ReflectionTestUtils.setField(photoBooth, "rating5Count", 3);
+            org.springframework.test.util.ReflectionTestUtils.setField(photoBooth, "rating4Count", 2);
+            org.springframework.test.util.ReflectionTestUtils.setField(photoBooth, "rating3Count", 1);
             given(photoBoothRepository.findById(1L)).willReturn(Optional.of(photoBooth));
-            given(reviewRepository.getAverageRatingByPhotoBooth(photoBooth)).willReturn(4.333);
-            given(reviewRepository.countByPhotoBooth(photoBooth)).willReturn(6L);
-            given(reviewRepository.getRatingDistribution(photoBooth)).willReturn(distribution);
 
             // when
             ReviewStatsDto result = reviewService.getReviewStats(1L);
@@ -357,13 +469,14 @@ class ReviewServiceTest {
             // then
             assertThat(result.getPhotoBoothId()).isEqualTo(1L);
             assertThat(result.getTotalCount()).isEqualTo(6L);
-            // averageRating should be rounded to 1 decimal place: Math.round(4.333 * 10) / 10.0 = 4.3
+            // 26 / 6 = 4.333 → 소수점 첫째 자리 4.3
             assertThat(result.getAverageRating()).isEqualTo(4.3);
             assertThat(result.getRatingDistribution().get(5)).isEqualTo(3L);
             assertThat(result.getRatingDistribution().get(4)).isEqualTo(2L);
             assertThat(result.getRatingDistribution().get(3)).isEqualTo(1L);
             assertThat(result.getRatingDistribution().get(2)).isEqualTo(0L);
             assertThat(result.getRatingDistribution().get(1)).isEqualTo(0L);
+            verifyNoInteractions(reviewRepository);
         }
 
         @Test
@@ -371,9 +484,6 @@ class ReviewServiceTest {
         void getReviewStats_NoReviews() {
             // given
             given(photoBoothRepository.findById(1L)).willReturn(Optional.of(photoBooth));
-            given(reviewRepository.getAverageRatingByPhotoBooth(photoBooth)).willReturn(null);
-            given(reviewRepository.countByPhotoBooth(photoBooth)).willReturn(0L);
-            given(reviewRepository.getRatingDistribution(photoBooth)).willReturn(Collections.emptyList());
 
             // when
             ReviewStatsDto result = reviewService.getReviewStats(1L);
@@ -575,6 +685,98 @@ class ReviewServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("최근 리뷰 Slice 조회")
+    class GetRecentReviewsSliceTest {
+
+        @Test
+        @DisplayName("COUNT 쿼리 대신 캐시된 근사 개수로 전체 개수를 채운다")
+        void getRecentReviewsSlice_UsesApproximateTotal() {
+            // given
+            org.springframework.data.domain.PageRequest pageRequest = org.springframework.data.domain.PageRequest.of(0, 1);
+            given(reviewRepository.findRecentSliceWithUserAndPhotoBooth(pageRequest))
+                    .willReturn(new org.springframework.data.domain.SliceImpl<>(List.of(review), pageRequest, true));
+            given(approximateCountCache.get(org.mockito.ArgumentMatchers.eq("reviews"), any())).willReturn(30L);
+
+            // when
+            com.min.chalkakserver.dto.PagedResponseDto<ReviewResponseDto> result = reviewService.getRecentReviewsSlice(0, 1);
+
+            // then
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getTotalElements()).isEqualTo(30L);
+            assertThat(result.getTotalPages()).isEqualTo(30);
+            assertThat(result.getApproximate()).isTrue();
+            org.mockito.Mockito.verify(reviewRepository, org.mockito.Mockito.never()).count();
+        }
+
+        @Test
+        @DisplayName("마지막 페이지에서는 확인된 개수가 전체 개수이다")
+        void getRecentReviewsSlice_LastPage_UsesKnownTotal() {
+            // given
+            org.springframework.data.domain.PageRequest pageRequest = org.springframework.data.domain.PageRequest.of(2, 10);
+            given(reviewRepository.findRecentSliceWithUserAndPhotoBooth(pageRequest))
+                    .willReturn(new org.springframework.data.domain.SliceImpl<>(List.of(review), pageRequest, false));
+            given(approximateCountCache.get(org.mockito.ArgumentMatchers.eq("reviews"), any())).willReturn(30L);
+
+            // when
+            com.min.chalkakserver.dto.PagedResponseDto<ReviewResponseDto> result = reviewService.getRecentReviewsSlice(2, 10);
+
+            // then
+            assertThat(result.isLast()).isTrue();
+            assertThat(result.getTotalElements()).isEqualTo(21L);
+            assertThat(result.getTotalPages()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("최근 리뷰 커서 조회")
+    class GetRecentReviewsByCursorTest {
+
+        @Test
+        @DisplayName("다음 페이지가 있으면 마지막 리뷰 위치를 nextCursor로 반환한다")
+        void getRecentReviewsByCursor_ReturnsNextCursor() {
+            // given
+            java.time.LocalDateTime createdAt = java.time.LocalDateTime.of(2026, 10, 18, 12, 0);
+            org.springframework.test.util.ReflectionTestUtils.setField(review, "createdAt", createdAt);
+            org.springframework.data.domain.PageRequest pageRequest = org.springframework.data.domain.PageRequest.ofSize(1);
+            given(reviewRepository.findRecentSliceBefore(
+                    com.min.chalkakserver.util.KeysetCursor.FIRST.createdAt(),
+                    com.min.chalkakserver.util.KeysetCursor.FIRST.id(),
+                    pageRequest))
+                    .willReturn(new org.springframework.data.domain.SliceImpl<>(List.of(review), pageRequest, true));
+
+            // when
+            com.min.chalkakserver.dto.CursorPageResponseDto<ReviewResponseDto> result =
+                    reviewService.getRecentReviewsByCursor(null, 1);
+
+            // then
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(com.min.chalkakserver.util.KeysetCursor.decode(result.getNextCursor()))
+                    .isEqualTo(new com.min.chalkakserver.util.KeysetCursor(createdAt, review.getId()));
+        }
+
+        @Test
+        @DisplayName("커서 위치부터 이어서 조회하고, 마지막 페이지면 nextCursor가 없다")
+        void getRecentReviewsByCursor_LastPage() {
+            // given
+            com.min.chalkakserver.util.KeysetCursor cursor =
+                    new com.min.chalkakserver.util.KeysetCursor(java.time.LocalDateTime.of(2026, 10, 18, 12, 0), 5L);
+            org.springframework.data.domain.PageRequest pageRequest = org.springframework.data.domain.PageRequest.ofSize(20);
+            given(reviewRepository.findRecentSliceBefore(cursor.createdAt(), 5L, pageRequest))
+                    .willReturn(new org.springframework.data.domain.SliceImpl<>(List.of(review), pageRequest, false));
+
+            // when
+            com.min.chalkakserver.dto.CursorPageResponseDto<ReviewResponseDto> result =
+                    reviewService.getRecentReviewsByCursor(cursor.encode(), 20);
+
+            // then
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+    }
+
     private void setEntityId(Object entity, Long id) {
         try {
             Field idField = entity.getClass().getDeclaredField("id");
@@ -0,0 +1,40 @@
+package com.min.chalkakserver.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetCursor 테스트")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 마이크로초까지 그대로 복원된다")
+    void decode_RoundTripsEncodedCursor() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 10, 18, 12, 30, 5, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("2026");
+        assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지 위치이다")
+    void decode_Blank_ReturnsFirst() {
+        assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.FIRST);
+        assertThat(KeysetCursor.decode("")).isEqualTo(KeysetCursor.FIRST);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException")
+    void decode_Malformed_ThrowsException() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("bm8tc2VwYXJhdG9y"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}